@@ -2,6 +2,7 @@ package io.github.some_example_name.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import io.github.some_example_name.lwjgl3.application_classes.GameMaster;
 
@@ -13,14 +14,41 @@ public class Lwjgl3Launcher {
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new GameMaster(), getDefaultConfiguration());
+        GameMaster game = new GameMaster();
+        // GL 3.3 lets SnakeRenderer draw segments instanced; -Dgl30=false skips it.
+        // macOS only offers core profiles for GL3, which the default SpriteBatch shaders don't support.
+        boolean requestGL30 = !System.getProperty("os.name").toLowerCase().contains("mac")
+                && !"false".equals(System.getProperty("gl30"));
+        if (requestGL30) {
+            try {
+                return new Lwjgl3Application(game, getDefaultConfiguration(true));
+            } catch (GdxRuntimeException e) {
+                if (game.isCreated()) {
+                    throw e;
+                }
+                // The driver couldn't create a 3.3 context; SnakeRenderer falls back to SpriteBatch on GL 2.0
+                System.err.println("[Lwjgl3Launcher] GL 3.3 context unavailable, retrying with GL 2.0: " + e.getMessage());
+            }
+        }
+        return new Lwjgl3Application(game, getDefaultConfiguration(false));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(boolean useGL30) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("GameEngine_Team8");
-        configuration.useVsync(true);
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+        if (System.getProperty(GameMaster.REPLAY_PROPERTY) != null) {
+            // Replays run unthrottled; their frame times come from the journal
+            configuration.useVsync(false);
+            configuration.setForegroundFPS(0);
+            configuration.setIdleFPS(0);
+        } else {
+            configuration.useVsync(true);
+            configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+        }
+
+        if (useGL30) {
+            configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL30, 3, 3);
+        }
         
         // Lock the window size by setting resizable to false
         configuration.setWindowedMode(1280, 804);
@@ -2,9 +2,15 @@ package io.github.some_example_name.lwjgl3.abstract_engine.collision;
 
 import com.badlogic.gdx.physics.box2d.*;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AudioManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.SoundVoicePool;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 
 public class Box2DCollisionListener implements ContactListener {
+    // Resolved on the first contact, once the preloaded sound is available;
+    // contacts can arrive in bursts every physics step
+    private int collisionSound = SoundVoicePool.INVALID_HANDLE;
 
     @Override
     public void beginContact(Contact contact) {
@@ -19,17 +25,21 @@ public class Box2DCollisionListener implements ContactListener {
 
             if (entityA instanceof Collidable) {
                 ((Collidable) entityA).onCollision(entityB);
-                if (!collisionHandled) {
-                    IOManager.getInstance().getAudio().playSound("hit_sound.mp3");
-                    collisionHandled = true;
-                }
+                collisionHandled = true;
             }
 
             if (entityB instanceof Collidable) {
                 ((Collidable) entityB).onCollision(entityA);
-                if (!collisionHandled) {
-                    IOManager.getInstance().getAudio().playSound("hit_sound.mp3");
+                collisionHandled = true;
+            }
+
+            // One sound per contact; the voice pool bounds overlapping ones
+            if (collisionHandled) {
+                AudioManager audio = IOManager.getInstance().getAudio();
+                if (collisionSound == SoundVoicePool.INVALID_HANDLE) {
+                    collisionSound = audio.getSoundHandle(AssetPaths.COLLISION_SOUND);
                 }
+                audio.playSound(collisionSound);
             }
         }
     }
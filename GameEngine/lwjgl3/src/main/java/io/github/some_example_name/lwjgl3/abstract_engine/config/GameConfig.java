@@ -17,6 +17,13 @@ public class GameConfig {
     private static final float DEFAULT_SOUND_VOLUME = 0.8f;
     private static final String DEFAULT_CONTROL_MODE = "KEYBOARD";
     private static final SnakeColor DEFAULT_SNAKE_COLOR = SnakeColor.GREEN;
+    // Can be lowered for low-end machines with -DassetMemoryBudgetMB=<n>
+    private static final int DEFAULT_ASSET_MEMORY_BUDGET_MB = Integer.getInteger("assetMemoryBudgetMB", 256);
+    // Fixed simulation rate and catch-up guard, e.g. -DtickRate=30 on slow machines
+    private static final int DEFAULT_TICK_RATE = Integer.getInteger("tickRate", 60);
+    private static final int DEFAULT_MAX_TICKS_PER_FRAME = Integer.getInteger("maxTicksPerFrame", 5);
+    // Simulate on a separate thread from rendering with -DsimulationThread=true
+    private static final boolean DEFAULT_SIMULATION_THREAD = Boolean.getBoolean("simulationThread");
 
 
     // Configuration storage
@@ -31,6 +38,10 @@ public class GameConfig {
         configMap.put("soundVolume", DEFAULT_SOUND_VOLUME);
         configMap.put("controlMode", DEFAULT_CONTROL_MODE);
         configMap.put("snakeColor", DEFAULT_SNAKE_COLOR);
+        configMap.put("assetMemoryBudgetMB", DEFAULT_ASSET_MEMORY_BUDGET_MB);
+        configMap.put("tickRate", DEFAULT_TICK_RATE);
+        configMap.put("maxTicksPerFrame", DEFAULT_MAX_TICKS_PER_FRAME);
+        configMap.put("simulationThread", DEFAULT_SIMULATION_THREAD);
     }
 
     /**
@@ -100,6 +111,66 @@ public class GameConfig {
         configMap.put("snakeColor", color);
     }
 
+    /**
+     * Get the memory budget for loaded textures and audio, in megabytes
+     */
+    public int getAssetMemoryBudgetMB() {
+        Object value = configMap.get("assetMemoryBudgetMB");
+        return (value instanceof Integer) ? (Integer) value : DEFAULT_ASSET_MEMORY_BUDGET_MB;
+    }
+
+    /**
+     * Set the memory budget for loaded textures and audio, in megabytes
+     */
+    public void setAssetMemoryBudgetMB(int megabytes) {
+        configMap.put("assetMemoryBudgetMB", megabytes);
+    }
+
+    /**
+     * Get the number of fixed simulation ticks per second
+     */
+    public int getTickRate() {
+        Object value = configMap.get("tickRate");
+        return (value instanceof Integer) ? (Integer) value : DEFAULT_TICK_RATE;
+    }
+
+    /**
+     * Set the number of fixed simulation ticks per second; takes effect on the next start
+     */
+    public void setTickRate(int ticksPerSecond) {
+        configMap.put("tickRate", ticksPerSecond);
+    }
+
+    /**
+     * Get the most simulation ticks run for one rendered frame when catching up
+     */
+    public int getMaxTicksPerFrame() {
+        Object value = configMap.get("maxTicksPerFrame");
+        return (value instanceof Integer) ? (Integer) value : DEFAULT_MAX_TICKS_PER_FRAME;
+    }
+
+    /**
+     * Set the most simulation ticks run for one rendered frame
+     */
+    public void setMaxTicksPerFrame(int ticks) {
+        configMap.put("maxTicksPerFrame", ticks);
+    }
+
+    /**
+     * Check if scenes that support it are simulated on a separate thread from rendering
+     */
+    public boolean isSimulationThreadEnabled() {
+        Object value = configMap.get("simulationThread");
+        return (value instanceof Boolean) ? (Boolean) value : DEFAULT_SIMULATION_THREAD;
+    }
+
+    /**
+     * Enable or disable the simulation thread; takes effect on the next start
+     */
+    public void setSimulationThreadEnabled(boolean enabled) {
+        configMap.put("simulationThread", enabled);
+    }
+
     /**
      * Generic method to get float value with default
      */
@@ -124,5 +195,9 @@ public class GameConfig {
         configMap.put("soundVolume", DEFAULT_SOUND_VOLUME);
         configMap.put("controlMode", DEFAULT_CONTROL_MODE);
         configMap.put("snakeColor", DEFAULT_SNAKE_COLOR);
+        configMap.put("assetMemoryBudgetMB", DEFAULT_ASSET_MEMORY_BUDGET_MB);
+        configMap.put("tickRate", DEFAULT_TICK_RATE);
+        configMap.put("maxTicksPerFrame", DEFAULT_MAX_TICKS_PER_FRAME);
+        configMap.put("simulationThread", DEFAULT_SIMULATION_THREAD);
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package io.github.some_example_name.lwjgl3.abstract_engine.entity;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSubscription;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.ListenerScope;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -17,25 +22,39 @@ public abstract class Entity {
     protected String entityName;
     protected float positionX;
     protected float positionY;
+    // Position at the start of the current simulation tick, for render interpolation
+    protected float previousX;
+    protected float previousY;
     protected Texture texture;
+    private String texturePath;
     
     // Type-safe component system
     private Map<Class<?>, Component> components;
+    
+    // Event listeners registered through listen(); created on first use
+    private ListenerScope listeners;
 
     /**
      * Creates a new entity with the specified name, position, and texture
      */
     public Entity(String entityName, float positionX, float positionY, String texturePath) {
-        this.entityID = UUID.randomUUID().toString();
+        this.entityID = nextEntityID();
         this.entityName = entityName;
         this.positionX = positionX;
         this.positionY = positionY;
+        this.previousX = positionX;
+        this.previousY = positionY;
         this.components = new HashMap<>();
         
         // Load texture if path is provided
         if (texturePath != null && !texturePath.isEmpty()) {
             try {
-                this.texture = new Texture(Gdx.files.internal(texturePath));
+                // Shared through the ResourceManager so entities of the same kind use one texture
+                this.texture = ResourceManager.getInstance().acquireTexture(texturePath);
+                this.texturePath = texturePath;
+            } catch (IllegalStateException e) {
+                // Not resident and created off the render thread: a missing manifest entry, not a bad file
+                throw e;
             } catch (Exception e) {
                 System.err.println("[Entity] Failed to load texture: " + texturePath);
                 e.printStackTrace();
@@ -47,11 +66,33 @@ public abstract class Entity {
      * Creates a new entity with the specified name only (no position or texture)
      */
     public Entity(String entityName) {
-        this.entityID = UUID.randomUUID().toString();
+        this.entityID = nextEntityID();
         this.entityName = entityName;
         this.components = new HashMap<>();
     }
 
+    /**
+     * Generate a unique ID from MathUtils.random, so a replayed session
+     * (which reseeds it every frame) creates entities with the same IDs
+     */
+    private static String nextEntityID() {
+        return new UUID(MathUtils.random.nextLong(), MathUtils.random.nextLong()).toString();
+    }
+
+    /**
+     * Register an event listener for the lifetime of the entity.
+     * It is unregistered automatically when the entity is disposed.
+     * @param eventType The type of event to listen for
+     * @param listener The listener
+     * @return The subscription, to end it early
+     */
+    protected EventSubscription listen(String eventType, EventSystem.EventListener listener) {
+        if (listeners == null) {
+            listeners = new ListenerScope();
+        }
+        return listeners.listen(eventType, listener);
+    }
+
     /**
      * Add a component to this entity
      * @param <T> The component type
@@ -169,6 +210,31 @@ public abstract class Entity {
         this.positionY = y;
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick.
+     * Called by the EntityManager before each fixed update.
+     */
+    public void storePreviousPosition() {
+        previousX = positionX;
+        previousY = positionY;
+    }
+
+    /**
+     * Get the X position to draw between the previous and current tick
+     * @param alpha Progress into the next tick, from 0 (previous) to 1 (current)
+     */
+    public float getInterpolatedX(float alpha) {
+        return previousX + (positionX - previousX) * alpha;
+    }
+
+    /**
+     * Get the Y position to draw between the previous and current tick
+     * @param alpha Progress into the next tick, from 0 (previous) to 1 (current)
+     */
+    public float getInterpolatedY(float alpha) {
+        return previousY + (positionY - previousY) * alpha;
+    }
+
     /**
      * Handle collision with another entity
      */
@@ -178,9 +244,13 @@ public abstract class Entity {
      * Dispose entity resources to prevent memory leaks
      */
     public void dispose() {
-        // Dispose texture if it exists
+        if (listeners != null) {
+            listeners.dispose();
+        }
+        
+        // Release the texture handle if it exists
         if (texture != null) {
-            texture.dispose();
+            ResourceManager.getInstance().release(texturePath);
             texture = null;
         }
         
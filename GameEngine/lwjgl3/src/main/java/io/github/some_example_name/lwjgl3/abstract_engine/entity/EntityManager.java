@@ -5,7 +5,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,14 +15,20 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.SnapshotArray;
 
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
 import io.github.some_example_name.lwjgl3.application_classes.component.EnemyComponent;
 import io.github.some_example_name.lwjgl3.application_classes.component.HealthComponent;
 
 /**
  * Manages entity lifecycle, organization, and rendering
- * Provides an event system for entity changes
+ * Provides an event system for entity changes: additions and removals are collected
+ * during the frame and delivered once per frame as bulk lists, both to EntityListeners
+ * and as ENTITY_CREATED / ENTITY_DESTROYED events.
  */
 public class EntityManager implements Disposable {
     private static final Logger LOGGER = Logger.getLogger(EntityManager.class.getName());
@@ -33,8 +38,16 @@ public class EntityManager implements Disposable {
     private final Map<Class<?>, List<Entity>> entityTypeMap; // For quick lookup by type
     private final World world;
     
-    // Event listeners
-    private final List<EntityListener> entityListeners;
+    // Event listeners; snapshot iteration lets listeners unregister during delivery
+    private final SnapshotArray<EntityListener> entityListeners;
+    
+    // Lifecycle changes since the last flushLifecycleEvents, delivered together.
+    // Each batch is swapped into its delivering array before listeners see it, so
+    // changes listeners make during delivery go into the next batch.
+    private Array<Entity> pendingAdded = new Array<>(true, 16, Entity.class);
+    private Array<Entity> pendingRemoved = new Array<>(true, 16, Entity.class);
+    private Array<Entity> deliveringAdded = new Array<>(true, 16, Entity.class);
+    private Array<Entity> deliveringRemoved = new Array<>(true, 16, Entity.class);
     
     /**
      * Create a new EntityManager
@@ -44,7 +57,7 @@ public class EntityManager implements Disposable {
         this.world = world;
         this.entityMap = new HashMap<>();
         this.entityTypeMap = new HashMap<>();
-        this.entityListeners = new CopyOnWriteArrayList<>(); // Thread-safe for iteration during modification
+        this.entityListeners = new SnapshotArray<>(EntityListener.class);
         
         LOGGER.log(Level.INFO, "EntityManager initialized with Box2D world");
     }
@@ -128,8 +141,8 @@ public class EntityManager implements Disposable {
             handleStaticEntity((StaticEntity) entity);
         }
         
-        // Notify listeners
-        notifyEntityAdded(entity);
+        // Listeners hear about it in the next batch
+        pendingAdded.add(entity);
         
         LOGGER.log(Level.FINE, "Entity '{0}' added successfully.", entity.getEntityID());
         return true;
@@ -165,7 +178,7 @@ public class EntityManager implements Disposable {
         
         // Dispose each entity to prevent memory leaks
         for (Entity entity : entityMap.values()) {
-            notifyEntityRemoved(entity);
+            markRemoved(entity);
             entity.dispose();
         }
         
@@ -187,8 +200,8 @@ public class EntityManager implements Disposable {
                 entityList.remove(entity);
             }
             
-            // Notify listeners
-            notifyEntityRemoved(entity);
+            // Listeners hear about it in the next batch
+            markRemoved(entity);
             LOGGER.log(Level.FINE, "Entity '{0}' removed.", entityID);
         }
         
@@ -205,6 +218,16 @@ public class EntityManager implements Disposable {
         }
     }
     
+    /**
+     * Record every entity's position before a fixed simulation tick,
+     * so rendering can interpolate between the last two ticks
+     */
+    public void storePreviousPositions() {
+        for (Entity entity : entityMap.values()) {
+            entity.storePreviousPosition();
+        }
+    }
+    
     /**
      * Get the number of active entities
      */
@@ -255,7 +278,7 @@ public class EntityManager implements Disposable {
      * @param listener The listener to add
      */
     public void addEntityListener(EntityListener listener) {
-        if (listener != null && !entityListeners.contains(listener)) {
+        if (listener != null && !entityListeners.contains(listener, true)) {
             entityListeners.add(listener);
         }
     }
@@ -265,24 +288,57 @@ public class EntityManager implements Disposable {
      * @param listener The listener to remove
      */
     public void removeEntityListener(EntityListener listener) {
-        entityListeners.remove(listener);
+        entityListeners.removeValue(listener, true);
     }
     
     /**
-     * Notify listeners that an entity was added
+     * Queue a removal; an entity added and removed in the same frame is never reported
      */
-    private void notifyEntityAdded(Entity entity) {
-        for (EntityListener listener : entityListeners) {
-            listener.onEntityAdded(entity);
+    private void markRemoved(Entity entity) {
+        if (!pendingAdded.removeValue(entity, true)) {
+            pendingRemoved.add(entity);
         }
     }
     
     /**
-     * Notify listeners that an entity was removed
+     * Deliver the entities added and removed since the last call, as one batch each,
+     * to the entity listeners and the event system. Call once per frame.
      */
-    private void notifyEntityRemoved(Entity entity) {
-        for (EntityListener listener : entityListeners) {
-            listener.onEntityRemoved(entity);
+    public void flushLifecycleEvents() {
+        EventSystem eventSystem = EventSystem.getInstance();
+        if (pendingAdded.size > 0) {
+            Array<Entity> added = pendingAdded;
+            pendingAdded = deliveringAdded;
+            deliveringAdded = added;
+            
+            EntityListener[] listeners = entityListeners.begin();
+            try {
+                for (int i = 0, n = entityListeners.size; i < n; i++) {
+                    listeners[i].onEntitiesAdded(added);
+                }
+            } finally {
+                entityListeners.end();
+            }
+            // Triggered now rather than queued: the event shares the batch, which is cleared below
+            eventSystem.triggerEvent(GameEvent.createEntitiesCreatedEvent(added));
+            added.clear();
+        }
+        
+        if (pendingRemoved.size > 0) {
+            Array<Entity> removed = pendingRemoved;
+            pendingRemoved = deliveringRemoved;
+            deliveringRemoved = removed;
+            
+            EntityListener[] listeners = entityListeners.begin();
+            try {
+                for (int i = 0, n = entityListeners.size; i < n; i++) {
+                    listeners[i].onEntitiesRemoved(removed);
+                }
+            } finally {
+                entityListeners.end();
+            }
+            eventSystem.triggerEvent(GameEvent.createEntitiesDestroyedEvent(removed));
+            removed.clear();
         }
     }
     
@@ -292,22 +348,26 @@ public class EntityManager implements Disposable {
     @Override
     public void dispose() {
         clearEntities();
+        pendingAdded.clear();
+        pendingRemoved.clear();
         entityListeners.clear();
         LOGGER.log(Level.INFO, "EntityManager disposed");
     }
     
     /**
-     * Interface for entity event listeners
+     * Interface for entity event listeners. Lists are reused by the manager,
+     * so copy anything needed after the call returns.
      */
     public interface EntityListener {
         /**
-         * Called when an entity is added to the manager
+         * Called once per frame with the entities added since the last batch
          */
-        void onEntityAdded(Entity entity);
+        void onEntitiesAdded(Array<Entity> entities);
         
         /**
-         * Called when an entity is removed from the manager
+         * Called once per frame with the entities removed since the last batch.
+         * Entities removed by clearEntities are already disposed.
          */
-        void onEntityRemoved(Entity entity);
+        void onEntitiesRemoved(Array<Entity> entities);
     }
 }
\ No newline at end of file
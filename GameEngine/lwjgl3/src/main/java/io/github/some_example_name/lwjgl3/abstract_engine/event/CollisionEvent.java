@@ -0,0 +1,68 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+/**
+ * Pooled event for a contact between two entities
+ */
+public class CollisionEvent extends GameEvent {
+    private String entityA;
+    private String entityB;
+
+    public CollisionEvent() {
+        super(COLLISION_ID);
+    }
+
+    /**
+     * Take a collision event from the pool
+     * @param entityA First entity ID in the collision
+     * @param entityB Second entity ID in the collision
+     */
+    public static CollisionEvent obtain(String entityA, String entityB) {
+        CollisionEvent event = obtain(CollisionEvent.class);
+        event.entityA = entityA;
+        event.entityB = entityB;
+        return event;
+    }
+
+    public String getEntityA() {
+        return entityA;
+    }
+
+    public String getEntityB() {
+        return entityB;
+    }
+
+    /**
+     * Check if an entity took part in the collision
+     */
+    public boolean involves(String entityId) {
+        return entityId != null && (entityId.equals(entityA) || entityId.equals(entityB));
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        switch (key) {
+            case "entityA":
+                return entityA;
+            case "entityB":
+                return entityB;
+            default:
+                return super.getParameter(key);
+        }
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("entityA", entityA);
+        out.put("entityB", entityB);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        entityA = null;
+        entityB = null;
+    }
+}
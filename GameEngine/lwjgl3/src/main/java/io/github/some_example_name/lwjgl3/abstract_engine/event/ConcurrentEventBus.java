@@ -0,0 +1,104 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue that lets any thread publish events for the main thread.
+ * Producers claim a slot with a single compare-and-set on the tail; each slot carries
+ * a sequence number that tells the consumer when its event is fully written, so neither
+ * side ever blocks. Only one thread may poll.
+ *
+ * Events must not come from a pool: libGDX pools aren't thread-safe, so
+ * off-thread publishers create events with {@code new}.
+ */
+public class ConcurrentEventBus {
+    private final AtomicReferenceArray<GameEvent> slots;
+    // Slot i is free for the producer at position p when sequences[i] == p,
+    // and holds that producer's event when sequences[i] == p + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only touched by the consumer
+    private long head;
+    private final AtomicInteger droppedCount = new AtomicInteger();
+
+    /**
+     * Create an event bus
+     * @param capacity Maximum number of undelivered events, rounded up to a power of two
+     */
+    public ConcurrentEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Publish an event from any thread
+     * @param event A non-pooled event
+     * @return false if the bus was full and the event was dropped
+     */
+    public boolean publish(GameEvent event) {
+        if (event.isPooled()) {
+            throw new IllegalArgumentException("Pooled events can't be published across threads: " + event.getType());
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long diff = sequences.get(slot) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(slot, event);
+                    // Release the slot to the consumer only once the event is stored
+                    sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // The consumer hasn't freed this slot yet: the bus is full
+                droppedCount.incrementAndGet();
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Take the oldest published event. Must only be called from the consumer thread.
+     * @return The event, or null if none is ready
+     */
+    public GameEvent poll() {
+        int slot = (int) head & mask;
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        GameEvent event = slots.get(slot);
+        slots.set(slot, null);
+        // Hand the slot back to producers for the next lap
+        sequences.lazySet(slot, head + mask + 1);
+        head++;
+        return event;
+    }
+
+    /**
+     * Get an estimate of the events waiting; exact only when no producer is publishing
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Get the number of events dropped because the bus was full
+     */
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import com.badlogic.gdx.utils.Array;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+
+/**
+ * Pooled event for the entities added during one frame
+ */
+public class EntitiesCreatedEvent extends EntityBatchEvent {
+    public EntitiesCreatedEvent() {
+        super(ENTITY_CREATED_ID);
+    }
+
+    /**
+     * Take an entities created event from the pool
+     * @param entities The entities added this frame (not copied)
+     */
+    public static EntitiesCreatedEvent obtain(Array<Entity> entities) {
+        return obtain(EntitiesCreatedEvent.class, entities);
+    }
+}
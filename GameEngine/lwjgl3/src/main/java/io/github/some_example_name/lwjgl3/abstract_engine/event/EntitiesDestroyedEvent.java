@@ -0,0 +1,22 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import com.badlogic.gdx.utils.Array;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+
+/**
+ * Pooled event for the entities removed during one frame
+ */
+public class EntitiesDestroyedEvent extends EntityBatchEvent {
+    public EntitiesDestroyedEvent() {
+        super(ENTITY_DESTROYED_ID);
+    }
+
+    /**
+     * Take an entities destroyed event from the pool
+     * @param entities The entities removed this frame (not copied)
+     */
+    public static EntitiesDestroyedEvent obtain(Array<Entity> entities) {
+        return obtain(EntitiesDestroyedEvent.class, entities);
+    }
+}
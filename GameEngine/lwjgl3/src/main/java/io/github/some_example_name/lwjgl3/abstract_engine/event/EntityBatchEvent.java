@@ -0,0 +1,63 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+import com.badlogic.gdx.utils.Array;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+
+/**
+ * Pooled event carrying every entity added or removed during one frame.
+ * The list belongs to the EntityManager and is reused next frame, so listeners
+ * must copy anything they need before onEvent returns.
+ */
+public abstract class EntityBatchEvent extends GameEvent {
+    private Array<Entity> entities;
+
+    protected EntityBatchEvent(int typeId) {
+        super(typeId);
+    }
+
+    /**
+     * Take a batch event from its pool
+     * @param eventClass EntitiesCreatedEvent or EntitiesDestroyedEvent
+     * @param entities The entities in the batch (not copied)
+     */
+    static <T extends EntityBatchEvent> T obtain(Class<T> eventClass, Array<Entity> entities) {
+        T event = obtain(eventClass);
+        EntityBatchEvent batch = event;
+        batch.entities = entities;
+        return event;
+    }
+
+    /**
+     * Get the entities in the batch, in the order they were added or removed
+     */
+    public Array<Entity> getEntities() {
+        return entities;
+    }
+
+    public int getCount() {
+        return entities != null ? entities.size : 0;
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        if ("count".equals(key)) {
+            return getCount();
+        }
+        return super.getParameter(key);
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("count", getCount());
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        entities = null;
+    }
+}
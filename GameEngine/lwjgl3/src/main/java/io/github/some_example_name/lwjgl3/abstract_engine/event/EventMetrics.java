@@ -0,0 +1,155 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatch statistics collected by the EventSystem while tracing is on:
+ * per event type the number of triggers and listeners notified (fan-out), and per
+ * listener the number of calls and the total and worst handler time in nanoseconds.
+ *
+ * Only used on the main thread.
+ */
+public class EventMetrics {
+    private long[] typeCounts = new long[16];
+    private long[] typeFanOut = new long[16];
+    private int[] typeMaxFanOut = new int[16];
+    private final Map<EventSystem.EventListener, ListenerStats> listenerStats = new IdentityHashMap<>();
+    private long startNanos = System.nanoTime();
+
+    /**
+     * Record one triggered event
+     * @param typeId The event type ID
+     * @param fanOut Number of listeners notified
+     */
+    void recordEvent(int typeId, int fanOut) {
+        if (typeId >= typeCounts.length) {
+            int capacity = Math.max(typeId + 1, typeCounts.length * 2);
+            typeCounts = Arrays.copyOf(typeCounts, capacity);
+            typeFanOut = Arrays.copyOf(typeFanOut, capacity);
+            typeMaxFanOut = Arrays.copyOf(typeMaxFanOut, capacity);
+        }
+        typeCounts[typeId]++;
+        typeFanOut[typeId] += fanOut;
+        typeMaxFanOut[typeId] = Math.max(typeMaxFanOut[typeId], fanOut);
+    }
+
+    /**
+     * Record one listener call
+     * @param listener The listener
+     * @param nanos Time spent in its onEvent
+     */
+    void recordListener(EventSystem.EventListener listener, long nanos) {
+        ListenerStats stats = listenerStats.get(listener);
+        if (stats == null) {
+            stats = new ListenerStats(listener);
+            listenerStats.put(listener, stats);
+        }
+        stats.calls++;
+        stats.totalNanos += nanos;
+        stats.maxNanos = Math.max(stats.maxNanos, nanos);
+    }
+
+    /**
+     * Get how many times an event type was triggered
+     */
+    public long getEventCount(int typeId) {
+        return typeId >= 0 && typeId < typeCounts.length ? typeCounts[typeId] : 0;
+    }
+
+    /**
+     * Get the average number of listeners an event type reached
+     */
+    public float getAverageFanOut(int typeId) {
+        long count = getEventCount(typeId);
+        return count == 0 ? 0f : typeFanOut[typeId] / (float) count;
+    }
+
+    /**
+     * Get the most listeners a single event of the type reached
+     */
+    public int getMaxFanOut(int typeId) {
+        return typeId >= 0 && typeId < typeMaxFanOut.length ? typeMaxFanOut[typeId] : 0;
+    }
+
+    /**
+     * Get the number of type IDs that have stats; every recorded ID is below this
+     */
+    public int getTypeCapacity() {
+        return typeCounts.length;
+    }
+
+    /**
+     * Get the listener stats, most total handler time first
+     */
+    public List<ListenerStats> getListenerStats() {
+        List<ListenerStats> sorted = new ArrayList<>(listenerStats.values());
+        Collections.sort(sorted, (a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+        return sorted;
+    }
+
+    /**
+     * Get the time since the stats were started or last reset, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Clear all stats
+     */
+    public void reset() {
+        Arrays.fill(typeCounts, 0);
+        Arrays.fill(typeFanOut, 0);
+        Arrays.fill(typeMaxFanOut, 0);
+        listenerStats.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Handler timing for one listener
+     */
+    public static class ListenerStats {
+        private final EventSystem.EventListener listener;
+        private final String name;
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+
+        ListenerStats(EventSystem.EventListener listener) {
+            this.listener = listener;
+            this.name = listener.getClass().getSimpleName();
+        }
+
+        public EventSystem.EventListener getListener() {
+            return listener;
+        }
+
+        /**
+         * Get the listener's class name, for display
+         */
+        public String getName() {
+            return name;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getAverageNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+    }
+}
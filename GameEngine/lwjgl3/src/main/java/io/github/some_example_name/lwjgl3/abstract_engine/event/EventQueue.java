@@ -0,0 +1,150 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of events waiting for batched delivery.
+ * Events are addressed by a running sequence number, so a slot stays valid when the
+ * buffer grows. Types marked as coalesced keep at most one pending event: a newer
+ * event takes the older one's place in the queue and the older one is freed.
+ *
+ * Not thread-safe; events are queued and drained on the main thread.
+ */
+public class EventQueue {
+    private static final long NONE = -1L;
+
+    private GameEvent[] ring;
+    private int mask;
+    private long head;
+    private long tail;
+
+    // Per type ID: whether to coalesce, and the sequence of its pending event
+    private boolean[] coalesced = new boolean[16];
+    private long[] pendingSequence = new long[16];
+
+    private int coalescedCount;
+
+    /**
+     * Create an event queue
+     * @param initialCapacity Starting capacity, rounded up to a power of two; the queue grows when full
+     */
+    public EventQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, initialCapacity) - 1) << 1;
+        ring = new GameEvent[capacity];
+        mask = capacity - 1;
+        Arrays.fill(pendingSequence, NONE);
+    }
+
+    /**
+     * Set whether only the latest pending event of a type is kept
+     * @param typeId The event type ID
+     * @param coalesce true to coalesce the type
+     */
+    public void setCoalesced(int typeId, boolean coalesce) {
+        if (typeId < 0) {
+            return;
+        }
+        ensureTypeCapacity(typeId);
+        coalesced[typeId] = coalesce;
+        if (!coalesce) {
+            pendingSequence[typeId] = NONE;
+        }
+    }
+
+    /**
+     * Check if a type is coalesced
+     */
+    public boolean isCoalesced(int typeId) {
+        return typeId >= 0 && typeId < coalesced.length && coalesced[typeId];
+    }
+
+    /**
+     * Add an event to the end of the queue, or in place of a pending event of the same coalesced type
+     * @param event The event to queue
+     */
+    public void offer(GameEvent event) {
+        int typeId = event.getTypeId();
+        if (isCoalesced(typeId)) {
+            long pending = pendingSequence[typeId];
+            if (pending != NONE) {
+                int slot = (int) pending & mask;
+                GameEvent older = ring[slot];
+                event.coalesce(older);
+                ring[slot] = event;
+                older.free();
+                coalescedCount++;
+                return;
+            }
+            pendingSequence[typeId] = tail;
+        }
+
+        if (tail - head == ring.length) {
+            grow();
+        }
+        ring[(int) tail & mask] = event;
+        tail++;
+    }
+
+    /**
+     * Take the event at the head of the queue
+     * @return The event, or null if the queue is empty
+     */
+    public GameEvent poll() {
+        if (head == tail) {
+            return null;
+        }
+        int slot = (int) head & mask;
+        GameEvent event = ring[slot];
+        ring[slot] = null;
+        int typeId = event.getTypeId();
+        if (typeId < pendingSequence.length && pendingSequence[typeId] == head) {
+            pendingSequence[typeId] = NONE;
+        }
+        head++;
+        return event;
+    }
+
+    /**
+     * Get the number of queued events
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Get the number of events replaced by a newer event of the same type
+     */
+    public int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Drop every queued event, returning pooled ones to their pools
+     */
+    public void clear() {
+        GameEvent event;
+        while ((event = poll()) != null) {
+            event.free();
+        }
+    }
+
+    private void grow() {
+        GameEvent[] grown = new GameEvent[ring.length * 2];
+        int grownMask = grown.length - 1;
+        for (long sequence = head; sequence < tail; sequence++) {
+            grown[(int) sequence & grownMask] = ring[(int) sequence & mask];
+        }
+        ring = grown;
+        mask = grownMask;
+    }
+
+    private void ensureTypeCapacity(int typeId) {
+        if (typeId >= coalesced.length) {
+            int oldCapacity = coalesced.length;
+            int capacity = Math.max(typeId + 1, oldCapacity * 2);
+            coalesced = Arrays.copyOf(coalesced, capacity);
+            pendingSequence = Arrays.copyOf(pendingSequence, capacity);
+            Arrays.fill(pendingSequence, oldCapacity, capacity, NONE);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Handle for one listener registration. Disposing it unregisters the listener,
+ * so it can be handed to anything that disposes its resources (a Scene's managed
+ * resources, a ListenerScope, ...). Disposing twice does nothing.
+ */
+public class EventSubscription implements Disposable {
+    private final String eventType;
+    private final EventSystem.EventListener listener;
+    private boolean active = true;
+
+    EventSubscription(String eventType, EventSystem.EventListener listener) {
+        this.eventType = eventType;
+        this.listener = listener;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public EventSystem.EventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Check if the listener is still registered through this subscription
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void dispose() {
+        if (active) {
+            active = false;
+            EventSystem.getInstance().removeEventListener(eventType, listener);
+        }
+    }
+}
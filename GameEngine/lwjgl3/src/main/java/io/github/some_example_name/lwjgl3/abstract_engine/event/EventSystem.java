@@ -1,40 +1,74 @@
 package io.github.some_example_name.lwjgl3.abstract_engine.event;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.badlogic.gdx.utils.Array;
 
 /**
  * A centralized event system that allows components to communicate
  * without direct dependencies, implementing the Observer pattern.
+ *
+ * Listeners are registered and run on the main thread. Other threads hand events
+ * over with {@link #publishEvent(GameEvent)}.
  */
 public class EventSystem {
-    private static EventSystem instance;
+    /** Event type that registers a listener for every event */
+    public static final String ALL_EVENTS = "all";
+    
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+    
+    // Created eagerly so worker threads can publish without racing the first getInstance
+    private static final EventSystem instance = new EventSystem();
+    
+    // Listeners registered per event type, indexed by type ID
+    private Array<EventListener>[] typeListeners;
+    private final Array<EventListener> wildcardListeners;
+    
+    // What dispatch iterates: each type's listeners followed by the wildcard listeners.
+    // Rebuilt copy-on-write when listeners change, so listeners may add or remove
+    // listeners during dispatch and triggering an event copies nothing.
+    private EventListener[][] dispatchTable;
+    private EventListener[] wildcardOnly;
+    
+    // Null unless tracing is on, so untraced dispatch pays for one field check
+    private EventMetrics metrics;
     
-    private final Map<String, List<EventListener>> listeners;
+    // Events waiting for the next dispatchQueued call
+    private final EventQueue queue = new EventQueue(64);
+    // Events published from other threads, moved into the queue on the main thread
+    private final ConcurrentEventBus bus = new ConcurrentEventBus(1024);
     
     /**
      * Private constructor for singleton
      */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private EventSystem() {
-        listeners = new HashMap<>();
+        int capacity = Math.max(16, EventTypes.count());
+        typeListeners = new Array[capacity];
+        wildcardListeners = new Array<>(true, 4, EventListener.class);
+        dispatchTable = new EventListener[capacity][];
+        wildcardOnly = NO_LISTENERS;
+        Arrays.fill(dispatchTable, NO_LISTENERS);
+        
+        // A HUD only needs the latest score each frame
+        queue.setCoalesced(GameEvent.SCORE_CHANGED_ID, true);
     }
     
     /**
      * Get the singleton instance
      */
     public static EventSystem getInstance() {
-        if (instance == null) {
-            instance = new EventSystem();
-        }
         return instance;
     }
     
     /**
      * Register a listener for a specific event type
-     * @param eventType The type of event to listen for
+     * @param eventType The type of event to listen for, or {@link #ALL_EVENTS}
      * @param listener The listener to register
      */
     public void addEventListener(String eventType, EventListener listener) {
@@ -42,20 +76,43 @@ public class EventSystem {
             return;
         }
         
-        // Get or create listener list for this event type
-        List<EventListener> eventListeners = listeners.computeIfAbsent(
-            eventType, k -> new CopyOnWriteArrayList<>()
-        );
+        if (ALL_EVENTS.equals(eventType)) {
+            if (!wildcardListeners.contains(listener, true)) {
+                wildcardListeners.add(listener);
+                rebuildAll();
+            }
+        } else {
+            addEventListener(EventTypes.register(eventType), listener);
+        }
+    }
+    
+    /**
+     * Register a listener for a specific event type by its registered ID
+     * @param typeId The event type ID from {@link EventTypes#register(String)}
+     * @param listener The listener to register
+     */
+    public void addEventListener(int typeId, EventListener listener) {
+        if (typeId < 0 || listener == null) {
+            return;
+        }
+        
+        ensureCapacity(typeId);
+        Array<EventListener> eventListeners = typeListeners[typeId];
+        if (eventListeners == null) {
+            eventListeners = new Array<>(true, 4, EventListener.class);
+            typeListeners[typeId] = eventListeners;
+        }
         
         // Add listener if not already present
-        if (!eventListeners.contains(listener)) {
+        if (!eventListeners.contains(listener, true)) {
             eventListeners.add(listener);
+            rebuild(typeId);
         }
     }
     
     /**
      * Remove a listener for a specific event type
-     * @param eventType The type of event
+     * @param eventType The type of event, or {@link #ALL_EVENTS}
      * @param listener The listener to remove
      */
     public void removeEventListener(String eventType, EventListener listener) {
@@ -63,14 +120,134 @@ public class EventSystem {
             return;
         }
         
-        List<EventListener> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+        if (ALL_EVENTS.equals(eventType)) {
+            if (wildcardListeners.removeValue(listener, true)) {
+                rebuildAll();
+            }
+        } else {
+            removeEventListener(EventTypes.getId(eventType), listener);
+        }
+    }
+    
+    /**
+     * Remove a listener for a specific event type by its registered ID
+     * @param typeId The event type ID
+     * @param listener The listener to remove
+     */
+    public void removeEventListener(int typeId, EventListener listener) {
+        if (typeId < 0 || typeId >= typeListeners.length || listener == null) {
+            return;
+        }
+        
+        Array<EventListener> eventListeners = typeListeners[typeId];
+        if (eventListeners != null && eventListeners.removeValue(listener, true)) {
+            rebuild(typeId);
         }
     }
     
     /**
-     * Trigger an event, notifying all registered listeners
+     * Register a listener that receives one typed event class.
+     * Events of the type that are not of that class are skipped.
+     * @param eventType The type of event to listen for
+     * @param eventClass The payload class, e.g. ScoreChangedEvent
+     * @param listener The listener to register
+     * @return The registered adapter, to pass to {@link #removeEventListener(String, EventListener)}
+     */
+    public <T extends GameEvent> EventListener addEventListener(String eventType, Class<T> eventClass,
+            TypedEventListener<T> listener) {
+        EventListener adapter = event -> {
+            if (eventClass.isInstance(event)) {
+                listener.onEvent(eventClass.cast(event));
+            }
+        };
+        addEventListener(eventType, adapter);
+        return adapter;
+    }
+    
+    /**
+     * Register a listener and get a handle that unregisters it when disposed.
+     * Prefer this (or a ListenerScope) for anything with a shorter life than the game.
+     * @param eventType The type of event to listen for, or {@link #ALL_EVENTS}
+     * @param listener The listener to register
+     * @return The subscription
+     */
+    public EventSubscription subscribe(String eventType, EventListener listener) {
+        addEventListener(eventType, listener);
+        return new EventSubscription(eventType, listener);
+    }
+    
+    /**
+     * Register a typed listener and get a handle that unregisters it when disposed
+     * @param eventType The type of event to listen for
+     * @param eventClass The payload class, e.g. ScoreChangedEvent
+     * @param listener The listener to register
+     * @return The subscription
+     */
+    public <T extends GameEvent> EventSubscription subscribe(String eventType, Class<T> eventClass,
+            TypedEventListener<T> listener) {
+        return new EventSubscription(eventType, addEventListener(eventType, eventClass, listener));
+    }
+    
+    /**
+     * Register a listener without keeping it alive. Once the listener is garbage collected
+     * its registration is removed on the next dispatch or leak check.
+     * The caller must hold a strong reference for as long as it wants events.
+     * @param eventType The type of event to listen for, or {@link #ALL_EVENTS}
+     * @param listener The listener to register
+     * @return The subscription, to end it early
+     */
+    public EventSubscription subscribeWeak(String eventType, EventListener listener) {
+        return subscribe(eventType, new WeakListener(eventType, listener));
+    }
+    
+    /**
+     * Get the number of listeners registered per event type, including {@link #ALL_EVENTS}
+     * @return Listener count per type name, for types with at least one listener
+     */
+    public Map<String, Integer> getListenerCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int typeId = 0; typeId < typeListeners.length; typeId++) {
+            Array<EventListener> eventListeners = typeListeners[typeId];
+            if (eventListeners != null && eventListeners.size > 0) {
+                counts.put(EventTypes.getName(typeId), eventListeners.size);
+            }
+        }
+        if (wildcardListeners.size > 0) {
+            counts.put(ALL_EVENTS, wildcardListeners.size);
+        }
+        return counts;
+    }
+    
+    /**
+     * Remove weak registrations whose listener has been garbage collected
+     */
+    public void purgeCollectedListeners() {
+        for (int typeId = 0; typeId < typeListeners.length; typeId++) {
+            Array<EventListener> eventListeners = typeListeners[typeId];
+            if (eventListeners != null && removeCollected(eventListeners)) {
+                rebuild(typeId);
+            }
+        }
+        if (removeCollected(wildcardListeners)) {
+            rebuildAll();
+        }
+    }
+    
+    private static boolean removeCollected(Array<EventListener> eventListeners) {
+        boolean removed = false;
+        for (int i = eventListeners.size - 1; i >= 0; i--) {
+            EventListener listener = eventListeners.get(i);
+            if (listener instanceof WeakListener && ((WeakListener) listener).isCollected()) {
+                eventListeners.removeIndex(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+    
+    /**
+     * Trigger an event, notifying the listeners for its type and then the wildcard listeners.
+     * Pooled events are returned to their pool afterwards.
      * @param event The event to trigger
      */
     public void triggerEvent(GameEvent event) {
@@ -78,46 +255,246 @@ public class EventSystem {
             return;
         }
         
-        // Notify listeners for this specific event type
-        List<EventListener> eventListeners = listeners.get(event.getType());
-        if (eventListeners != null) {
-            for (EventListener listener : eventListeners) {
-                listener.onEvent(event);
+        int typeId = event.getTypeId();
+        EventListener[] targets = typeId < dispatchTable.length ? dispatchTable[typeId] : wildcardOnly;
+        try {
+            EventMetrics tracing = metrics;
+            if (tracing == null) {
+                for (EventListener listener : targets) {
+                    listener.onEvent(event);
+                }
+            } else {
+                dispatchTraced(tracing, typeId, targets, event);
             }
+        } finally {
+            event.free();
         }
-        
-        // Also notify listeners for "all" events
-        List<EventListener> allListeners = listeners.get("all");
-        if (allListeners != null) {
-            for (EventListener listener : allListeners) {
+    }
+    
+    private static void dispatchTraced(EventMetrics tracing, int typeId, EventListener[] targets, GameEvent event) {
+        tracing.recordEvent(typeId, targets.length);
+        for (EventListener listener : targets) {
+            long start = System.nanoTime();
+            try {
                 listener.onEvent(event);
+            } finally {
+                tracing.recordListener(listener, System.nanoTime() - start);
             }
         }
     }
     
+    /**
+     * Turn dispatch tracing on or off. Turning it on starts fresh stats.
+     * @param enabled true to record event counts, fan-out and listener timings
+     */
+    public void setTracingEnabled(boolean enabled) {
+        if (enabled && metrics == null) {
+            metrics = new EventMetrics();
+        } else if (!enabled) {
+            metrics = null;
+        }
+    }
+    
+    /**
+     * Check if dispatch tracing is on
+     */
+    public boolean isTracingEnabled() {
+        return metrics != null;
+    }
+    
+    /**
+     * Get the stats collected since tracing was turned on
+     * @return The stats, or null if tracing is off
+     */
+    public EventMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Queue an event for delivery at the next {@link #dispatchQueued()} instead of now.
+     * Use this from callbacks where listeners must not run, e.g. Box2D contacts during world.step.
+     * @param event The event to queue
+     */
+    public void queueEvent(GameEvent event) {
+        if (event != null) {
+            queue.offer(event);
+        }
+    }
+    
+    /**
+     * Publish an event from any thread, e.g. an asset loader or the audio thread.
+     * It is delivered on the main thread at the next {@link #dispatchQueued()}.
+     * @param event The event; must be created with {@code new}, not taken from a pool
+     * @return false if too many events were waiting and this one was dropped
+     */
+    public boolean publishEvent(GameEvent event) {
+        return event != null && bus.publish(event);
+    }
+    
+    /**
+     * Set whether only the last queued event of a type is delivered per batch
+     * @param eventType The event type, e.g. GameEvent.SCORE_CHANGED
+     * @param coalesce true to keep only the latest pending event
+     */
+    public void setCoalesced(String eventType, boolean coalesce) {
+        if (eventType != null) {
+            queue.setCoalesced(EventTypes.register(eventType), coalesce);
+        }
+    }
+    
+    /**
+     * Deliver the events queued so far, in order. Events queued by listeners during
+     * the batch are left for the next call, so a batch always ends.
+     * @return The number of events delivered
+     */
+    public int dispatchQueued() {
+        // Published events join the queue so they are ordered and coalesced with the rest
+        GameEvent published;
+        while ((published = bus.poll()) != null) {
+            queue.offer(published);
+        }
+        
+        int count = queue.size();
+        for (int i = 0; i < count; i++) {
+            triggerEvent(queue.poll());
+        }
+        return count;
+    }
+    
+    /**
+     * Get the number of events waiting for delivery
+     */
+    public int getQueuedEventCount() {
+        return queue.size() + bus.size();
+    }
+    
+    /**
+     * Get the number of published events dropped because the bus was full
+     */
+    public int getDroppedEventCount() {
+        return bus.getDroppedCount();
+    }
+    
+    /**
+     * Drop all queued events without delivering them
+     */
+    public void clearQueuedEvents() {
+        while (bus.poll() != null) {
+            // Published events aren't pooled; just drop them
+        }
+        queue.clear();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void ensureCapacity(int typeId) {
+        if (typeId < typeListeners.length) {
+            return;
+        }
+        int oldCapacity = typeListeners.length;
+        int capacity = Math.max(typeId + 1, oldCapacity * 2);
+        Array<EventListener>[] grownListeners = new Array[capacity];
+        System.arraycopy(typeListeners, 0, grownListeners, 0, oldCapacity);
+        typeListeners = grownListeners;
+        dispatchTable = Arrays.copyOf(dispatchTable, capacity);
+        Arrays.fill(dispatchTable, oldCapacity, capacity, wildcardOnly);
+    }
+    
+    private void rebuild(int typeId) {
+        Array<EventListener> eventListeners = typeListeners[typeId];
+        int typeCount = eventListeners != null ? eventListeners.size : 0;
+        if (typeCount == 0) {
+            dispatchTable[typeId] = wildcardOnly;
+            return;
+        }
+        EventListener[] merged = new EventListener[typeCount + wildcardListeners.size];
+        System.arraycopy(eventListeners.items, 0, merged, 0, typeCount);
+        System.arraycopy(wildcardListeners.items, 0, merged, typeCount, wildcardListeners.size);
+        dispatchTable[typeId] = merged;
+    }
+    
+    private void rebuildAll() {
+        wildcardOnly = wildcardListeners.size == 0 ? NO_LISTENERS : wildcardListeners.toArray();
+        for (int i = 0; i < dispatchTable.length; i++) {
+            rebuild(i);
+        }
+    }
+    
     /**
      * Get all registered listeners for an event type
-     * @param eventType The event type
+     * @param eventType The event type, or {@link #ALL_EVENTS}
      * @return List of listeners, or empty list if none
      */
     public List<EventListener> getListeners(String eventType) {
-        List<EventListener> eventListeners = listeners.get(eventType);
-        return eventListeners != null ? new ArrayList<>(eventListeners) : new ArrayList<>();
+        Array<EventListener> eventListeners = null;
+        if (ALL_EVENTS.equals(eventType)) {
+            eventListeners = wildcardListeners;
+        } else {
+            int typeId = EventTypes.getId(eventType);
+            if (typeId >= 0 && typeId < typeListeners.length) {
+                eventListeners = typeListeners[typeId];
+            }
+        }
+        List<EventListener> copy = new ArrayList<>();
+        if (eventListeners != null) {
+            for (int i = 0; i < eventListeners.size; i++) {
+                copy.add(eventListeners.get(i));
+            }
+        }
+        return copy;
     }
     
     /**
      * Clear all listeners
      */
     public void clearListeners() {
-        listeners.clear();
+        Arrays.fill(typeListeners, null);
+        wildcardListeners.clear();
+        rebuildAll();
     }
     
     /**
      * Clear listeners for a specific event type
-     * @param eventType The event type
+     * @param eventType The event type, or {@link #ALL_EVENTS}
      */
     public void clearListeners(String eventType) {
-        listeners.remove(eventType);
+        if (ALL_EVENTS.equals(eventType)) {
+            wildcardListeners.clear();
+            rebuildAll();
+            return;
+        }
+        int typeId = EventTypes.getId(eventType);
+        if (typeId >= 0 && typeId < typeListeners.length) {
+            typeListeners[typeId] = null;
+            rebuild(typeId);
+        }
+    }
+    
+    /**
+     * Forwards events to a listener it only weakly references
+     */
+    private static final class WeakListener implements EventListener {
+        private final String eventType;
+        private final WeakReference<EventListener> target;
+        
+        WeakListener(String eventType, EventListener target) {
+            this.eventType = eventType;
+            this.target = new WeakReference<>(target);
+        }
+        
+        boolean isCollected() {
+            return target.get() == null;
+        }
+        
+        @Override
+        public void onEvent(GameEvent event) {
+            EventListener listener = target.get();
+            if (listener != null) {
+                listener.onEvent(event);
+            } else {
+                // Safe during dispatch: the dispatch table is copy-on-write
+                getInstance().removeEventListener(eventType, this);
+            }
+        }
     }
     
     /**
@@ -130,4 +507,17 @@ public class EventSystem {
          */
         void onEvent(GameEvent event);
     }
+    
+    /**
+     * Listener for one typed event class
+     * @param <T> The event class
+     */
+    public interface TypedEventListener<T extends GameEvent> {
+        /**
+         * Called when an event of the class is triggered.
+         * The event may be pooled, so don't keep it after returning.
+         * @param event The triggered event
+         */
+        void onEvent(T event);
+    }
 }
\ No newline at end of file
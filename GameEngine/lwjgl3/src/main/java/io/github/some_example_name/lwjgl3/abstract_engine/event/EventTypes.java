@@ -0,0 +1,63 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Registry mapping event type names to dense integer IDs.
+ * Each name is registered once, typically into a static final constant, so the
+ * event system can keep listeners in arrays indexed by ID instead of hashing names.
+ * IDs start at 0 and are never reused or removed.
+ */
+public final class EventTypes {
+    public static final int INVALID_ID = -1;
+
+    private static final ObjectIntMap<String> ids = new ObjectIntMap<>();
+    private static final Array<String> names = new Array<>(String.class);
+
+    private EventTypes() {
+    }
+
+    /**
+     * Get the ID of an event type, registering it if it's new
+     * @param name The event type name
+     * @return The type's ID
+     */
+    public static synchronized int register(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Event type name can't be null");
+        }
+        int id = ids.get(name, INVALID_ID);
+        if (id == INVALID_ID) {
+            id = names.size;
+            names.add(name);
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Get the ID of a registered event type without registering it
+     * @param name The event type name
+     * @return The type's ID, or INVALID_ID if it was never registered
+     */
+    public static synchronized int getId(String name) {
+        return name == null ? INVALID_ID : ids.get(name, INVALID_ID);
+    }
+
+    /**
+     * Get the name an ID was registered with
+     * @param id The type's ID
+     * @return The name, or null if the ID isn't registered
+     */
+    public static synchronized String getName(int id) {
+        return id >= 0 && id < names.size ? names.get(id) : null;
+    }
+
+    /**
+     * Get the number of registered event types; every ID is below this
+     */
+    public static synchronized int count() {
+        return names.size;
+    }
+}
@@ -3,11 +3,22 @@ package io.github.some_example_name.lwjgl3.abstract_engine.event;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+
 /**
  * Base class for all game events that can be dispatched through the event system.
  * Implements a flexible data storage mechanism to pass parameters.
+ *
+ * Frequent events (collisions, score changes, ...) are typed subclasses with
+ * primitive fields, obtained from a pool and returned to it by the EventSystem
+ * once dispatched, so triggering them allocates nothing. Listeners must not keep
+ * a reference to an event after onEvent returns.
  */
-public class GameEvent {
+public class GameEvent implements Pool.Poolable {
     // Common event types
     public static final String ENTITY_CREATED = "entity_created";
     public static final String ENTITY_DESTROYED = "entity_destroyed";
@@ -21,18 +32,96 @@ public class GameEvent {
     public static final String ITEM_COLLECTED = "item_collected";
     public static final String ENEMY_DEFEATED = "enemy_defeated";
     
+    // Registered IDs of the common event types, for array-indexed dispatch
+    public static final int ENTITY_CREATED_ID = EventTypes.register(ENTITY_CREATED);
+    public static final int ENTITY_DESTROYED_ID = EventTypes.register(ENTITY_DESTROYED);
+    public static final int COLLISION_ID = EventTypes.register(COLLISION);
+    public static final int HEALTH_CHANGED_ID = EventTypes.register(HEALTH_CHANGED);
+    public static final int GAME_STATE_CHANGED_ID = EventTypes.register(GAME_STATE_CHANGED);
+    public static final int LEVEL_LOADED_ID = EventTypes.register(LEVEL_LOADED);
+    public static final int PLAYER_DIED_ID = EventTypes.register(PLAYER_DIED);
+    public static final int PLAYER_WON_ID = EventTypes.register(PLAYER_WON);
+    public static final int SCORE_CHANGED_ID = EventTypes.register(SCORE_CHANGED);
+    public static final int ITEM_COLLECTED_ID = EventTypes.register(ITEM_COLLECTED);
+    public static final int ENEMY_DEFEATED_ID = EventTypes.register(ENEMY_DEFEATED);
+    
     private final String type;
-    private final long timestamp;
-    private final Map<String, Object> data;
+    private final int typeId;
+    private long timestamp;
+    // Created on the first setParameter, so typed events never allocate it
+    private Map<String, Object> data;
+    // Set while the event is out of its pool and owned by the event system
+    private boolean pooled;
     
     /**
      * Create a new event with the specified type
      * @param type The event type
      */
     public GameEvent(String type) {
+        this(type, EventTypes.register(type));
+    }
+    
+    /**
+     * Create a new event from a registered type ID, skipping the name lookup
+     * @param typeId The event type ID from {@link EventTypes#register(String)}
+     */
+    protected GameEvent(int typeId) {
+        this(EventTypes.getName(typeId), typeId);
+    }
+    
+    private GameEvent(String type, int typeId) {
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type ID: " + typeId);
+        }
         this.type = type;
-        this.timestamp = System.currentTimeMillis();
-        this.data = new HashMap<>();
+        this.typeId = typeId;
+        this.timestamp = System.nanoTime();
+    }
+    
+    /**
+     * Take a typed event from its pool
+     * @param eventClass The event class (must have a no-argument constructor)
+     * @return A reset event, returned to the pool after it is triggered
+     */
+    protected static <T extends GameEvent> T obtain(Class<T> eventClass) {
+        T event = Pools.obtain(eventClass);
+        GameEvent base = event;
+        base.timestamp = System.nanoTime();
+        base.pooled = true;
+        return event;
+    }
+    
+    /**
+     * Return the event to its pool if it came from one.
+     * Called by the EventSystem after the event has been delivered.
+     */
+    void free() {
+        if (pooled) {
+            pooled = false;
+            Pools.free(this);
+        }
+    }
+    
+    /**
+     * Check if the event came from a pool and will be reused after dispatch
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+    
+    /**
+     * Called when this event replaces an older pending event of the same coalesced type,
+     * before the older one is freed. Override to carry over state that spans the batch.
+     * @param older The event being replaced
+     */
+    protected void coalesce(GameEvent older) {
+    }
+    
+    @Override
+    public void reset() {
+        if (data != null) {
+            data.clear();
+        }
     }
     
     /**
@@ -43,7 +132,14 @@ public class GameEvent {
     }
     
     /**
-     * Get the timestamp when the event was created
+     * Get the registered ID of the event type
+     */
+    public int getTypeId() {
+        return typeId;
+    }
+    
+    /**
+     * Get the time the event was created, from System.nanoTime()
      */
     public long getTimestamp() {
         return timestamp;
@@ -56,10 +152,23 @@ public class GameEvent {
      * @return This event (for chaining)
      */
     public GameEvent setParameter(String key, Object value) {
+        if (data == null) {
+            data = new HashMap<>();
+        }
         data.put(key, value);
         return this;
     }
     
+    /**
+     * Look up a parameter by name. Typed events override this to expose their fields,
+     * boxing them only for callers that use the name-based getters.
+     * @param key Parameter name
+     * @return The value, or null if not set
+     */
+    protected Object getParameter(String key) {
+        return data != null ? data.get(key) : null;
+    }
+    
     /**
      * Get a string parameter
      * @param key Parameter name
@@ -67,7 +176,7 @@ public class GameEvent {
      * @return The parameter value, or defaultValue if not found
      */
     public String getStringParameter(String key, String defaultValue) {
-        Object value = data.get(key);
+        Object value = getParameter(key);
         return value instanceof String ? (String) value : defaultValue;
     }
     
@@ -78,7 +187,7 @@ public class GameEvent {
      * @return The parameter value, or defaultValue if not found
      */
     public int getIntParameter(String key, int defaultValue) {
-        Object value = data.get(key);
+        Object value = getParameter(key);
         return value instanceof Integer ? (Integer) value : defaultValue;
     }
     
@@ -89,7 +198,7 @@ public class GameEvent {
      * @return The parameter value, or defaultValue if not found
      */
     public float getFloatParameter(String key, float defaultValue) {
-        Object value = data.get(key);
+        Object value = getParameter(key);
         return value instanceof Float ? (Float) value : defaultValue;
     }
     
@@ -100,7 +209,7 @@ public class GameEvent {
      * @return The parameter value, or defaultValue if not found
      */
     public boolean getBooleanParameter(String key, boolean defaultValue) {
-        Object value = data.get(key);
+        Object value = getParameter(key);
         return value instanceof Boolean ? (Boolean) value : defaultValue;
     }
     
@@ -112,23 +221,59 @@ public class GameEvent {
      */
     @SuppressWarnings("unchecked")
     public <T> T getObjectParameter(String key) {
-        return (T) data.get(key);
+        return (T) getParameter(key);
     }
     
     /**
-     * Check if a parameter exists
+     * Check if a parameter exists, even if its value is null
      * @param key Parameter name
      * @return true if the parameter exists
      */
     public boolean hasParameter(String key) {
-        return data.containsKey(key);
+        if (getParameter(key) != null || (data != null && data.containsKey(key))) {
+            return true;
+        }
+        // Only a missing key or a typed field set to null gets here
+        return getAllParameters().containsKey(key);
     }
     
     /**
-     * Get all parameters
+     * Get a copy of all parameters, including a typed event's fields.
+     * Allocates a map; listeners should prefer the getters.
      */
     public Map<String, Object> getAllParameters() {
-        return new HashMap<>(data);
+        Map<String, Object> parameters = new HashMap<>();
+        collectParameters(parameters);
+        return parameters;
+    }
+    
+    /**
+     * Copy every parameter, including a typed event's fields, into a map.
+     * Used to record events; listeners should use the getters instead.
+     * @param out The map to fill
+     */
+    public void collectParameters(Map<String, Object> out) {
+        if (data != null) {
+            out.putAll(data);
+        }
+    }
+    
+    /**
+     * Create an event for the entities added during a frame
+     * @param entities The added entities (not copied)
+     * @return The entities created event
+     */
+    public static EntitiesCreatedEvent createEntitiesCreatedEvent(Array<Entity> entities) {
+        return EntitiesCreatedEvent.obtain(entities);
+    }
+    
+    /**
+     * Create an event for the entities removed during a frame
+     * @param entities The removed entities (not copied)
+     * @return The entities destroyed event
+     */
+    public static EntitiesDestroyedEvent createEntitiesDestroyedEvent(Array<Entity> entities) {
+        return EntitiesDestroyedEvent.obtain(entities);
     }
     
     /**
@@ -137,10 +282,8 @@ public class GameEvent {
      * @param entityB Second entity ID in the collision
      * @return The collision event
      */
-    public static GameEvent createCollisionEvent(String entityA, String entityB) {
-        return new GameEvent(COLLISION)
-            .setParameter("entityA", entityA)
-            .setParameter("entityB", entityB);
+    public static CollisionEvent createCollisionEvent(String entityA, String entityB) {
+        return CollisionEvent.obtain(entityA, entityB);
     }
     
     /**
@@ -150,12 +293,8 @@ public class GameEvent {
      * @param previousHealth Previous health value
      * @return The health changed event
      */
-    public static GameEvent createHealthChangedEvent(String entityId, float currentHealth, float previousHealth) {
-        return new GameEvent(HEALTH_CHANGED)
-            .setParameter("entityId", entityId)
-            .setParameter("currentHealth", currentHealth)
-            .setParameter("previousHealth", previousHealth)
-            .setParameter("delta", currentHealth - previousHealth);
+    public static HealthChangedEvent createHealthChangedEvent(String entityId, float currentHealth, float previousHealth) {
+        return HealthChangedEvent.obtain(entityId, currentHealth, previousHealth);
     }
     
     /**
@@ -164,10 +303,8 @@ public class GameEvent {
      * @param oldState Previous game state
      * @return The game state changed event
      */
-    public static GameEvent createGameStateChangedEvent(String newState, String oldState) {
-        return new GameEvent(GAME_STATE_CHANGED)
-            .setParameter("newState", newState)
-            .setParameter("oldState", oldState);
+    public static GameStateChangedEvent createGameStateChangedEvent(String newState, String oldState) {
+        return GameStateChangedEvent.obtain(newState, oldState);
     }
     
     /**
@@ -196,11 +333,8 @@ public class GameEvent {
      * @param oldScore Previous score value
      * @return The score changed event
      */
-    public static GameEvent createScoreChangedEvent(int newScore, int oldScore) {
-        return new GameEvent(SCORE_CHANGED)
-            .setParameter("newScore", newScore)
-            .setParameter("oldScore", oldScore)
-            .setParameter("delta", newScore - oldScore);
+    public static ScoreChangedEvent createScoreChangedEvent(int newScore, int oldScore) {
+        return ScoreChangedEvent.obtain(newScore, oldScore);
     }
     
     /**
@@ -209,9 +343,7 @@ public class GameEvent {
      * @param itemType Type of the collected item
      * @return The item collected event
      */
-    public static GameEvent createItemCollectedEvent(String itemId, String itemType) {
-        return new GameEvent(ITEM_COLLECTED)
-            .setParameter("itemId", itemId)
-            .setParameter("itemType", itemType);
+    public static ItemCollectedEvent createItemCollectedEvent(String itemId, String itemType) {
+        return ItemCollectedEvent.obtain(itemId, itemType);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+/**
+ * Pooled event for a change of game state or scene
+ */
+public class GameStateChangedEvent extends GameEvent {
+    private String newState;
+    private String oldState;
+
+    public GameStateChangedEvent() {
+        super(GAME_STATE_CHANGED_ID);
+    }
+
+    /**
+     * Take a game state changed event from the pool
+     * @param newState New game state
+     * @param oldState Previous game state
+     */
+    public static GameStateChangedEvent obtain(String newState, String oldState) {
+        GameStateChangedEvent event = obtain(GameStateChangedEvent.class);
+        event.newState = newState;
+        event.oldState = oldState;
+        return event;
+    }
+
+    public String getNewState() {
+        return newState;
+    }
+
+    public String getOldState() {
+        return oldState;
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        switch (key) {
+            case "newState":
+                return newState;
+            case "oldState":
+                return oldState;
+            default:
+                return super.getParameter(key);
+        }
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("newState", newState);
+        out.put("oldState", oldState);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        newState = null;
+        oldState = null;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+/**
+ * Pooled event for a change in an entity's health
+ */
+public class HealthChangedEvent extends GameEvent {
+    private String entityId;
+    private float currentHealth;
+    private float previousHealth;
+
+    public HealthChangedEvent() {
+        super(HEALTH_CHANGED_ID);
+    }
+
+    /**
+     * Take a health changed event from the pool
+     * @param entityId Entity ID whose health changed
+     * @param currentHealth New health value
+     * @param previousHealth Previous health value
+     */
+    public static HealthChangedEvent obtain(String entityId, float currentHealth, float previousHealth) {
+        HealthChangedEvent event = obtain(HealthChangedEvent.class);
+        event.entityId = entityId;
+        event.currentHealth = currentHealth;
+        event.previousHealth = previousHealth;
+        return event;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public float getCurrentHealth() {
+        return currentHealth;
+    }
+
+    public float getPreviousHealth() {
+        return previousHealth;
+    }
+
+    public float getDelta() {
+        return currentHealth - previousHealth;
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        switch (key) {
+            case "entityId":
+                return entityId;
+            case "currentHealth":
+                return currentHealth;
+            case "previousHealth":
+                return previousHealth;
+            case "delta":
+                return getDelta();
+            default:
+                return super.getParameter(key);
+        }
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("entityId", entityId);
+        out.put("currentHealth", currentHealth);
+        out.put("previousHealth", previousHealth);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        entityId = null;
+        currentHealth = 0;
+        previousHealth = 0;
+    }
+}
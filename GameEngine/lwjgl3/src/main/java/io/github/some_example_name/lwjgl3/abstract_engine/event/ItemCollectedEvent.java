@@ -0,0 +1,61 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+/**
+ * Pooled event for an item picked up by an entity
+ */
+public class ItemCollectedEvent extends GameEvent {
+    private String itemId;
+    private String itemType;
+
+    public ItemCollectedEvent() {
+        super(ITEM_COLLECTED_ID);
+    }
+
+    /**
+     * Take an item collected event from the pool
+     * @param itemId ID of the collected item
+     * @param itemType Type of the collected item
+     */
+    public static ItemCollectedEvent obtain(String itemId, String itemType) {
+        ItemCollectedEvent event = obtain(ItemCollectedEvent.class);
+        event.itemId = itemId;
+        event.itemType = itemType;
+        return event;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public String getItemType() {
+        return itemType;
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        switch (key) {
+            case "itemId":
+                return itemId;
+            case "itemType":
+                return itemType;
+            default:
+                return super.getParameter(key);
+        }
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("itemId", itemId);
+        out.put("itemType", itemType);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        itemId = null;
+        itemType = null;
+    }
+}
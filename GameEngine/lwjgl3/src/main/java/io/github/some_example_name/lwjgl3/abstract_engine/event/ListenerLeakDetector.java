@@ -0,0 +1,71 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches listener counts per event type across checkpoints such as scene changes.
+ * A type whose listener count keeps growing from one checkpoint to the next usually
+ * means an owner was disposed without unregistering, and every dispatch of that
+ * type pays for it; such types are reported once per growth streak.
+ */
+public class ListenerLeakDetector {
+    private static final Logger LOGGER = Logger.getLogger(ListenerLeakDetector.class.getName());
+
+    // Consecutive checkpoints a count may grow before it is reported
+    private static final int GROWTH_LIMIT = 3;
+
+    private final Map<String, Integer> previousCounts = new HashMap<>();
+    private final Map<String, Integer> growthStreaks = new HashMap<>();
+
+    /**
+     * Take a checkpoint of the EventSystem's listener counts
+     * @param label Where the checkpoint was taken, e.g. the scene just entered
+     * @return Listener count per event type, sorted by type
+     */
+    public Map<String, Integer> check(String label) {
+        EventSystem eventSystem = EventSystem.getInstance();
+        eventSystem.purgeCollectedListeners();
+        Map<String, Integer> counts = new TreeMap<>(eventSystem.getListenerCounts());
+
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String type = entry.getKey();
+            int count = entry.getValue();
+            Integer previous = previousCounts.get(type);
+            if (previous != null && count > previous) {
+                int streak = growthStreaks.getOrDefault(type, 0) + 1;
+                growthStreaks.put(type, streak);
+                if (streak == GROWTH_LIMIT) {
+                    LOGGER.log(Level.WARNING, "Possible listener leak at {0}: \"{1}\" listeners grew for {2} checks to {3}",
+                        new Object[]{label, type, streak, count});
+                }
+            } else {
+                growthStreaks.remove(type);
+            }
+        }
+        previousCounts.clear();
+        previousCounts.putAll(counts);
+
+        LOGGER.log(Level.FINE, "Listeners at {0}: {1}", new Object[]{label, counts});
+        return counts;
+    }
+
+    /**
+     * Check that an owner which was just torn down left no listeners behind
+     * @param label The owner, e.g. the scene just disposed
+     * @param scope The owner's listener scope
+     * @return true if none of the scope's listeners are still registered
+     */
+    public boolean checkReleased(String label, ListenerScope scope) {
+        int remaining = scope.getActiveCount();
+        if (remaining > 0) {
+            LOGGER.log(Level.WARNING, "Listener leak at {0}: {1} listeners still registered after dispose",
+                new Object[]{label, remaining});
+            return false;
+        }
+        return true;
+    }
+}
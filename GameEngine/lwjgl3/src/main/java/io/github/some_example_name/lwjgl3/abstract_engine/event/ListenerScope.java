@@ -0,0 +1,83 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Group of event subscriptions that share an owner's lifetime.
+ * Scenes, entities and HUDs register through a scope and dispose it with themselves,
+ * so listeners of a dead owner can't pile up in the EventSystem.
+ */
+public class ListenerScope implements Disposable {
+    private final Array<EventSubscription> subscriptions = new Array<>(false, 4, EventSubscription.class);
+
+    /**
+     * Register a listener for as long as the scope lives
+     * @param eventType The type of event to listen for, or EventSystem.ALL_EVENTS
+     * @param listener The listener
+     * @return The subscription, to end it early
+     */
+    public EventSubscription listen(String eventType, EventSystem.EventListener listener) {
+        EventSubscription subscription = EventSystem.getInstance().subscribe(eventType, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Register a typed listener for as long as the scope lives
+     * @param eventType The type of event to listen for
+     * @param eventClass The payload class, e.g. ScoreChangedEvent
+     * @param listener The listener
+     * @return The subscription, to end it early
+     */
+    public <T extends GameEvent> EventSubscription listen(String eventType, Class<T> eventClass,
+            EventSystem.TypedEventListener<T> listener) {
+        EventSubscription subscription = EventSystem.getInstance().subscribe(eventType, eventClass, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Check if the scope is already subscribed to a type with a listener
+     */
+    public boolean isListening(String eventType, EventSystem.EventListener listener) {
+        for (EventSubscription subscription : subscriptions) {
+            if (subscription.isActive() && subscription.getListener() == listener
+                    && subscription.getEventType().equals(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of subscriptions made through the scope
+     */
+    public int size() {
+        return subscriptions.size;
+    }
+
+    /**
+     * Get the number of subscriptions in the scope that are still registered
+     */
+    public int getActiveCount() {
+        int count = 0;
+        for (EventSubscription subscription : subscriptions) {
+            if (subscription.isActive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Unregister every listener in the scope. The scope can be reused afterwards.
+     */
+    @Override
+    public void dispose() {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.dispose();
+        }
+        subscriptions.clear();
+    }
+}
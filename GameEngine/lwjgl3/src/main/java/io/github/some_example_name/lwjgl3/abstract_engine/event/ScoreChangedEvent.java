@@ -0,0 +1,75 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.event;
+
+import java.util.Map;
+
+/**
+ * Pooled event for a change in score
+ */
+public class ScoreChangedEvent extends GameEvent {
+    private int newScore;
+    private int oldScore;
+
+    public ScoreChangedEvent() {
+        super(SCORE_CHANGED_ID);
+    }
+
+    /**
+     * Take a score changed event from the pool
+     * @param newScore New score value
+     * @param oldScore Previous score value
+     */
+    public static ScoreChangedEvent obtain(int newScore, int oldScore) {
+        ScoreChangedEvent event = obtain(ScoreChangedEvent.class);
+        event.newScore = newScore;
+        event.oldScore = oldScore;
+        return event;
+    }
+
+    public int getNewScore() {
+        return newScore;
+    }
+
+    public int getOldScore() {
+        return oldScore;
+    }
+
+    public int getDelta() {
+        return newScore - oldScore;
+    }
+
+    @Override
+    protected void coalesce(GameEvent older) {
+        // Report the change across the whole batch, not just the last step
+        if (older instanceof ScoreChangedEvent) {
+            oldScore = ((ScoreChangedEvent) older).oldScore;
+        }
+    }
+
+    @Override
+    protected Object getParameter(String key) {
+        switch (key) {
+            case "newScore":
+                return newScore;
+            case "oldScore":
+                return oldScore;
+            case "delta":
+                return getDelta();
+            default:
+                return super.getParameter(key);
+        }
+    }
+
+    @Override
+    public void collectParameters(Map<String, Object> out) {
+        super.collectParameters(out);
+        out.put("newScore", newScore);
+        out.put("oldScore", oldScore);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        newScore = 0;
+        oldScore = 0;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.util.Iterator;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * List of assets a scene needs before it can be initialized.
+ * The SceneManager hands the manifest to the ResourceManager so the assets
+ * are streamed in ahead of time instead of being loaded inside initialize().
+ */
+public class AssetManifest implements Iterable<AssetDescriptor<?>> {
+    private final Array<AssetDescriptor<?>> assets = new Array<>();
+
+    /**
+     * Add an asset to the manifest. Duplicates are ignored.
+     * @param filePath Path to the asset file
+     * @param type Asset class (Texture, Sound, Music, BitmapFont, Skin, ...)
+     * @return This manifest (for chaining)
+     */
+    public <T> AssetManifest add(String filePath, Class<T> type) {
+        if (!contains(filePath)) {
+            assets.add(new AssetDescriptor<>(filePath, type));
+        }
+        return this;
+    }
+
+    /**
+     * Add several assets of the same type
+     * @param filePaths Paths to the asset files
+     * @param type Asset class
+     * @return This manifest (for chaining)
+     */
+    public <T> AssetManifest addAll(String[] filePaths, Class<T> type) {
+        for (String filePath : filePaths) {
+            add(filePath, type);
+        }
+        return this;
+    }
+
+    /**
+     * Check if the manifest lists an asset
+     * @param filePath Path to the asset file
+     */
+    public boolean contains(String filePath) {
+        for (AssetDescriptor<?> descriptor : assets) {
+            if (descriptor.fileName.equals(filePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of assets in the manifest
+     */
+    public int size() {
+        return assets.size;
+    }
+
+    /**
+     * Check if the manifest lists no assets
+     */
+    public boolean isEmpty() {
+        return assets.size == 0;
+    }
+
+    @Override
+    public Iterator<AssetDescriptor<?>> iterator() {
+        return new Array.ArrayIterator<>(assets);
+    }
+}
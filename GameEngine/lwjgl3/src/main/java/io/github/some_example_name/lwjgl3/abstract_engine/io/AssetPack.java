@@ -0,0 +1,261 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Read-only view of the assets.pack archive written by the packAssets build step.
+ * The whole file is memory-mapped once; entries are returned as slices of the mapping,
+ * so reading an asset needs no open/read/close and no copy until a loader consumes it.
+ *
+ * Layout (big-endian): magic "GPAK", version, entry count, then per entry a short byte
+ * count and UTF-8 path, a long offset and an int length, followed by the file contents.
+ */
+public class AssetPack implements FileHandleResolver {
+    public static final String FILE_NAME = "assets.pack";
+    // System property holding the pack's path; the Gradle run task sets it
+    public static final String PATH_PROPERTY = "gdx.assetPack";
+
+    private static final int MAGIC = 0x4750414B; // "GPAK"
+    private static final int VERSION = 1;
+
+    private final MappedByteBuffer data;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    private AssetPack(MappedByteBuffer data) {
+        this.data = data;
+        readIndex();
+    }
+
+    /**
+     * Map the pack named by the {@link #PATH_PROPERTY} system property.
+     * A pack older than any of the loose files it holds is ignored, so assets edited
+     * since the last build aren't shadowed by their packed copies.
+     * @return The pack, or null to read loose files (no pack, e.g. when running from a jar, or stale)
+     */
+    public static AssetPack openDefault() {
+        String path = System.getProperty(PATH_PROPERTY);
+        if (path == null) {
+            return null;
+        }
+        File file = new File(path);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            AssetPack pack = open(file);
+            String edited = pack.findNewerLooseFile(file.lastModified());
+            if (edited != null) {
+                Gdx.app.log("AssetPack", edited + " changed since " + file + " was built, using loose files");
+                return null;
+            }
+            return pack;
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("AssetPack", "Couldn't open " + file + ", using loose files", e);
+            return null;
+        }
+    }
+
+    /**
+     * Map a pack file
+     * @param file The pack on disk
+     */
+    public static AssetPack open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new AssetPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private void readIndex() {
+        ByteBuffer index = data.duplicate();
+        if (index.getInt() != MAGIC || index.getInt() != VERSION) {
+            throw new GdxRuntimeException("Not an asset pack");
+        }
+        int count = index.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[index.getShort() & 0xFFFF];
+            index.get(name);
+            long offset = index.getLong();
+            int length = index.getInt();
+            entries.put(new String(name, StandardCharsets.UTF_8), new Entry((int) offset, length));
+        }
+    }
+
+    /**
+     * Find a packed file whose loose copy was modified after the given time
+     * @param packModified When the pack was written, in milliseconds
+     * @return The file's path, or null if the pack is up to date
+     */
+    private String findNewerLooseFile(long packModified) {
+        for (String path : entries.keys()) {
+            if (Gdx.files.internal(path).file().lastModified() > packModified) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the pack holds a file
+     * @param path Asset path relative to the assets folder
+     */
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Get the number of files in the pack
+     */
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Get a file's contents as a read-only slice of the mapping (no copy)
+     * @param path Asset path relative to the assets folder
+     * @return The contents, or null if the pack doesn't hold the file
+     */
+    public ByteBuffer slice(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer view = data.asReadOnlyBuffer();
+        view.position(entry.offset);
+        view.limit(entry.offset + entry.length);
+        return view.slice();
+    }
+
+    /**
+     * Resolve an asset path to a packed file, or a loose internal file if it isn't packed
+     */
+    @Override
+    public FileHandle resolve(String fileName) {
+        String path = fileName.replace('\\', '/');
+        Entry entry = entries.get(path);
+        return entry != null ? new PackedFileHandle(path, entry.length) : Gdx.files.internal(fileName);
+    }
+
+    private static class Entry {
+        final int offset;
+        final int length;
+
+        Entry(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * File handle reading from a pack entry. Paths of related files (siblings, children)
+     * resolve through the pack again, falling back to loose files.
+     */
+    public class PackedFileHandle extends FileHandle {
+        private final int length;
+
+        PackedFileHandle(String path, int length) {
+            super(new File(path), FileType.Internal);
+            this.length = length;
+        }
+
+        /**
+         * Get the contents as a read-only slice of the pack mapping
+         */
+        public ByteBuffer slice() {
+            return AssetPack.this.slice(path());
+        }
+
+        @Override
+        public InputStream read() {
+            return new ByteBufferInputStream(slice());
+        }
+
+        @Override
+        public byte[] readBytes() {
+            byte[] bytes = new byte[length];
+            slice().get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public FileHandle child(String name) {
+            return resolve(path().isEmpty() ? name : path() + "/" + name);
+        }
+
+        @Override
+        public FileHandle sibling(String name) {
+            String parent = parent().path();
+            return resolve(parent.isEmpty() ? name : parent + "/" + name);
+        }
+
+        @Override
+        public FileHandle parent() {
+            File parent = file().getParentFile();
+            return Gdx.files.internal(parent == null ? "" : parent.getPath().replace('\\', '/'));
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
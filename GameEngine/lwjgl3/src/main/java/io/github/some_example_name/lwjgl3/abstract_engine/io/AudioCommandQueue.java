@@ -0,0 +1,144 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs audio work on a dedicated thread so loading, decoding and delays never hold up a frame.
+ * Commands are posted through a lock-free queue from any thread and run in posting order;
+ * delayed commands wait on the audio thread, not the caller's.
+ */
+public class AudioCommandQueue {
+    private static final Logger LOGGER = Logger.getLogger(AudioCommandQueue.class.getName());
+
+    private final ConcurrentLinkedQueue<Command> incoming = new ConcurrentLinkedQueue<>();
+    // Only touched by the audio thread
+    private final PriorityQueue<Command> scheduled = new PriorityQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long sequence;
+
+    /**
+     * Create a command queue and start its thread
+     * @param name Name of the audio thread
+     */
+    public AudioCommandQueue(String name) {
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Run a command on the audio thread as soon as possible
+     */
+    public void post(Runnable task) {
+        postAt(task, 0L);
+    }
+
+    /**
+     * Run a command on the audio thread after a delay
+     * @param task The command
+     * @param delaySeconds Delay before it runs
+     */
+    public void postDelayed(Runnable task, float delaySeconds) {
+        postAt(task, System.nanoTime() + (long) (delaySeconds * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private void postAt(Runnable task, long dueNanos) {
+        if (!running) {
+            return;
+        }
+        incoming.offer(new Command(task, dueNanos));
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Check if the calling thread is the audio thread
+     */
+    public boolean isAudioThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Run a last command after everything already posted, drop pending delayed commands
+     * and stop the thread
+     * @param finalTask Command to run before the thread ends, e.g. releasing audio resources
+     * @param timeoutMillis How long to wait for the thread to finish
+     */
+    public void shutdown(Runnable finalTask, long timeoutMillis) {
+        post(() -> {
+            running = false;
+            scheduled.clear();
+            finalTask.run();
+        });
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOGGER.log(Level.WARNING, "Audio thread did not stop within {0} ms", timeoutMillis);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long now = System.nanoTime();
+
+            Command command;
+            while (running && (command = incoming.poll()) != null) {
+                if (command.dueNanos - now > 0) {
+                    command.sequence = sequence++;
+                    scheduled.add(command);
+                } else {
+                    execute(command);
+                }
+            }
+
+            while (running && !scheduled.isEmpty() && scheduled.peek().dueNanos - System.nanoTime() <= 0) {
+                execute(scheduled.poll());
+            }
+
+            if (running && incoming.isEmpty()) {
+                if (scheduled.isEmpty()) {
+                    LockSupport.park(this);
+                } else {
+                    LockSupport.parkNanos(this, scheduled.peek().dueNanos - System.nanoTime());
+                }
+            }
+        }
+    }
+
+    private void execute(Command command) {
+        try {
+            command.task.run();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Audio command failed", e);
+        }
+    }
+
+    private static class Command implements Comparable<Command> {
+        final Runnable task;
+        final long dueNanos;
+        // Keeps commands due at the same time in posting order
+        long sequence;
+
+        Command(Runnable task, long dueNanos) {
+            this.task = task;
+            this.dueNanos = dueNanos;
+        }
+
+        @Override
+        public int compareTo(Command other) {
+            long diff = dueNanos - other.dueNanos;
+            if (diff != 0) {
+                return diff < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
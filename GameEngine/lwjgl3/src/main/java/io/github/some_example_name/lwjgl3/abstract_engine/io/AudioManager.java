@@ -1,39 +1,99 @@
 package io.github.some_example_name.lwjgl3.abstract_engine.io;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.backends.lwjgl3.audio.OpenALSound;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectSet;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.config.GameConfig;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
 
 /**
  * AudioManager handles all audio playback in the game.
  * Manages sound effects and background music with better resource management.
+ * Calls return immediately: sound effects are decoded on a dedicated audio thread, so
+ * first-use loads and delayed starts never block a frame. The backend's OpenAL source
+ * bookkeeping isn't thread-safe, so everything that plays, stops or disposes a sound or
+ * music track runs on the render thread; the audio thread only loads and times delays.
  */
 public class AudioManager implements Disposable {
     private static final Logger LOGGER = Logger.getLogger(AudioManager.class.getName());
     
-    // Audio resource caches
+    // Sound priorities; a sound can steal voices from lower priorities when all are busy
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+    
+    // Published when a music track starts; the "file" parameter holds its path
+    public static final String MUSIC_STARTED = "music_started";
+    
+    private final AudioCommandQueue commands = new AudioCommandQueue("audio");
+    // Sound commands from other threads, run by update() on the render thread
+    private final Thread renderThread = Thread.currentThread();
+    private final ConcurrentLinkedQueue<Runnable> renderCommands = new ConcurrentLinkedQueue<>();
+    
+    // Sound file to voice pool handle; handles are handed out on the caller's thread
+    // and the sound behind them is loaded on the audio thread
+    private final Map<String, Integer> soundHandles = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSoundHandle = new AtomicInteger();
+    // Decoded size of each loaded sound effect
+    private final Map<String, Long> clipBytes = new ConcurrentHashMap<>();
+    
+    // Preloaded sounds owned by the ResourceManager, only touched by the render thread
+    private final Array<AssetManifest> pendingPreloads = new Array<>();
+    private final ObjectSet<String> sharedSounds = new ObjectSet<>();
+    
+    // Sounds loaded by the audio thread itself, and the voices playing them; only touched by the render thread
     private final Map<String, Sound> soundEffects = new HashMap<>();
+    private final SoundVoicePool voices = new SoundVoicePool(MAX_VOICES);
+    // Voice pool counters, copied once per frame so any thread can read them
+    private volatile int activeVoices;
+    private volatile int stolenVoices;
+    private volatile int droppedVoices;
+    // Music, only touched by the render thread (the backend streams it from there)
     private final Map<String, Music> musicTracks = new HashMap<>();
-    
-    // Current state
     private Music currentMusic;
-    private float musicVolume;
-    private float soundVolume;
-    private boolean isMusicPlaying = false;
-    private boolean isMusicPaused = false;
-    private String currentMusicFile = "";
+    
+    // Current state, written by the audio or render thread and readable from any thread
+    private volatile float musicVolume;
+    private volatile float soundVolume;
+    private volatile boolean isMusicPlaying = false;
+    private volatile boolean isMusicPaused = false;
+    private volatile String currentMusicFile = "";
+    
+    // Bumped by every music command so a delayed start loses to anything issued after it
+    private final AtomicInteger musicGeneration = new AtomicInteger();
     
     // Default values
     private static final float DEFAULT_MUSIC_VOLUME = 0.7f;
     private static final float DEFAULT_SOUND_VOLUME = 0.8f;
+    // Cap on sound instances playing at once, below OpenAL's default of 16 sources
+    private static final int MAX_VOICES = 12;
+    private static final int DEFAULT_MAX_INSTANCES = 3;
+    // Compressed sound effects are assumed to be ~128 kbit/s when estimating their length
+    private static final float COMPRESSED_BYTES_PER_SECOND = 16000f;
+    private static final float PCM_BYTES_PER_SECOND = 44100f * 2 * 2;
+    // Rough PCM-to-file size ratio for compressed sound effects
+    private static final int COMPRESSED_AUDIO_RATIO = 10;
+    // Render-thread time per frame spent on preloads outside scene transitions
+    private static final int PRELOAD_BUDGET_MILLIS = 1;
+    // How long dispose waits for queued commands to finish
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
     
     /**
      * Create a new AudioManager
@@ -51,53 +111,293 @@ public class AudioManager implements Disposable {
     /**
      * Play a sound effect with default volume
      * @param file The sound file to play
-     * @return The sound ID (can be used to stop or modify the sound)
      */
-    public long playSound(String file) {
-        return playSound(file, soundVolume);
+    public void playSound(String file) {
+        playSound(file, soundVolume);
     }
     
     /**
      * Play a sound effect with specific volume
      * @param file The sound file to play
      * @param volume Volume level (0.0 to 1.0)
-     * @return The sound ID (can be used to stop or modify the sound)
      */
-    public long playSound(String file, float volume) {
+    public void playSound(String file, float volume) {
         if (file == null || file.isEmpty()) {
             LOGGER.log(Level.WARNING, "Attempted to play null or empty sound file");
-            return -1;
+            return;
+        }
+        playSound(getSoundHandle(file), volume);
+    }
+    
+    /**
+     * Play a sound effect by handle with default volume
+     * @param handle Handle from {@link #getSoundHandle(String)} or {@link #registerSound}
+     */
+    public void playSound(int handle) {
+        playSound(handle, soundVolume);
+    }
+    
+    /**
+     * Play a sound effect by handle with specific volume.
+     * If the sound or the mixer is at its voice limit an older or lower-priority voice is stopped.
+     * @param handle Handle from {@link #getSoundHandle(String)} or {@link #registerSound}
+     * @param volume Volume level (0.0 to 1.0)
+     */
+    public void playSound(int handle, float volume) {
+        runOnRenderThread(() -> voices.play(handle, volume));
+    }
+    
+    /**
+     * Play a sound effect by handle after a delay
+     * @param handle Handle from {@link #getSoundHandle(String)} or {@link #registerSound}
+     * @param volume Volume level (0.0 to 1.0)
+     * @param delaySeconds Delay before the sound starts
+     */
+    public void playSound(int handle, float volume, float delaySeconds) {
+        // The audio thread waits out the delay; the play itself runs on the render thread
+        commands.postDelayed(() -> renderCommands.add(() -> voices.play(handle, volume)), delaySeconds);
+    }
+    
+    /**
+     * Resolve a sound file to a handle, queueing a load with default voice limits if needed.
+     * Callers that play a sound often should resolve it once and keep the handle.
+     * Call from the render thread.
+     * @param file The sound file
+     * @return The handle; plays of a sound that failed to load are ignored
+     */
+    public int getSoundHandle(String file) {
+        Integer handle = soundHandles.get(file);
+        if (handle != null) {
+            return handle;
+        }
+        return registerSound(file, DEFAULT_MAX_INSTANCES, PRIORITY_NORMAL);
+    }
+    
+    /**
+     * Set a sound's voice limits, queueing a load if it isn't known yet.
+     * Sounds loaded through {@link #preload(AssetManifest)} are shared with the ResourceManager;
+     * others are loaded on the audio thread. Call from the render thread.
+     * @param file The sound file
+     * @param maxInstances Cap on instances of this sound playing at once
+     * @param priority One of the PRIORITY constants
+     * @return The handle; plays of a sound that failed to load are ignored
+     */
+    public int registerSound(String file, int maxInstances, int priority) {
+        Integer existing = soundHandles.get(file);
+        if (existing != null) {
+            int handle = existing;
+            runOnRenderThread(() -> voices.configure(handle, maxInstances, priority));
+            return handle;
         }
         
-        try {
-            Sound sound = getSound(file);
-            if (sound != null) {
-                // Stop the sound if it's already playing to prevent overlapping
-                sound.stop();
-                return sound.play(volume);
+        int handle = allocateHandle(file, maxInstances, priority);
+        if (ResourceManager.getInstance().isLoaded(file)) {
+            // Already decoded by the shared pipeline (e.g. a scene manifest)
+            adopt(file, handle);
+        } else {
+            commands.post(() -> {
+                Sound sound = loadSound(file);
+                if (sound != null) {
+                    clipBytes.put(file, getClipBytes(sound, file));
+                    float duration = getDuration(sound, file);
+                    renderCommands.add(() -> attachSound(file, handle, sound, duration));
+                }
+            });
+        }
+        return handle;
+    }
+    
+    private int allocateHandle(String file, int maxInstances, int priority) {
+        int handle = nextSoundHandle.getAndIncrement();
+        soundHandles.put(file, handle);
+        runOnRenderThread(() -> voices.configure(handle, maxInstances, priority));
+        return handle;
+    }
+    
+    /**
+     * Attach a sound the audio thread loaded, unless it was disposed while loading
+     */
+    private void attachSound(String file, int handle, Sound sound, float duration) {
+        Integer current = soundHandles.get(file);
+        if (current == null || current != handle) {
+            if (current == null) {
+                clipBytes.remove(file);
             }
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error playing sound: {0}", e.getMessage());
+            sound.dispose();
+            return;
         }
-        return -1;
+        soundEffects.put(file, sound);
+        voices.setSound(handle, sound, duration);
     }
     
     /**
-     * Get a sound from the cache or load it if not present
+     * Run a sound command now on the render thread, or on the next update() from any other thread
      */
-    private Sound getSound(String file) {
-        // Check if sound exists in the cache
-        if (!soundEffects.containsKey(file)) {
+    private void runOnRenderThread(Runnable command) {
+        if (Thread.currentThread() == renderThread) {
+            command.run();
+        } else {
+            renderCommands.add(command);
+        }
+    }
+    
+    /**
+     * Decode the sound effects in a manifest ahead of their first play.
+     * They are loaded through the ResourceManager alongside scene assets and handed
+     * to the audio thread once decoded; until then plays of them are skipped.
+     * Call from the render thread, e.g. at startup or when a scene is loaded.
+     * @param manifest Assets to preload; entries that aren't sounds are ignored
+     */
+    public void preload(AssetManifest manifest) {
+        AssetManifest sounds = new AssetManifest();
+        for (AssetDescriptor<?> descriptor : manifest) {
+            if (descriptor.type == Sound.class && !soundHandles.containsKey(descriptor.fileName)) {
+                sounds.add(descriptor.fileName, Sound.class);
+                allocateHandle(descriptor.fileName, DEFAULT_MAX_INSTANCES, PRIORITY_NORMAL);
+            }
+        }
+        if (sounds.isEmpty()) {
+            return;
+        }
+        ResourceManager.getInstance().load(sounds);
+        pendingPreloads.add(sounds);
+        update();
+    }
+    
+    /**
+     * Run sound commands from other threads, and attach preloaded sounds once the
+     * ResourceManager has decoded them. Call once per frame from the render thread.
+     */
+    public void update() {
+        Runnable command;
+        while ((command = renderCommands.poll()) != null) {
             try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(file));
-                soundEffects.put(file, sound);
-                return sound;
+                command.run();
             } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Error loading sound {0}: {1}", new Object[]{file, e.getMessage()});
-                return null;
+                LOGGER.log(Level.SEVERE, "Sound command failed", e);
             }
         }
-        return soundEffects.get(file);
+        activeVoices = voices.getActiveVoices();
+        stolenVoices = voices.getStolenCount();
+        droppedVoices = voices.getDroppedCount();
+        
+        if (pendingPreloads.size == 0) {
+            return;
+        }
+        ResourceManager resources = ResourceManager.getInstance();
+        resources.updateWithBudget(PRELOAD_BUDGET_MILLIS);
+        for (int i = pendingPreloads.size - 1; i >= 0; i--) {
+            AssetManifest manifest = pendingPreloads.get(i);
+            if (!resources.isFinished(manifest)) {
+                continue;
+            }
+            for (AssetDescriptor<?> descriptor : manifest) {
+                Integer handle = soundHandles.get(descriptor.fileName);
+                if (handle != null && resources.isLoaded(descriptor.fileName)) {
+                    adopt(descriptor.fileName, handle);
+                }
+            }
+            // The adopted handles keep the sounds resident from here on
+            resources.unload(manifest);
+            pendingPreloads.removeIndex(i);
+            LOGGER.log(Level.INFO, "Sounds preloaded: {0}", getMemoryReport());
+        }
+    }
+    
+    /**
+     * Take a ResourceManager handle on a decoded sound and attach it to a voice pool handle
+     */
+    private void adopt(String file, int handle) {
+        if (sharedSounds.contains(file)) {
+            return;
+        }
+        Sound sound = ResourceManager.getInstance().acquire(file, Sound.class);
+        sharedSounds.add(file);
+        clipBytes.put(file, getClipBytes(sound, file));
+        voices.setSound(handle, sound, getDuration(sound, file));
+    }
+    
+    /**
+     * Get how long a sound plays, exactly for OpenAL sounds and estimated from the file size otherwise
+     */
+    private static float getDuration(Sound sound, String file) {
+        if (sound instanceof OpenALSound) {
+            return ((OpenALSound) sound).duration();
+        }
+        long bytes = Gdx.files.internal(file).length();
+        float bytesPerSecond = file.endsWith(".wav") ? PCM_BYTES_PER_SECOND : COMPRESSED_BYTES_PER_SECOND;
+        return Math.max(0.1f, bytes / bytesPerSecond);
+    }
+    
+    /**
+     * Get the memory a decoded sound takes: its 16-bit PCM buffer for OpenAL sounds,
+     * or an estimate from the file size otherwise
+     * @param sound The loaded sound
+     * @param file The sound file
+     * @return Size in bytes
+     */
+    static long getClipBytes(Sound sound, String file) {
+        if (sound instanceof OpenALSound) {
+            OpenALSound clip = (OpenALSound) sound;
+            return (long) (clip.duration() * clip.getRate()) * clip.getChannels() * 2;
+        }
+        long fileBytes = Gdx.files.internal(file).length();
+        return file.endsWith(".wav") ? fileBytes : fileBytes * COMPRESSED_AUDIO_RATIO;
+    }
+    
+    /**
+     * Get the memory held by one loaded sound effect
+     * @param file The sound file
+     * @return Size in bytes, or 0 if the sound isn't loaded
+     */
+    public long getClipBytes(String file) {
+        Long bytes = clipBytes.get(file);
+        return bytes != null ? bytes : 0;
+    }
+    
+    /**
+     * Get the memory held by all loaded sound effects
+     */
+    public long getTotalClipBytes() {
+        long total = 0;
+        for (long bytes : clipBytes.values()) {
+            total += bytes;
+        }
+        return total;
+    }
+    
+    /**
+     * Describe the memory held by each loaded sound effect, largest first
+     */
+    public String getMemoryReport() {
+        List<Map.Entry<String, Long>> clips = new ArrayList<>(clipBytes.entrySet());
+        clips.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        StringBuilder report = new StringBuilder();
+        report.append(clips.size()).append(" clips, ").append(getTotalClipBytes() / 1024).append("KB");
+        for (Map.Entry<String, Long> clip : clips) {
+            report.append("\n  ").append(clip.getKey()).append(": ").append(clip.getValue() / 1024).append("KB");
+        }
+        return report.toString();
+    }
+    
+    /**
+     * Get the voice pool's counters for diagnostics, as of the last update()
+     */
+    public String getVoiceStatistics() {
+        return String.format("voices=%d/%d stolen=%d dropped=%d",
+                activeVoices, MAX_VOICES, stolenVoices, droppedVoices);
+    }
+    
+    /**
+     * Load a sound effect. Runs on the audio thread; the sound is attached on the render thread.
+     */
+    private Sound loadSound(String file) {
+        try {
+            return Gdx.audio.newSound(Gdx.files.internal(file));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error loading sound {0}: {1}", new Object[]{file, e.getMessage()});
+            return null;
+        }
     }
     
     /**
@@ -109,14 +409,38 @@ public class AudioManager implements Disposable {
             LOGGER.log(Level.WARNING, "Attempted to play null or empty music file");
             return;
         }
-        
+        musicGeneration.incrementAndGet();
+        Gdx.app.postRunnable(() -> startMusic(file));
+    }
+    
+    /**
+     * Play music after a delay, looping continuously.
+     * The start is skipped if any other music call is made before it is due.
+     * @param file The music file to play
+     * @param delaySeconds Delay before the music starts
+     */
+    public void playMusic(String file, float delaySeconds) {
+        if (file == null || file.isEmpty()) {
+            LOGGER.log(Level.WARNING, "Attempted to play null or empty music file");
+            return;
+        }
+        int generation = musicGeneration.incrementAndGet();
+        // The audio thread waits out the delay; the start itself runs on the render thread
+        commands.postDelayed(() -> Gdx.app.postRunnable(() -> {
+            if (musicGeneration.get() == generation) {
+                startMusic(file);
+            }
+        }), delaySeconds);
+    }
+    
+    private void startMusic(String file) {
         // Don't restart the same music that's already playing
         if (isMusicPlaying && !isMusicPaused && file.equals(currentMusicFile)) {
             return;
         }
         
         // Stop any currently playing music
-        stopMusic();
+        haltMusic();
         
         try {
             currentMusic = getMusicTrack(file);
@@ -130,6 +454,8 @@ public class AudioManager implements Disposable {
                 currentMusicFile = file;
                 
                 LOGGER.log(Level.INFO, "Playing music: {0}", file);
+                // Delivered with the other queued events, after the frame's updates
+                EventSystem.getInstance().publishEvent(new GameEvent(MUSIC_STARTED).setParameter("file", file));
             }
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error playing music {0}: {1}", new Object[]{file, e.getMessage()});
@@ -155,9 +481,14 @@ public class AudioManager implements Disposable {
     }
     
     /**
-     * Stop the currently playing music
+     * Stop the currently playing music, including any delayed start that is still pending
      */
     public void stopMusic() {
+        musicGeneration.incrementAndGet();
+        Gdx.app.postRunnable(this::haltMusic);
+    }
+    
+    private void haltMusic() {
         if (currentMusic != null) {
             currentMusic.stop();
             isMusicPlaying = false;
@@ -171,22 +502,28 @@ public class AudioManager implements Disposable {
      * Pause the currently playing music
      */
     public void pauseMusic() {
-        if (currentMusic != null && isMusicPlaying && !isMusicPaused) {
-            currentMusic.pause();
-            isMusicPaused = true;
-            LOGGER.log(Level.FINE, "Music paused");
-        }
+        musicGeneration.incrementAndGet();
+        Gdx.app.postRunnable(() -> {
+            if (currentMusic != null && isMusicPlaying && !isMusicPaused) {
+                currentMusic.pause();
+                isMusicPaused = true;
+                LOGGER.log(Level.FINE, "Music paused");
+            }
+        });
     }
     
     /**
      * Resume paused music
      */
     public void resumeMusic() {
-        if (currentMusic != null && isMusicPaused) {
-            currentMusic.play();
-            isMusicPaused = false;
-            LOGGER.log(Level.FINE, "Music resumed");
-        }
+        musicGeneration.incrementAndGet();
+        Gdx.app.postRunnable(() -> {
+            if (currentMusic != null && isMusicPaused) {
+                currentMusic.play();
+                isMusicPaused = false;
+                LOGGER.log(Level.FINE, "Music resumed");
+            }
+        });
     }
     
     /**
@@ -201,9 +538,11 @@ public class AudioManager implements Disposable {
      */
     public void setMusicVolume(float volume) {
         musicVolume = Math.max(0f, Math.min(1f, volume));
-        if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
-        }
+        Gdx.app.postRunnable(() -> {
+            if (currentMusic != null) {
+                currentMusic.setVolume(musicVolume);
+            }
+        });
         
         // Update saved configuration
         GameConfig.getInstance().setMusicVolume(musicVolume);
@@ -250,56 +589,81 @@ public class AudioManager implements Disposable {
     }
     
     /**
-     * Stop and remove a specific sound from the cache
+     * Stop and remove a specific sound from the cache.
+     * Call from the render thread.
      */
     public void disposeSound(String file) {
-        Sound sound = soundEffects.remove(file);
-        if (sound != null) {
-            sound.stop();
-            sound.dispose();
-            LOGGER.log(Level.FINE, "Disposed sound: {0}", file);
+        Integer handle = soundHandles.remove(file);
+        clipBytes.remove(file);
+        if (sharedSounds.remove(file)) {
+            // The ResourceManager caches the sound until it is evicted, well after the unregister below runs
+            ResourceManager.getInstance().release(file);
         }
+        runOnRenderThread(() -> {
+            if (handle != null) {
+                voices.unregister(handle);
+            }
+            Sound sound = soundEffects.remove(file);
+            if (sound != null) {
+                sound.stop();
+                sound.dispose();
+                LOGGER.log(Level.FINE, "Disposed sound: {0}", file);
+            }
+        });
     }
     
     /**
      * Stop and remove a specific music track from the cache
      */
     public void disposeMusic(String file) {
-        Music music = musicTracks.remove(file);
-        if (music != null) {
-            if (currentMusic == music) {
-                currentMusic = null;
-                isMusicPlaying = false;
-                isMusicPaused = false;
-                currentMusicFile = "";
+        Gdx.app.postRunnable(() -> {
+            Music music = musicTracks.remove(file);
+            if (music != null) {
+                if (currentMusic == music) {
+                    currentMusic = null;
+                    isMusicPlaying = false;
+                    isMusicPaused = false;
+                    currentMusicFile = "";
+                }
+                music.stop();
+                music.dispose();
+                LOGGER.log(Level.FINE, "Disposed music: {0}", file);
             }
-            music.stop();
-            music.dispose();
-            LOGGER.log(Level.FINE, "Disposed music: {0}", file);
-        }
+        });
     }
     
     /**
-     * Dispose of all audio resources
+     * Dispose of all audio resources once queued commands have run, and stop the audio thread.
+     * Call from the render thread before the ResourceManager is disposed.
      */
     @Override
     public void dispose() {
         LOGGER.log(Level.INFO, "Disposing AudioManager");
+        releaseMusic();
+        // Stop the loader first so nothing new is handed over, then release on this thread
+        commands.shutdown(() -> { }, SHUTDOWN_TIMEOUT_MILLIS);
+        releaseSounds();
         
+        // Hand preloaded sounds back to the ResourceManager now that nothing plays them
+        ResourceManager resources = ResourceManager.getInstance();
+        for (AssetManifest manifest : pendingPreloads) {
+            resources.unload(manifest);
+        }
+        pendingPreloads.clear();
+        for (String file : sharedSounds) {
+            resources.release(file);
+        }
+        sharedSounds.clear();
+        clipBytes.clear();
+    }
+    
+    private void releaseMusic() {
         // Stop current music
         if (currentMusic != null) {
             currentMusic.stop();
             currentMusic = null;
         }
         
-        // Dispose all sound effects
-        for (Map.Entry<String, Sound> entry : soundEffects.entrySet()) {
-            if (entry.getValue() != null) {
-                entry.getValue().dispose();
-            }
-        }
-        soundEffects.clear();
-        
         // Dispose all music tracks
         for (Map.Entry<String, Music> entry : musicTracks.entrySet()) {
             if (entry.getValue() != null) {
@@ -312,4 +676,25 @@ public class AudioManager implements Disposable {
         isMusicPaused = false;
         currentMusicFile = "";
     }
-}
\ No newline at end of file
+    
+    private void releaseSounds() {
+        // Run what is still queued so sounds loaded but not yet attached are disposed below
+        Runnable command;
+        while ((command = renderCommands.poll()) != null) {
+            command.run();
+        }
+        
+        // Dispose all sound effects
+        voices.stopAll();
+        for (Integer handle : soundHandles.values()) {
+            voices.unregister(handle);
+        }
+        soundHandles.clear();
+        for (Map.Entry<String, Sound> entry : soundEffects.entrySet()) {
+            if (entry.getValue() != null) {
+                entry.getValue().dispose();
+            }
+        }
+        soundEffects.clear();
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 
 /**
@@ -22,6 +23,20 @@ public class DynamicInput extends InputAdapter {
     private BitmapFont debugFont;
     private SpriteBatch debugBatch;
     private boolean debugMode = false;
+    // Set while a recorded session is replayed; queries then read it instead of the devices
+    private InputFrame replayFrame;
+    // Fixed-step input: presses seen by frames are handed to exactly one simulation tick
+    private final IntArray pendingPresses = new IntArray();
+    private final IntArray tickPresses = new IntArray();
+    // Keys held when the frame started; ticks may run on a thread that can't poll the devices
+    private final IntArray heldKeys = new IntArray();
+    // Mouse position and screen size when the frame started, served to ticks the same way
+    private int latchedMouseX;
+    private int latchedMouseY;
+    private int latchedScreenWidth;
+    private int latchedScreenHeight;
+    private boolean fixedStep;
+    private float tickDeltaTime;
     
     // Constants
     private static final int DEBUG_TEXT_X_OFFSET = 120;
@@ -77,6 +92,12 @@ public class DynamicInput extends InputAdapter {
      * @return true if the key is pressed
      */
     public boolean isKeyPressed(int keycode) {
+        if (fixedStep && replayFrame == null) {
+            return keycode == Input.Keys.ANY_KEY ? heldKeys.size > 0 : heldKeys.contains(keycode);
+        }
+        if (replayFrame != null) {
+            return replayFrame.isKeyPressed(keycode);
+        }
         return Gdx.input.isKeyPressed(keycode);
     }
     
@@ -86,6 +107,12 @@ public class DynamicInput extends InputAdapter {
      * @return true if the key was just pressed
      */
     public boolean isKeyJustPressed(int keycode) {
+        if (fixedStep) {
+            return keycode == Input.Keys.ANY_KEY ? tickPresses.size > 0 : tickPresses.contains(keycode);
+        }
+        if (replayFrame != null) {
+            return replayFrame.isKeyJustPressed(keycode);
+        }
         return Gdx.input.isKeyJustPressed(keycode);
     }
     
@@ -93,6 +120,12 @@ public class DynamicInput extends InputAdapter {
      * Get the current mouse X position
      */
     public int getMouseX() {
+        if (replayFrame != null) {
+            return replayFrame.getMouseX();
+        }
+        if (fixedStep) {
+            return latchedMouseX;
+        }
         return Gdx.input.getX();
     }
     
@@ -100,9 +133,113 @@ public class DynamicInput extends InputAdapter {
      * Get the current mouse Y position
      */
     public int getMouseY() {
+        if (replayFrame != null) {
+            return replayFrame.getMouseY();
+        }
+        if (fixedStep) {
+            return latchedMouseY;
+        }
         return Gdx.input.getY();
     }
     
+    /**
+     * Get the screen width in pixels, as of the start of the frame under a fixed timestep
+     */
+    public int getScreenWidth() {
+        return fixedStep ? latchedScreenWidth : Gdx.graphics.getWidth();
+    }
+    
+    /**
+     * Get the screen height in pixels, as of the start of the frame under a fixed timestep
+     */
+    public int getScreenHeight() {
+        return fixedStep ? latchedScreenHeight : Gdx.graphics.getHeight();
+    }
+    
+    /**
+     * Get the time covered by the current frame's input, in seconds.
+     * Under a fixed timestep this is the tick length.
+     */
+    public float getFrameDeltaTime() {
+        if (fixedStep) {
+            return tickDeltaTime;
+        }
+        if (replayFrame != null) {
+            return replayFrame.getDeltaTime();
+        }
+        return Gdx.graphics.getDeltaTime();
+    }
+    
+    /**
+     * Collect the keys pressed since the last frame. A frame can run zero or several
+     * simulation ticks, so presses are held here until the next tick consumes them.
+     * Held keys, the mouse position and the screen size are sampled too, so ticks
+     * never poll the devices themselves.
+     * Call once per rendered frame on the render thread, after any replay frame is set.
+     */
+    public void latchFrameInput() {
+        fixedStep = true;
+        latchedScreenWidth = Gdx.graphics.getWidth();
+        latchedScreenHeight = Gdx.graphics.getHeight();
+        latchedMouseX = Gdx.input.getX();
+        latchedMouseY = Gdx.input.getY();
+        if (replayFrame != null) {
+            IntArray keys = replayFrame.getJustPressedKeys();
+            for (int i = 0; i < keys.size; i++) {
+                latchPress(keys.get(i));
+            }
+            return;
+        }
+        heldKeys.clear();
+        for (int key = 0; key <= Input.Keys.MAX_KEYCODE; key++) {
+            if (Gdx.input.isKeyPressed(key)) {
+                heldKeys.add(key);
+            }
+            if (Gdx.input.isKeyJustPressed(key)) {
+                latchPress(key);
+            }
+        }
+    }
+    
+    private void latchPress(int keycode) {
+        if (!pendingPresses.contains(keycode)) {
+            pendingPresses.add(keycode);
+        }
+    }
+    
+    /**
+     * Start a simulation tick: the presses latched so far become its just-pressed keys
+     * @param deltaTime The tick length, returned by getFrameDeltaTime
+     */
+    public void beginTick(float deltaTime) {
+        tickPresses.clear();
+        tickPresses.addAll(pendingPresses);
+        pendingPresses.clear();
+        tickDeltaTime = deltaTime;
+    }
+    
+    /**
+     * End the frame's simulation ticks so rendering doesn't see their presses again
+     */
+    public void endTicks() {
+        tickPresses.clear();
+    }
+    
+    /**
+     * Read input from a recorded frame instead of the devices
+     * @param frame The frame to replay, or null to go back to live input
+     */
+    public void setReplayFrame(InputFrame frame) {
+        this.replayFrame = frame;
+    }
+    
+    /**
+     * Check if input is coming from a recorded session
+     */
+    public boolean isReplaying() {
+        return replayFrame != null;
+    }
+    
     /**
      * Get the mouse position as a Vector2
      */
@@ -115,7 +252,7 @@ public class DynamicInput extends InputAdapter {
      * Get the mouse position in world coordinates (Y is flipped)
      */
     public Vector2 getMousePositionInWorld() {
-        return new Vector2(getMouseX(), Gdx.graphics.getHeight() - getMouseY());
+        return new Vector2(getMouseX(), getScreenHeight() - getMouseY());
     }
     
     /**
@@ -0,0 +1,99 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Snapshot of the input for one frame: the keys held and newly pressed, the mouse
+ * position, the frame time and the seed the random generator was reset to.
+ * Recorded into a journal and fed back to DynamicInput when a session is replayed.
+ */
+public class InputFrame {
+    private int frame;
+    private float deltaTime;
+    private long randomSeed;
+    private int mouseX;
+    private int mouseY;
+    private final IntArray pressedKeys = new IntArray();
+    private final IntArray justPressedKeys = new IntArray();
+
+    /**
+     * Fill the frame from the live input state
+     * @param input Usually Gdx.input
+     * @param frame Frame number
+     * @param deltaTime Frame time in seconds
+     * @param randomSeed Seed used for this frame
+     */
+    public void capture(Input input, int frame, float deltaTime, long randomSeed) {
+        set(frame, deltaTime, randomSeed, input.getX(), input.getY());
+        for (int key = 0; key <= Input.Keys.MAX_KEYCODE; key++) {
+            if (input.isKeyPressed(key)) {
+                pressedKeys.add(key);
+            }
+            if (input.isKeyJustPressed(key)) {
+                justPressedKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * Set the frame values and clear the key lists
+     */
+    public void set(int frame, float deltaTime, long randomSeed, int mouseX, int mouseY) {
+        this.frame = frame;
+        this.deltaTime = deltaTime;
+        this.randomSeed = randomSeed;
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+        pressedKeys.clear();
+        justPressedKeys.clear();
+    }
+
+    /**
+     * Check if a key was held, or any key for Input.Keys.ANY_KEY
+     */
+    public boolean isKeyPressed(int keycode) {
+        return keycode == Input.Keys.ANY_KEY ? pressedKeys.size > 0 : pressedKeys.contains(keycode);
+    }
+
+    /**
+     * Check if a key went down this frame, or any key for Input.Keys.ANY_KEY
+     */
+    public boolean isKeyJustPressed(int keycode) {
+        return keycode == Input.Keys.ANY_KEY ? justPressedKeys.size > 0 : justPressedKeys.contains(keycode);
+    }
+
+    public int getFrame() {
+        return frame;
+    }
+
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public int getMouseX() {
+        return mouseX;
+    }
+
+    public int getMouseY() {
+        return mouseY;
+    }
+
+    /**
+     * Get the keys held during the frame; modify to build a frame by hand
+     */
+    public IntArray getPressedKeys() {
+        return pressedKeys;
+    }
+
+    /**
+     * Get the keys that went down during the frame; modify to build a frame by hand
+     */
+    public IntArray getJustPressedKeys() {
+        return justPressedKeys;
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Decodes image files into Pixmaps on a pool of worker threads.
+ * Callers start decodes early with {@link #prefetch(String)} and later
+ * {@link #take(String, FileHandle)} the result, so several images decode in
+ * parallel while the GL thread only uploads finished pixmaps.
+ * Images with a precompressed {@link RawTextureFormat} file are read from that instead.
+ */
+public class PixmapDecodePool implements Disposable {
+    private final ExecutorService executor;
+    private final Map<String, DecodeTask> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Create a decode pool
+     * @param threads Number of worker threads
+     */
+    public PixmapDecodePool(int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "pixmap-decode-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start decoding an internal image file unless it is already being decoded
+     * @param path Internal path to the image
+     */
+    public void prefetch(String path) {
+        prefetch(path, Gdx.files.internal(path));
+    }
+
+    /**
+     * Start decoding an image file unless it is already being decoded
+     * @param key Name the result is taken by
+     * @param file The image file
+     */
+    public void prefetch(String key, FileHandle file) {
+        pending.computeIfAbsent(key, k -> {
+            DecodeTask task = new DecodeTask(file);
+            task.future = executor.submit(task::decode);
+            return task;
+        });
+    }
+
+    /**
+     * Get a decoded pixmap, waiting for its decode if one was started,
+     * or decoding on the calling thread if not. The caller owns the pixmap.
+     * @param key Name the decode was started with
+     * @param file The image file, decoded directly if no decode was started
+     * @return The decoded pixmap
+     */
+    public Pixmap take(String key, FileHandle file) {
+        DecodeTask task = pending.remove(key);
+        if (task == null) {
+            return decode(file);
+        }
+        try {
+            return task.future.get();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Couldn't decode " + key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while decoding " + key, e);
+        }
+    }
+
+    /**
+     * Abandon a decode that will not be taken. Its pixmap is freed once decoded.
+     * @param key Name the decode was started with
+     */
+    public void cancel(String key) {
+        DecodeTask task = pending.remove(key);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Check if a decode for the key was started and not yet taken
+     */
+    public boolean isPending(String key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * Decode an image, preferring its precompressed raw version when the build generated one
+     * @param file The image file
+     * @return The decoded pixmap, owned by the caller
+     */
+    public static Pixmap decode(FileHandle file) {
+        FileHandle raw = RawTextureFormat.find(file);
+        return raw != null ? RawTextureFormat.read(raw) : new Pixmap(file);
+    }
+
+    @Override
+    public void dispose() {
+        for (DecodeTask task : pending.values()) {
+            task.cancel();
+        }
+        pending.clear();
+        executor.shutdownNow();
+    }
+
+    private static class DecodeTask {
+        private final FileHandle file;
+        private Future<Pixmap> future;
+        private Pixmap result;
+        private boolean cancelled;
+
+        DecodeTask(FileHandle file) {
+            this.file = file;
+        }
+
+        Pixmap decode() {
+            Pixmap pixmap = PixmapDecodePool.decode(file);
+            synchronized (this) {
+                if (cancelled) {
+                    pixmap.dispose();
+                    return null;
+                }
+                result = pixmap;
+            }
+            return pixmap;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            future.cancel(false);
+            if (result != null) {
+                result.dispose();
+                result = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Texture loader for the AssetManager that takes pixmaps from a {@link PixmapDecodePool}.
+ * Decoding happens on the pool (started when a manifest is queued), loadAsync only
+ * collects the result, and loadSync uploads it on the GL thread within the
+ * AssetManager's per-update time budget.
+ */
+public class PooledTextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
+    private final PixmapDecodePool decodePool;
+
+    // The AssetManager runs one loader task at a time, so one slot is enough
+    private Pixmap pixmap;
+
+    public PooledTextureLoader(FileHandleResolver resolver, PixmapDecodePool decodePool) {
+        super(resolver);
+        this.decodePool = decodePool;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        pixmap = null;
+        if (parameter != null && parameter.textureData != null) {
+            return;
+        }
+        pixmap = decodePool.take(fileName, file);
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        TextureData data;
+        if (parameter != null && parameter.textureData != null) {
+            data = parameter.textureData;
+        } else {
+            Pixmap.Format format = parameter != null ? parameter.format : null;
+            boolean genMipMaps = parameter != null && parameter.genMipMaps;
+            // The pixmap is freed as soon as it is uploaded
+            data = new PixmapTextureData(pixmap, format, genMipMaps, true);
+            pixmap = null;
+        }
+
+        Texture texture = new Texture(data);
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Reader for the raw texture files written by the lwjgl3 precompressTextures Gradle task.
+ * A file holds a 20-byte header (magic, version, width, height, format) followed by
+ * pixels already in the layout Pixmap and the GL upload expect, so loading one is a
+ * straight channel read into the Pixmap's buffer instead of a PNG decode.
+ */
+public final class RawTextureFormat {
+    public static final String EXTENSION = ".raw";
+
+    private static final int MAGIC = 0x47445852; // "GDXR"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+
+    // Format codes shared with the Gradle task
+    private static final int FORMAT_RGBA8888 = 1;
+    private static final int FORMAT_RGB888 = 2;
+    private static final int FORMAT_RGBA4444 = 3;
+    private static final int FORMAT_RGB565 = 4;
+
+    private RawTextureFormat() {
+    }
+
+    /**
+     * Find the raw version of an image file
+     * @param imageFile The original image (e.g. a PNG)
+     * @return The raw file next to it, or null if none was generated
+     */
+    public static FileHandle find(FileHandle imageFile) {
+        String path = imageFile.path();
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || path.endsWith(EXTENSION)) {
+            return null;
+        }
+        FileHandle raw = imageFile.sibling(imageFile.nameWithoutExtension() + EXTENSION);
+        return raw.exists() ? raw : null;
+    }
+
+    /**
+     * Read a raw texture file into a new Pixmap. The caller owns the Pixmap.
+     * @param file The raw file
+     * @return The pixels
+     */
+    public static Pixmap read(FileHandle file) {
+        try (ReadableByteChannel channel = open(file)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new GdxRuntimeException("Not a raw texture file: " + file);
+            }
+            int width = header.getInt();
+            int height = header.getInt();
+            Pixmap.Format format = toFormat(header.getInt(), file);
+
+            Pixmap pixmap = new Pixmap(width, height, format);
+            try {
+                ByteBuffer pixels = pixmap.getPixels();
+                pixels.clear();
+                readFully(channel, pixels);
+                pixels.clear();
+            } catch (IOException | RuntimeException e) {
+                pixmap.dispose();
+                throw e;
+            }
+            return pixmap;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read raw texture: " + file, e);
+        }
+    }
+
+    private static ReadableByteChannel open(FileHandle file) throws IOException {
+        File onDisk = file.file();
+        if (file.type() != FileType.Classpath && onDisk.exists()) {
+            return FileChannel.open(onDisk.toPath(), StandardOpenOption.READ);
+        }
+        // Classpath resources (e.g. inside the jar) are only available as streams
+        return Channels.newChannel(file.read());
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of raw texture data");
+            }
+        }
+    }
+
+    private static Pixmap.Format toFormat(int code, FileHandle file) {
+        switch (code) {
+            case FORMAT_RGBA8888:
+                return Pixmap.Format.RGBA8888;
+            case FORMAT_RGB888:
+                return Pixmap.Format.RGB888;
+            case FORMAT_RGBA4444:
+                return Pixmap.Format.RGBA4444;
+            case FORMAT_RGB565:
+                return Pixmap.Format.RGB565;
+            default:
+                throw new GdxRuntimeException("Unknown raw texture format " + code + ": " + file);
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package io.github.some_example_name.lwjgl3.abstract_engine.io;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.function.Supplier;
 
 /**
  * Centralized resource manager for all game assets.
@@ -20,18 +30,50 @@ import java.util.Map;
  */
 public class ResourceManager implements Disposable {
     private static final String TAG = "ResourceManager";
+    // Default cap on resident texture and decoded audio memory
+    private static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+    // Streaming music only keeps a few decode buffers resident
+    private static final long MUSIC_STREAM_BYTES = 128L * 1024;
     private static ResourceManager instance;
     
     private final AssetManager assetManager;
-    private final Map<String, BitmapFont> fontCache;
+    private final PixmapDecodePool decodePool;
+    // Packed assets when the build produced assets.pack, loose internal files otherwise
+    private final FileHandleResolver resolver;
+
+    // Handles held by scenes and entities through acquire()/release()
+    private final ObjectIntMap<String> handleCounts = new ObjectIntMap<>();
+    // Loaded assets nothing refers to any more, least recently released first.
+    // Each entry owns one AssetManager reference and is evicted when over budget.
+    private final LinkedHashSet<String> unreferenced = new LinkedHashSet<>();
+    // Assets built at runtime (e.g. packed atlases), shared by key through the same handles
+    private final ObjectMap<String, Disposable> generated = new ObjectMap<>();
     private boolean initialized = false;
+    // Thread that owns the GL context; other threads may only acquire resident assets
+    private final Thread renderThread = Thread.currentThread();
+
+    private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
     
     /**
      * Private constructor for singleton
      */
     private ResourceManager() {
-        this.assetManager = new AssetManager();
-        this.fontCache = new HashMap<>();
+        // Image decoding runs on its own workers; the GL thread only uploads
+        int decodeThreads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        this.decodePool = new PixmapDecodePool(decodeThreads);
+        AssetPack pack = AssetPack.openDefault();
+        if (pack != null) {
+            this.resolver = pack;
+            Gdx.app.debug(TAG, "Reading " + pack.size() + " assets from " + AssetPack.FILE_NAME);
+        } else {
+            this.resolver = new InternalFileHandleResolver();
+            Gdx.app.debug(TAG, "No up-to-date " + AssetPack.FILE_NAME + ", reading loose asset files");
+        }
+        this.assetManager = new AssetManager(resolver);
+        assetManager.setLoader(Texture.class, new PooledTextureLoader(resolver, decodePool));
         assetManager.getLogger().setLevel(Logger.DEBUG);
     }
     
@@ -73,14 +115,7 @@ public class ResourceManager implements Disposable {
      * @return The texture, or null if not loaded
      */
     public Texture getTexture(String filePath) {
-        if (assetManager.isLoaded(filePath, Texture.class)) {
-            return assetManager.get(filePath, Texture.class);
-        } else {
-            Gdx.app.debug(TAG, "Texture not loaded: " + filePath + ", attempting to load now");
-            loadTexture(filePath);
-            assetManager.finishLoadingAsset(filePath);
-            return assetManager.get(filePath, Texture.class);
-        }
+        return get(filePath, Texture.class);
     }
     
     /**
@@ -103,14 +138,7 @@ public class ResourceManager implements Disposable {
      * @return The sound, or null if not loaded
      */
     public Sound getSound(String filePath) {
-        if (assetManager.isLoaded(filePath, Sound.class)) {
-            return assetManager.get(filePath, Sound.class);
-        } else {
-            Gdx.app.debug(TAG, "Sound not loaded: " + filePath + ", attempting to load now");
-            loadSound(filePath);
-            assetManager.finishLoadingAsset(filePath);
-            return assetManager.get(filePath, Sound.class);
-        }
+        return get(filePath, Sound.class);
     }
     
     /**
@@ -133,14 +161,7 @@ public class ResourceManager implements Disposable {
      * @return The music, or null if not loaded
      */
     public Music getMusic(String filePath) {
-        if (assetManager.isLoaded(filePath, Music.class)) {
-            return assetManager.get(filePath, Music.class);
-        } else {
-            Gdx.app.debug(TAG, "Music not loaded: " + filePath + ", attempting to load now");
-            loadMusic(filePath);
-            assetManager.finishLoadingAsset(filePath);
-            return assetManager.get(filePath, Music.class);
-        }
+        return get(filePath, Music.class);
     }
     
     /**
@@ -163,14 +184,7 @@ public class ResourceManager implements Disposable {
      * @return The font, or null if not loaded
      */
     public BitmapFont getFont(String filePath) {
-        if (assetManager.isLoaded(filePath, BitmapFont.class)) {
-            return assetManager.get(filePath, BitmapFont.class);
-        } else {
-            Gdx.app.debug(TAG, "Font not loaded: " + filePath + ", attempting to load now");
-            loadFont(filePath);
-            assetManager.finishLoadingAsset(filePath);
-            return assetManager.get(filePath, BitmapFont.class);
-        }
+        return get(filePath, BitmapFont.class);
     }
     
     /**
@@ -193,14 +207,7 @@ public class ResourceManager implements Disposable {
      * @return The texture atlas, or null if not loaded
      */
     public TextureAtlas getTextureAtlas(String filePath) {
-        if (assetManager.isLoaded(filePath, TextureAtlas.class)) {
-            return assetManager.get(filePath, TextureAtlas.class);
-        } else {
-            Gdx.app.debug(TAG, "Texture atlas not loaded: " + filePath + ", attempting to load now");
-            loadTextureAtlas(filePath);
-            assetManager.finishLoadingAsset(filePath);
-            return assetManager.get(filePath, TextureAtlas.class);
-        }
+        return get(filePath, TextureAtlas.class);
     }
     
     /**
@@ -211,6 +218,491 @@ public class ResourceManager implements Disposable {
     public boolean update(float deltaTime) {
         return assetManager.update();
     }
+
+    /**
+     * Continue loading queued assets for at most the given time.
+     * Decoding runs on the AssetManager's loader thread; only GL uploads
+     * happen here, so a small budget keeps the frame responsive.
+     * @param budgetMillis Maximum time to spend on the render thread
+     * @return true if all queued assets are loaded
+     */
+    public boolean updateWithBudget(int budgetMillis) {
+        try {
+            return assetManager.update(budgetMillis);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error(TAG, "Failed to load queued asset", e);
+            return false;
+        }
+    }
+
+    /**
+     * Queue every asset in a manifest.
+     * Each call adds one reference per asset, so assets shared with another
+     * loaded manifest are not read from disk again.
+     * @param manifest The assets to load
+     */
+    public void load(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest) {
+            // A cached asset hands its reference over to the manifest
+            if (unreferenced.remove(descriptor.fileName)) {
+                continue;
+            }
+            // Start decoding now so the manifest's images decode in parallel
+            if (descriptor.type == Texture.class && !assetManager.contains(descriptor.fileName)) {
+                decodePool.prefetch(descriptor.fileName, resolve(descriptor.fileName));
+            }
+            try {
+                assetManager.load(descriptor);
+            } catch (GdxRuntimeException e) {
+                decodePool.cancel(descriptor.fileName);
+                Gdx.app.error(TAG, "Failed to queue asset: " + descriptor.fileName, e);
+            }
+        }
+    }
+
+    /**
+     * Release one reference to every asset in a manifest.
+     * Loaded assets nothing else refers to are kept in the cache until
+     * evicted for memory; queued ones are dropped from the queue.
+     * @param manifest The assets to release
+     */
+    public void unload(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest) {
+            String fileName = descriptor.fileName;
+            if (!assetManager.contains(fileName)) {
+                continue;
+            }
+            if (!assetManager.isLoaded(fileName)) {
+                // Still queued; drop any decode started for it
+                decodePool.cancel(fileName);
+            }
+            if (assetManager.isLoaded(fileName) && assetManager.getReferenceCount(fileName) == 1
+                    && handleCounts.get(fileName, 0) == 0 && !unreferenced.contains(fileName)) {
+                unreferenced.add(fileName);
+            } else {
+                assetManager.unload(fileName);
+            }
+        }
+    }
+
+    /**
+     * Check if every asset in a manifest is loaded
+     * @param manifest The assets to check
+     */
+    public boolean isLoaded(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest) {
+            if (!assetManager.isLoaded(descriptor.fileName, descriptor.type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if nothing in a manifest is still queued.
+     * Unlike {@link #isLoaded(AssetManifest)} this is also true once assets that failed to load are dropped.
+     * @param manifest The assets to check
+     */
+    public boolean isFinished(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest) {
+            if (assetManager.contains(descriptor.fileName) && !assetManager.isLoaded(descriptor.fileName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get how much of a manifest is loaded (0-1)
+     * @param manifest The assets to check
+     */
+    public float getProgress(AssetManifest manifest) {
+        if (manifest.isEmpty()) {
+            return 1f;
+        }
+        int loaded = 0;
+        for (AssetDescriptor<?> descriptor : manifest) {
+            if (assetManager.isLoaded(descriptor.fileName, descriptor.type)) {
+                loaded++;
+            }
+        }
+        return loaded / (float) manifest.size();
+    }
+
+    /**
+     * Estimate the memory the not-yet-loaded assets of a manifest would take.
+     * Assets that are already resident cost nothing extra.
+     * @param manifest The assets to check
+     * @return Estimated size in bytes
+     */
+    public long estimateUnloadedBytes(AssetManifest manifest) {
+        long bytes = 0;
+        for (AssetDescriptor<?> descriptor : manifest) {
+            if (!assetManager.isLoaded(descriptor.fileName, descriptor.type)) {
+                bytes += estimateBytes(descriptor);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimate the memory one asset takes once loaded.
+     * PNG textures are sized from their header as RGBA8888; other assets use their file size.
+     */
+    private long estimateBytes(AssetDescriptor<?> descriptor) {
+        FileHandle file = resolve(descriptor.fileName);
+        if (!file.exists()) {
+            return 0;
+        }
+        if (descriptor.type == Texture.class && descriptor.fileName.endsWith(".png")) {
+            // IHDR follows the 8-byte signature: length, type, then width and height
+            try (DataInputStream in = new DataInputStream(file.read())) {
+                in.skipBytes(16);
+                long width = in.readInt();
+                long height = in.readInt();
+                return width * height * 4;
+            } catch (IOException | GdxRuntimeException e) {
+                Gdx.app.debug(TAG, "Could not read PNG header: " + descriptor.fileName);
+            }
+        }
+        return file.length();
+    }
+
+    /**
+     * Take a handle on an asset, loading it if it is not resident.
+     * Every acquire must be matched by one {@link #release(String)}; the asset
+     * stays loaded while any handle or manifest refers to it.
+     * Off the render thread (the simulation thread, while the render thread isn't using
+     * this manager) only assets that are already loaded can be acquired, since loading
+     * one uploads it to the GPU.
+     * @param filePath Path to the asset file
+     * @param type Asset class
+     * @return The shared asset; callers must not dispose it
+     */
+    public <T> T acquire(String filePath, Class<T> type) {
+        int handles = handleCounts.get(filePath, 0);
+        // All handles together hold a single AssetManager reference
+        // (taken through load() so dependencies such as font pages are counted too)
+        if (handles == 0 && !unreferenced.remove(filePath)) {
+            boolean loaded = assetManager.isLoaded(filePath, type);
+            if (!loaded && Thread.currentThread() != renderThread) {
+                throw new IllegalStateException("Can't load " + filePath + " off the render thread;"
+                        + " add it to the scene's asset manifest");
+            }
+            recordLookup(loaded);
+            assetManager.load(filePath, type);
+            assetManager.finishLoadingAsset(filePath);
+            if (!loaded) {
+                collectUnreferenced();
+            }
+        } else {
+            recordLookup(true);
+        }
+        handleCounts.put(filePath, handles + 1);
+        return assetManager.get(filePath, type);
+    }
+
+    /**
+     * Take a handle on an asset built at runtime rather than read from one file.
+     * The factory only runs when no handle on the key is held or pending collection.
+     * @param key Unique name for the generated asset
+     * @param type Asset class
+     * @param factory Builds the asset on first acquire
+     * @return The shared asset; callers must not dispose it
+     */
+    public <T extends Disposable> T acquire(String key, Class<T> type, Supplier<T> factory) {
+        int handles = handleCounts.get(key, 0);
+        if (handles == 0 && !unreferenced.remove(key)) {
+            recordLookup(false);
+            generated.put(key, factory.get());
+        } else {
+            recordLookup(true);
+        }
+        handleCounts.put(key, handles + 1);
+        return type.cast(generated.get(key));
+    }
+
+    /**
+     * Take a handle on a texture
+     * @see #acquire(String, Class)
+     */
+    public Texture acquireTexture(String filePath) {
+        return acquire(filePath, Texture.class);
+    }
+
+    /**
+     * Take a handle on a bitmap font.
+     * The font is shared, so set its scale and colour before drawing with it.
+     * @see #acquire(String, Class)
+     */
+    public BitmapFont acquireFont(String filePath) {
+        return acquire(filePath, BitmapFont.class);
+    }
+
+    /**
+     * Give back a handle taken with {@link #acquire(String, Class)}.
+     * When the last handle goes the asset stays cached until {@link #collectUnreferenced()}
+     * evicts it for memory, so assets released by an outgoing scene and acquired
+     * again by the incoming one are never reloaded from disk.
+     * @param filePath Path to the asset file
+     */
+    public void release(String filePath) {
+        int handles = handleCounts.get(filePath, 0);
+        if (handles <= 0) {
+            Gdx.app.debug(TAG, "Release without acquire: " + filePath);
+            return;
+        }
+        if (handles == 1) {
+            handleCounts.remove(filePath, 0);
+            unreferenced.add(filePath);
+        } else {
+            handleCounts.put(filePath, handles - 1);
+        }
+    }
+
+    /**
+     * Give back a handle on an asset returned by {@link #acquire(String, Class)}
+     * @param asset The asset
+     */
+    public void release(Object asset) {
+        String filePath = assetManager.getAssetFileName(asset);
+        if (filePath == null) {
+            filePath = generated.findKey(asset, true);
+        }
+        if (filePath != null) {
+            release(filePath);
+        }
+    }
+
+    /**
+     * Evict cached assets, least recently released first, until resident
+     * texture and audio memory fits the budget
+     */
+    public void collectUnreferenced() {
+        if (unreferenced.isEmpty()) {
+            return;
+        }
+        long resident = getResidentBytes();
+        Iterator<String> iterator = unreferenced.iterator();
+        while (resident > memoryBudget && iterator.hasNext()) {
+            String filePath = iterator.next();
+            iterator.remove();
+            resident -= evict(filePath);
+        }
+    }
+
+    /**
+     * Evict every cached asset regardless of the budget
+     */
+    public void evictUnreferenced() {
+        for (String filePath : unreferenced) {
+            evict(filePath);
+        }
+        unreferenced.clear();
+    }
+
+    /**
+     * Drop the cache's reference to an asset
+     * @return Bytes freed
+     */
+    private long evict(String filePath) {
+        evictionCount++;
+        Disposable asset = generated.remove(filePath);
+        if (asset != null) {
+            long bytes = sizeOf(asset);
+            asset.dispose();
+            return bytes;
+        }
+        if (!assetManager.isLoaded(filePath)) {
+            return 0;
+        }
+        long bytes = assetManager.getReferenceCount(filePath) == 1 ? sizeOf(filePath) : 0;
+        assetManager.unload(filePath);
+        Gdx.app.debug(TAG, "Evicted " + filePath + " (" + bytes + " bytes)");
+        return bytes;
+    }
+
+    /**
+     * Set the memory budget for resident textures and decoded audio
+     * @param bytes Budget in bytes; cached assets are evicted beyond it
+     */
+    public void setMemoryBudget(long bytes) {
+        this.memoryBudget = bytes;
+        collectUnreferenced();
+    }
+
+    /**
+     * Get the memory budget for resident textures and decoded audio in bytes
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Estimate the memory held by all loaded textures and audio, including cached ones
+     */
+    public long getResidentBytes() {
+        long bytes = 0;
+        for (String fileName : assetManager.getAssetNames()) {
+            bytes += sizeOf(fileName);
+        }
+        for (Disposable asset : generated.values()) {
+            bytes += sizeOf(asset);
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the memory held by cached assets that could be evicted
+     */
+    public long getCachedBytes() {
+        long bytes = 0;
+        for (String filePath : unreferenced) {
+            Disposable asset = generated.get(filePath);
+            bytes += asset != null ? sizeOf(asset) : sizeOf(filePath);
+        }
+        return bytes;
+    }
+
+    private long sizeOf(String fileName) {
+        Class<?> type = assetManager.getAssetType(fileName);
+        if (type == Texture.class) {
+            return textureBytes(assetManager.get(fileName, Texture.class));
+        }
+        if (type == Sound.class) {
+            return AudioManager.getClipBytes(assetManager.get(fileName, Sound.class), fileName);
+        }
+        if (type == Music.class) {
+            return MUSIC_STREAM_BYTES;
+        }
+        // Fonts, atlases and skins are counted through their texture dependencies
+        return 0;
+    }
+
+    private static long sizeOf(Disposable asset) {
+        if (asset instanceof Texture) {
+            return textureBytes((Texture) asset);
+        }
+        if (asset instanceof TextureAtlas) {
+            long bytes = 0;
+            for (Texture texture : ((TextureAtlas) asset).getTextures()) {
+                bytes += textureBytes(texture);
+            }
+            return bytes;
+        }
+        return 0;
+    }
+
+    private static long textureBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) {
+            return 4;
+        }
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            case RGBA8888:
+            default:
+                return 4;
+        }
+    }
+
+    private void recordLookup(boolean hit) {
+        if (hit) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+    }
+
+    /**
+     * Get how many asset requests were served from memory
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get how many asset requests had to load from disk
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get how many cached assets were evicted for memory
+     */
+    public int getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Reset the hit, miss and eviction counters
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    /**
+     * Get a one-line summary of cache usage for logging
+     */
+    public String getStatistics() {
+        return String.format("hits=%d misses=%d evictions=%d resident=%dKB cached=%dKB budget=%dKB",
+                hitCount, missCount, evictionCount,
+                getResidentBytes() / 1024, getCachedBytes() / 1024, memoryBudget / 1024);
+    }
+
+    /**
+     * Get the file for an asset path, from the asset pack if it holds one
+     * @param path Asset path relative to the assets folder
+     */
+    public FileHandle resolve(String path) {
+        return resolver.resolve(path);
+    }
+
+    /**
+     * Get the pool that decodes images off the GL thread
+     */
+    public PixmapDecodePool getDecodePool() {
+        return decodePool;
+    }
+
+    /**
+     * Get the number of handles held on an asset
+     * @param filePath Path to the asset file
+     */
+    public int getHandleCount(String filePath) {
+        return handleCounts.get(filePath, 0);
+    }
+
+    /**
+     * Get a loaded asset of any type
+     * @param filePath Path to the asset file
+     * @param type Asset class
+     * @return The asset, loading it immediately if it was not queued ahead of time
+     */
+    public <T> T get(String filePath, Class<T> type) {
+        boolean loaded = assetManager.isLoaded(filePath, type);
+        recordLookup(loaded);
+        if (!loaded) {
+            Gdx.app.debug(TAG, "Asset not loaded: " + filePath + ", attempting to load now");
+            assetManager.load(filePath, type);
+            assetManager.finishLoadingAsset(filePath);
+        }
+        return assetManager.get(filePath, type);
+    }
     
     /**
      * Get the current loading progress (0-1)
@@ -264,6 +756,7 @@ public class ResourceManager implements Disposable {
      * @param filePath Path to the asset
      */
     public void unloadAsset(String filePath) {
+        unreferenced.remove(filePath);
         if (assetManager.isLoaded(filePath)) {
             assetManager.unload(filePath);
         }
@@ -274,7 +767,12 @@ public class ResourceManager implements Disposable {
      */
     public void clearAll() {
         assetManager.clear();
-        fontCache.clear();
+        for (Disposable asset : generated.values()) {
+            asset.dispose();
+        }
+        generated.clear();
+        handleCounts.clear();
+        unreferenced.clear();
     }
     
     /**
@@ -287,7 +785,13 @@ public class ResourceManager implements Disposable {
     @Override
     public void dispose() {
         assetManager.dispose();
-        fontCache.clear();
+        decodePool.dispose();
+        for (Disposable asset : generated.values()) {
+            asset.dispose();
+        }
+        generated.clear();
+        handleCounts.clear();
+        unreferenced.clear();
         Gdx.app.debug(TAG, "ResourceManager disposed");
     }
 }
\ No newline at end of file
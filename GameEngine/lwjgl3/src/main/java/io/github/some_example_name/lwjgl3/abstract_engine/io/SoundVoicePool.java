@@ -0,0 +1,251 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.io;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Tracks the sound instances (voices) playing through an AudioManager and bounds
+ * how many can play at once, per sound and overall.
+ * Sounds are attached once and played by integer handle, so a play is an array
+ * lookup rather than a map lookup. When a limit is reached the oldest voice of the
+ * same sound, or else the lowest-priority voice overall, is stopped to make room;
+ * a play that would only steal from higher-priority voices is dropped instead.
+ *
+ * libGDX doesn't report when a sound instance finishes, so each voice is assumed
+ * to be done after its sound's estimated duration.
+ * Not thread-safe: plays and stops go through the backend's OpenAL sources, so
+ * AudioManager only touches the pool from the render thread.
+ */
+public class SoundVoicePool {
+    public static final int INVALID_HANDLE = -1;
+
+    private static final int INITIAL_SOUNDS = 16;
+
+    // Registered sounds, indexed by handle
+    private Sound[] sounds = new Sound[INITIAL_SOUNDS];
+    private int[] maxVoices = new int[INITIAL_SOUNDS];
+    private int[] priorities = new int[INITIAL_SOUNDS];
+    private long[] durationsMillis = new long[INITIAL_SOUNDS];
+    private int[] activeVoices = new int[INITIAL_SOUNDS];
+    private int soundCount;
+
+    // Voices in start order, oldest first
+    private final int[] voiceHandles;
+    private final long[] voiceIds;
+    private final long[] voiceEnds;
+    private int voiceCount;
+
+    private int stolenCount;
+    private int droppedCount;
+
+    /**
+     * Create a voice pool
+     * @param maxTotalVoices Cap on voices playing at once across all sounds
+     */
+    public SoundVoicePool(int maxTotalVoices) {
+        voiceHandles = new int[maxTotalVoices];
+        voiceIds = new long[maxTotalVoices];
+        voiceEnds = new long[maxTotalVoices];
+    }
+
+    /**
+     * Set the voice limits for a handle. Limits can be set before the sound itself is attached.
+     * @param handle The handle to play the sound by
+     * @param maxInstances Cap on this sound's voices playing at once
+     * @param priority Higher priorities steal voices from lower ones
+     */
+    public void configure(int handle, int maxInstances, int priority) {
+        ensureCapacity(handle);
+        maxVoices[handle] = Math.max(1, maxInstances);
+        priorities[handle] = priority;
+    }
+
+    /**
+     * Attach a loaded sound to a configured handle
+     * @param handle The handle to play the sound by
+     * @param sound The loaded sound
+     * @param durationSeconds How long one instance plays
+     */
+    public void setSound(int handle, Sound sound, float durationSeconds) {
+        ensureCapacity(handle);
+        if (maxVoices[handle] == 0) {
+            maxVoices[handle] = 1;
+        }
+        soundCount = Math.max(soundCount, handle + 1);
+        sounds[handle] = sound;
+        durationsMillis[handle] = Math.max(1L, (long) (durationSeconds * 1000f));
+    }
+
+    /**
+     * Check if a sound is attached to a handle
+     */
+    public boolean isRegistered(int handle) {
+        return handle >= 0 && handle < soundCount && sounds[handle] != null;
+    }
+
+    private void ensureCapacity(int handle) {
+        if (handle >= sounds.length) {
+            int capacity = Math.max(handle + 1, sounds.length * 2);
+            sounds = Arrays.copyOf(sounds, capacity);
+            maxVoices = Arrays.copyOf(maxVoices, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            durationsMillis = Arrays.copyOf(durationsMillis, capacity);
+            activeVoices = Arrays.copyOf(activeVoices, capacity);
+        }
+    }
+
+    /**
+     * Play a registered sound, stealing a voice if a limit is reached
+     * @param handle The sound's handle
+     * @param volume Volume level (0.0 to 1.0)
+     * @return The sound ID, or -1 if the sound isn't registered or was dropped
+     */
+    public long play(int handle, float volume) {
+        if (!isRegistered(handle)) {
+            return -1;
+        }
+        long now = TimeUtils.millis();
+        expireVoices(now);
+
+        if (activeVoices[handle] >= maxVoices[handle]) {
+            // Retrigger: the newest pickup matters more than the tail of an old one
+            stopVoice(findOldestVoice(handle));
+            stolenCount++;
+        } else if (voiceCount == voiceHandles.length) {
+            int victim = findStealableVoice(priorities[handle]);
+            if (victim < 0) {
+                droppedCount++;
+                return -1;
+            }
+            stopVoice(victim);
+            stolenCount++;
+        }
+
+        long id = sounds[handle].play(volume);
+        if (id == -1) {
+            return -1;
+        }
+        voiceHandles[voiceCount] = handle;
+        voiceIds[voiceCount] = id;
+        voiceEnds[voiceCount] = now + durationsMillis[handle];
+        voiceCount++;
+        activeVoices[handle]++;
+        return id;
+    }
+
+    /**
+     * Stop every voice of one sound
+     */
+    public void stop(int handle) {
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (voiceHandles[i] == handle) {
+                stopVoice(i);
+            }
+        }
+    }
+
+    /**
+     * Stop every voice
+     */
+    public void stopAll() {
+        while (voiceCount > 0) {
+            stopVoice(voiceCount - 1);
+        }
+    }
+
+    /**
+     * Stop a sound's voices and detach it. Its handle plays nothing afterwards.
+     */
+    public void unregister(int handle) {
+        if (!isRegistered(handle)) {
+            return;
+        }
+        stop(handle);
+        sounds[handle] = null;
+    }
+
+    /**
+     * Get the number of voices currently assumed to be playing
+     */
+    public int getActiveVoices() {
+        long now = TimeUtils.millis();
+        int count = 0;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceEnds[i] > now) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of voices stopped early to make room for new ones
+     */
+    public int getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * Get the number of plays dropped because only higher-priority voices were playing
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void expireVoices(long now) {
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (voiceEnds[i] <= now) {
+                removeVoice(i);
+            }
+        }
+    }
+
+    private int findOldestVoice(int handle) {
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceHandles[i] == handle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the lowest-priority voice, oldest first among equals,
+     * that a play with the given priority may stop
+     */
+    private int findStealableVoice(int priority) {
+        int victim = -1;
+        int victimPriority = priority + 1;
+        for (int i = 0; i < voiceCount; i++) {
+            int voicePriority = priorities[voiceHandles[i]];
+            if (voicePriority < victimPriority) {
+                victim = i;
+                victimPriority = voicePriority;
+            }
+        }
+        return victim;
+    }
+
+    private void stopVoice(int index) {
+        if (index < 0) {
+            return;
+        }
+        Sound sound = sounds[voiceHandles[index]];
+        if (sound != null) {
+            sound.stop(voiceIds[index]);
+        }
+        removeVoice(index);
+    }
+
+    private void removeVoice(int index) {
+        activeVoices[voiceHandles[index]]--;
+        int tail = voiceCount - index - 1;
+        // Shift to keep start order; the pool holds a handful of voices
+        System.arraycopy(voiceHandles, index + 1, voiceHandles, index, tail);
+        System.arraycopy(voiceIds, index + 1, voiceIds, index, tail);
+        System.arraycopy(voiceEnds, index + 1, voiceEnds, index, tail);
+        voiceCount--;
+    }
+}
@@ -3,7 +3,6 @@ package io.github.some_example_name.lwjgl3.abstract_engine.movement;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
@@ -60,10 +59,7 @@ public class MovementManager {
                 forceY = -75f; // Increased from 50f for faster response
             }
         } else if (mode == ControlMode.MOUSE) {
-            Vector2 mousePos = new Vector2(
-                ioManager.getDynamicInput().getMouseX(),
-                Gdx.graphics.getHeight() - ioManager.getDynamicInput().getMouseY()
-            );
+            Vector2 mousePos = ioManager.getDynamicInput().getMousePositionInWorld();
     
             Vector2 playerPos;
     
@@ -0,0 +1,188 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.particle;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Describes how particles are spawned: which atlas regions they use, their speed,
+ * size, lifetime and colour ranges. An emitter holds no particles itself; it is
+ * passed to {@link ParticleSystem#burst} or attached with {@link ParticleSystem#addEmitter}
+ * to spawn continuously.
+ */
+public class ParticleEmitter {
+    // Regions to pick from at random (indices returned by ParticleSystem.addRegion)
+    int[] regions = {0};
+
+    // Spawn area around the emit position
+    float spawnWidth, spawnHeight;
+
+    // Velocity as a direction and speed
+    float angleMin = 0f, angleMax = MathUtils.PI2;
+    float speedMin, speedMax;
+
+    float sizeMin = 4f, sizeMax = 4f;
+    float rotationMin, rotationMax;
+    float rotationSpeedMin, rotationSpeedMax;
+
+    // Lifetime in seconds; 0 means the particle lives until cleared
+    float lifeMin, lifeMax;
+    float gravity;
+
+    final Color colorMin = new Color(Color.WHITE);
+    final Color colorMax = new Color(Color.WHITE);
+
+    boolean fadeOut;
+    boolean wrap;
+
+    // Continuous emission
+    float emissionRate;
+    float emitX, emitY;
+    float emissionAccumulator;
+
+    /**
+     * Set the atlas regions particles are picked from
+     * @param regions Region indices from {@link ParticleSystem#addRegion}
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setRegions(int... regions) {
+        this.regions = regions;
+        return this;
+    }
+
+    /**
+     * Spread spawn positions over a box centred on the emit position
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setSpawnArea(float width, float height) {
+        this.spawnWidth = width;
+        this.spawnHeight = height;
+        return this;
+    }
+
+    /**
+     * Set the direction range in radians
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setAngle(float min, float max) {
+        this.angleMin = min;
+        this.angleMax = max;
+        return this;
+    }
+
+    /**
+     * Set the speed range in units per second
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setSpeed(float min, float max) {
+        this.speedMin = min;
+        this.speedMax = max;
+        return this;
+    }
+
+    /**
+     * Set the size range (width and height) in units
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setSize(float min, float max) {
+        this.sizeMin = min;
+        this.sizeMax = max;
+        return this;
+    }
+
+    /**
+     * Set the initial rotation range in degrees
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setRotation(float min, float max) {
+        this.rotationMin = min;
+        this.rotationMax = max;
+        return this;
+    }
+
+    /**
+     * Set the spin range in degrees per second
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setRotationSpeed(float min, float max) {
+        this.rotationSpeedMin = min;
+        this.rotationSpeedMax = max;
+        return this;
+    }
+
+    /**
+     * Set the lifetime range in seconds (0 for particles that never expire)
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setLife(float min, float max) {
+        this.lifeMin = min;
+        this.lifeMax = max;
+        return this;
+    }
+
+    /**
+     * Set the downward acceleration in units per second squared
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setGravity(float gravity) {
+        this.gravity = gravity;
+        return this;
+    }
+
+    /**
+     * Use a single tint for every particle
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setColor(Color color) {
+        colorMin.set(color);
+        colorMax.set(color);
+        return this;
+    }
+
+    /**
+     * Pick each colour channel at random between two tints
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setColorRange(Color min, Color max) {
+        colorMin.set(min);
+        colorMax.set(max);
+        return this;
+    }
+
+    /**
+     * Fade particles out over their lifetime
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setFadeOut(boolean fadeOut) {
+        this.fadeOut = fadeOut;
+        return this;
+    }
+
+    /**
+     * Wrap particles around the system bounds instead of letting them drift away
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setWrap(boolean wrap) {
+        this.wrap = wrap;
+        return this;
+    }
+
+    /**
+     * Spawn particles continuously while attached to a system
+     * @param particlesPerSecond Emission rate (0 to stop)
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setEmissionRate(float particlesPerSecond) {
+        this.emissionRate = particlesPerSecond;
+        return this;
+    }
+
+    /**
+     * Set where continuous emission happens
+     * @return This emitter (for chaining)
+     */
+    public ParticleEmitter setPosition(float x, float y) {
+        this.emitX = x;
+        this.emitY = y;
+        return this;
+    }
+}
@@ -0,0 +1,381 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.particle;
+
+import java.util.stream.IntStream;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.io.PixmapDecodePool;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+
+/**
+ * Fixed-capacity particle pool stored as parallel arrays (structure of arrays).
+ * Live particles are kept packed at the front of the arrays, so update and render
+ * walk contiguous memory and dead particles are removed by swapping in the last one.
+ * Particles are drawn from atlas regions so a whole system is normally one draw call.
+ */
+public class ParticleSystem {
+    // Below this many live particles a parallel update costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int PARALLEL_CHUNK = 1024;
+
+    private final int capacity;
+    private int count;
+
+    private final float[] x, y;
+    private final float[] velocityX, velocityY;
+    private final float[] size;
+    private final float[] rotation, rotationSpeed;
+    private final float[] life, maxLife;
+    private final float[] gravity;
+    private final float[] red, green, blue, alpha;
+    private final int[] region;
+    private final boolean[] fadeOut;
+    private final boolean[] wrap;
+
+    private final Array<TextureRegion> regions = new Array<>();
+    private final Array<ParticleEmitter> emitters = new Array<>();
+
+    private float boundsWidth;
+    private float boundsHeight;
+    private boolean parallelUpdate;
+
+    /**
+     * Create a particle system
+     * @param capacity Maximum number of live particles; extra spawns are dropped
+     */
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        size = new float[capacity];
+        rotation = new float[capacity];
+        rotationSpeed = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        gravity = new float[capacity];
+        red = new float[capacity];
+        green = new float[capacity];
+        blue = new float[capacity];
+        alpha = new float[capacity];
+        region = new int[capacity];
+        fadeOut = new boolean[capacity];
+        wrap = new boolean[capacity];
+
+        boundsWidth = Gdx.graphics.getWidth();
+        boundsHeight = Gdx.graphics.getHeight();
+    }
+
+    /**
+     * Register a region particles can be drawn with.
+     * Regions should come from the same atlas so drawing does not switch textures.
+     * @param textureRegion The region
+     * @return Index to use in {@link ParticleEmitter#setRegions}
+     */
+    public int addRegion(TextureRegion textureRegion) {
+        regions.add(textureRegion);
+        return regions.size - 1;
+    }
+
+    /**
+     * Set the area wrapping particles move around in (defaults to the screen size)
+     */
+    public void setBounds(float width, float height) {
+        this.boundsWidth = width;
+        this.boundsHeight = height;
+    }
+
+    /**
+     * Update particles on worker threads once there are enough of them to benefit
+     */
+    public void setParallelUpdate(boolean parallelUpdate) {
+        this.parallelUpdate = parallelUpdate;
+    }
+
+    /**
+     * Attach an emitter that spawns particles every update at its emission rate
+     */
+    public void addEmitter(ParticleEmitter emitter) {
+        if (!emitters.contains(emitter, true)) {
+            emitters.add(emitter);
+        }
+    }
+
+    /**
+     * Detach a continuous emitter
+     */
+    public void removeEmitter(ParticleEmitter emitter) {
+        emitters.removeValue(emitter, true);
+    }
+
+    /**
+     * Spawn a group of particles at once
+     * @param emitter Spawn settings
+     * @param emitX Centre X
+     * @param emitY Centre Y
+     * @param amount Number of particles; limited by free capacity
+     * @return Number of particles actually spawned
+     */
+    public int burst(ParticleEmitter emitter, float emitX, float emitY, int amount) {
+        int spawned = Math.min(amount, capacity - count);
+        for (int n = 0; n < spawned; n++) {
+            spawn(emitter, emitX, emitY);
+        }
+        return spawned;
+    }
+
+    private void spawn(ParticleEmitter emitter, float emitX, float emitY) {
+        int i = count++;
+
+        x[i] = emitX + MathUtils.random(-0.5f, 0.5f) * emitter.spawnWidth;
+        y[i] = emitY + MathUtils.random(-0.5f, 0.5f) * emitter.spawnHeight;
+
+        float angle = MathUtils.random(emitter.angleMin, emitter.angleMax);
+        float speed = MathUtils.random(emitter.speedMin, emitter.speedMax);
+        velocityX[i] = MathUtils.cos(angle) * speed;
+        velocityY[i] = MathUtils.sin(angle) * speed;
+
+        size[i] = MathUtils.random(emitter.sizeMin, emitter.sizeMax);
+        rotation[i] = MathUtils.random(emitter.rotationMin, emitter.rotationMax);
+        rotationSpeed[i] = MathUtils.random(emitter.rotationSpeedMin, emitter.rotationSpeedMax);
+
+        float lifetime = MathUtils.random(emitter.lifeMin, emitter.lifeMax);
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        gravity[i] = emitter.gravity;
+
+        red[i] = MathUtils.random(emitter.colorMin.r, emitter.colorMax.r);
+        green[i] = MathUtils.random(emitter.colorMin.g, emitter.colorMax.g);
+        blue[i] = MathUtils.random(emitter.colorMin.b, emitter.colorMax.b);
+        alpha[i] = MathUtils.random(emitter.colorMin.a, emitter.colorMax.a);
+
+        int[] emitterRegions = emitter.regions;
+        region[i] = emitterRegions[MathUtils.random(emitterRegions.length - 1)];
+        fadeOut[i] = emitter.fadeOut;
+        wrap[i] = emitter.wrap;
+    }
+
+    /**
+     * Spawn from attached emitters, move all particles and remove expired ones
+     * @param deltaTime Time since last update
+     */
+    public void update(final float deltaTime) {
+        for (ParticleEmitter emitter : emitters) {
+            if (emitter.emissionRate <= 0) {
+                continue;
+            }
+            emitter.emissionAccumulator += emitter.emissionRate * deltaTime;
+            int amount = (int) emitter.emissionAccumulator;
+            emitter.emissionAccumulator -= amount;
+            burst(emitter, emitter.emitX, emitter.emitY, amount);
+        }
+
+        if (parallelUpdate && count >= PARALLEL_THRESHOLD) {
+            final int live = count;
+            int chunks = (live + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int start = chunk * PARALLEL_CHUNK;
+                integrate(start, Math.min(start + PARALLEL_CHUNK, live), deltaTime);
+            });
+        } else {
+            integrate(0, count, deltaTime);
+        }
+
+        removeExpired();
+    }
+
+    /**
+     * Advance particles in [start, end). Touches only those indices, so ranges can run in parallel.
+     */
+    private void integrate(int start, int end, float deltaTime) {
+        float width = boundsWidth;
+        float height = boundsHeight;
+
+        for (int i = start; i < end; i++) {
+            velocityY[i] -= gravity[i] * deltaTime;
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            rotation[i] += rotationSpeed[i] * deltaTime;
+
+            if (maxLife[i] > 0) {
+                life[i] -= deltaTime;
+            }
+
+            if (wrap[i]) {
+                float margin = size[i];
+                if (x[i] < -margin) x[i] = width + margin;
+                else if (x[i] > width + margin) x[i] = -margin;
+                if (y[i] < -margin) y[i] = height + margin;
+                else if (y[i] > height + margin) y[i] = -margin;
+            }
+        }
+    }
+
+    /**
+     * Swap expired particles with the last live one to keep the arrays packed
+     */
+    private void removeExpired() {
+        int i = 0;
+        while (i < count) {
+            if (maxLife[i] > 0 && life[i] <= 0) {
+                copy(--count, i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void copy(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        size[to] = size[from];
+        rotation[to] = rotation[from];
+        rotationSpeed[to] = rotationSpeed[from];
+        life[to] = life[from];
+        maxLife[to] = maxLife[from];
+        gravity[to] = gravity[from];
+        red[to] = red[from];
+        green[to] = green[from];
+        blue[to] = blue[from];
+        alpha[to] = alpha[from];
+        region[to] = region[from];
+        fadeOut[to] = fadeOut[from];
+        wrap[to] = wrap[from];
+    }
+
+    /**
+     * Draw all particles. The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     */
+    public void render(SpriteBatch batch) {
+        render(batch, 0, 0);
+    }
+
+    /**
+     * Draw all particles shifted by a camera offset. The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     * @param offsetX Subtracted from every particle's X
+     * @param offsetY Subtracted from every particle's Y
+     */
+    public void render(SpriteBatch batch, float offsetX, float offsetY) {
+        if (count == 0 || regions.size == 0) {
+            return;
+        }
+
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            float a = alpha[i];
+            if (fadeOut[i] && maxLife[i] > 0) {
+                a *= life[i] / maxLife[i];
+            }
+            batch.setPackedColor(Color.toFloatBits(red[i], green[i], blue[i], a));
+
+            float particleSize = size[i];
+            float half = particleSize / 2;
+            batch.draw(regions.get(region[i]),
+                    x[i] - offsetX - half, y[i] - offsetY - half,
+                    half, half,
+                    particleSize, particleSize,
+                    1, 1,
+                    rotation[i]);
+        }
+        batch.setPackedColor(previousColor);
+    }
+
+    /**
+     * Record all particles into a snapshot, to be drawn later on the render thread
+     * @param snapshot The snapshot to add to
+     */
+    public void capture(RenderSnapshot snapshot) {
+        if (regions.size == 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            float a = alpha[i];
+            if (fadeOut[i] && maxLife[i] > 0) {
+                a *= life[i] / maxLife[i];
+            }
+            snapshot.addSprite(regions.get(region[i]), x[i], y[i], size[i], size[i],
+                    rotation[i], Color.toFloatBits(red[i], green[i], blue[i], a));
+        }
+    }
+
+    /**
+     * Remove all live particles
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Get the number of live particles
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the number of particles that can still be spawned
+     */
+    public int getFreeCount() {
+        return capacity - count;
+    }
+
+    /**
+     * Get the maximum number of live particles
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Pack several small image files into one atlas so particles using them
+     * can be drawn without texture switches. Regions are named by file path.
+     * The caller owns (and must dispose) the returned atlas.
+     * @param pageSize Width and height of each atlas page
+     * @param paths Internal file paths of the images
+     * @return The packed atlas
+     */
+    public static TextureAtlas packAtlas(int pageSize, String... paths) {
+        // Decode all images in parallel before packing them in order
+        ResourceManager resources = ResourceManager.getInstance();
+        PixmapDecodePool decodePool = resources.getDecodePool();
+        for (String path : paths) {
+            decodePool.prefetch(path, resources.resolve(path));
+        }
+
+        PixmapPacker packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, 2, false);
+        int taken = 0;
+        try {
+            for (String path : paths) {
+                Pixmap pixmap = decodePool.take(path, resources.resolve(path));
+                taken++;
+                try {
+                    packer.pack(path, pixmap);
+                } finally {
+                    pixmap.dispose();
+                }
+            }
+            return packer.generateTextureAtlas(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+        } finally {
+            // If packing failed part way, free the decodes that were started but never taken
+            for (int i = taken; i < paths.length; i++) {
+                decodePool.cancel(paths[i]);
+            }
+            packer.dispose();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Scrolling tiled background drawn as one screen-sized quad per layer.
+ * Each layer's texture uses Repeat wrapping, and the camera offset is turned into
+ * scrolled UV coordinates instead of drawing one quad per visible tile.
+ * Extra layers can be added with a parallax factor for a depth effect.
+ */
+public class BackgroundLayer {
+    private final Array<Layer> layers = new Array<>();
+
+    /**
+     * Create a background with a single layer that scrolls with the camera
+     * @param texture The tiled background texture
+     */
+    public BackgroundLayer(Texture texture) {
+        addParallaxLayer(texture, 1f);
+    }
+
+    /**
+     * Add a layer drawn on top of the existing ones
+     * @param texture The tiled layer texture
+     * @param parallaxFactor How fast the layer scrolls relative to the camera (1 = locked to the world, 0 = static)
+     * @return This background (for chaining)
+     */
+    public BackgroundLayer addParallaxLayer(Texture texture, float parallaxFactor) {
+        if (texture != null) {
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+            layers.add(new Layer(texture, parallaxFactor));
+        }
+        return this;
+    }
+
+    /**
+     * Draw all layers. The batch must already be started.
+     * @param batch The SpriteBatch to render with
+     * @param offsetX Camera offset X in world units
+     * @param offsetY Camera offset Y in world units
+     * @param width Width of the area to cover
+     * @param height Height of the area to cover
+     */
+    public void render(SpriteBatch batch, float offsetX, float offsetY, float width, float height) {
+        for (Layer layer : layers) {
+            float textureWidth = layer.texture.getWidth();
+            float textureHeight = layer.texture.getHeight();
+
+            // Keep the offsets small so UVs don't lose precision far from the origin
+            float scrollX = (offsetX * layer.parallaxFactor) % textureWidth;
+            float scrollY = (offsetY * layer.parallaxFactor) % textureHeight;
+
+            // V runs top to bottom in texture space, so the bottom edge gets the larger V
+            float u = scrollX / textureWidth;
+            float v = 1f - scrollY / textureHeight;
+            float u2 = u + width / textureWidth;
+            float v2 = v - height / textureHeight;
+
+            batch.draw(layer.texture, 0, 0, width, height, u, v, u2, v2);
+        }
+    }
+
+    /**
+     * Remove all layers. Textures are owned by the caller and are not disposed.
+     */
+    public void clear() {
+        layers.clear();
+    }
+
+    // A single tiled texture with its scroll speed
+    private static class Layer {
+        final Texture texture;
+        final float parallaxFactor;
+
+        Layer(Texture texture, float parallaxFactor) {
+            this.texture = texture;
+            this.parallaxFactor = parallaxFactor;
+        }
+    }
+}
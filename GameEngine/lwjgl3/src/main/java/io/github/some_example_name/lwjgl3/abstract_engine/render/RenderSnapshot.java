@@ -0,0 +1,173 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Copy of what a scene draws, recorded on the simulation thread and drawn on the render
+ * thread while the simulation moves on. Draws are kept as flat float records in world
+ * coordinates, in the order they were added; capturing reuses the arrays, so a snapshot
+ * allocates nothing once it has grown to the scene's size.
+ *
+ * Each draw carries a lag: where it was one tick earlier relative to where it is now.
+ * Drawing with an interpolation alpha moves it back by (1 - alpha) of that lag, and the
+ * camera is blended the same way, so snapshots interpolate like live rendering does.
+ */
+public class RenderSnapshot {
+    private static final int SPRITE = 0;
+    private static final int SEGMENT = 1;
+
+    // kind, x, y, width, height, rotation, packed colour, lag x, lag y
+    private static final int STRIDE = 9;
+
+    private static final float WHITE = Color.WHITE.toFloatBits();
+
+    private final Array<Object> images = new Array<>();
+    private final FloatArray draws = new FloatArray();
+
+    private float previousCameraX, previousCameraY;
+    private float cameraX, cameraY;
+
+    /**
+     * Remove all draws so the snapshot can be recorded again
+     */
+    public void clear() {
+        images.clear();
+        draws.clear();
+    }
+
+    /**
+     * Set the camera offset subtracted from every draw
+     * @param previousX Offset at the previous tick
+     * @param previousY Offset at the previous tick
+     * @param x Offset at the latest tick
+     * @param y Offset at the latest tick
+     */
+    public void setCamera(float previousX, float previousY, float x, float y) {
+        previousCameraX = previousX;
+        previousCameraY = previousY;
+        cameraX = x;
+        cameraY = y;
+    }
+
+    /**
+     * Get the camera X offset blended between the last two ticks
+     */
+    public float getCameraX(float alpha) {
+        return previousCameraX + (cameraX - previousCameraX) * alpha;
+    }
+
+    /**
+     * Get the camera Y offset blended between the last two ticks
+     */
+    public float getCameraY(float alpha) {
+        return previousCameraY + (cameraY - previousCameraY) * alpha;
+    }
+
+    /**
+     * Add a texture centred on a world position
+     * @param rotation Rotation in degrees around the centre
+     * @param lagX Previous X minus current X, for interpolation
+     * @param lagY Previous Y minus current Y, for interpolation
+     */
+    public void addSprite(Texture texture, float centerX, float centerY, float width, float height,
+            float rotation, float lagX, float lagY) {
+        add(SPRITE, texture, centerX, centerY, width, height, rotation, WHITE, lagX, lagY);
+    }
+
+    /**
+     * Add a tinted texture region centred on a world position
+     * @param rotation Rotation in degrees around the centre
+     * @param packedColor Tint from {@link Color#toFloatBits}
+     */
+    public void addSprite(TextureRegion region, float centerX, float centerY, float width, float height,
+            float rotation, float packedColor) {
+        add(SPRITE, region, centerX, centerY, width, height, rotation, packedColor, 0f, 0f);
+    }
+
+    /**
+     * Add a snake body segment, drawn through a SnakeRenderer when one is given
+     * @param lagX Previous X minus current X, for interpolation
+     * @param lagY Previous Y minus current Y, for interpolation
+     */
+    public void addSegment(Texture texture, float centerX, float centerY, float size, float lagX, float lagY) {
+        add(SEGMENT, texture, centerX, centerY, size, size, 0f, WHITE, lagX, lagY);
+    }
+
+    private void add(int kind, Object image, float x, float y, float width, float height,
+            float rotation, float color, float lagX, float lagY) {
+        images.add(image);
+        draws.add(kind);
+        draws.add(x);
+        draws.add(y);
+        draws.add(width);
+        draws.add(height);
+        draws.add(rotation);
+        draws.add(color);
+        draws.add(lagX);
+        draws.add(lagY);
+    }
+
+    /**
+     * Get the number of recorded draws
+     */
+    public int size() {
+        return images.size;
+    }
+
+    /**
+     * Draw the snapshot. The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     * @param snakeRenderer Instanced segment renderer, or null to draw segments with the batch
+     * @param alpha Progress into the next tick, from 0 (previous) to 1 (latest)
+     */
+    public void render(SpriteBatch batch, SnakeRenderer snakeRenderer, float alpha) {
+        float offsetX = getCameraX(alpha);
+        float offsetY = getCameraY(alpha);
+        float lag = 1f - alpha;
+        float previousColor = batch.getPackedColor();
+        float[] items = draws.items;
+        boolean segmentsQueued = false;
+
+        for (int i = 0, n = images.size; i < n; i++) {
+            int base = i * STRIDE;
+            float x = items[base + 1] + items[base + 7] * lag - offsetX;
+            float y = items[base + 2] + items[base + 8] * lag - offsetY;
+            float width = items[base + 3];
+            float height = items[base + 4];
+            Object image = images.get(i);
+
+            if ((int) items[base] == SEGMENT && snakeRenderer != null) {
+                snakeRenderer.drawSegment(batch, (Texture) image, x, y, width);
+                segmentsQueued = true;
+                continue;
+            }
+            // Queued segments go out first so they stay under later sprites
+            if (segmentsQueued) {
+                snakeRenderer.flush(batch);
+                segmentsQueued = false;
+            }
+
+            batch.setPackedColor(items[base + 6]);
+            float halfWidth = width / 2;
+            float halfHeight = height / 2;
+            if (image instanceof TextureRegion) {
+                batch.draw((TextureRegion) image, x - halfWidth, y - halfHeight,
+                        halfWidth, halfHeight, width, height, 1, 1, items[base + 5]);
+            } else {
+                Texture texture = (Texture) image;
+                batch.draw(texture, x - halfWidth, y - halfHeight,
+                        halfWidth, halfHeight, width, height, 1, 1, items[base + 5],
+                        0, 0, texture.getWidth(), texture.getHeight(), false, false);
+            }
+        }
+        if (segmentsQueued) {
+            snakeRenderer.flush(batch);
+        }
+        batch.setPackedColor(previousColor);
+    }
+}
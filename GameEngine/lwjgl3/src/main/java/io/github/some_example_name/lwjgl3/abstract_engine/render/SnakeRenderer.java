@@ -0,0 +1,206 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.render;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Renders snake body segments as instanced quads.
+ * Segment positions and sizes are uploaded as per-instance attributes so a whole
+ * run of segments sharing a texture is drawn with a single draw call.
+ * Falls back to plain SpriteBatch draws when instancing is not available.
+ */
+public class SnakeRenderer implements Disposable {
+    private static final Logger LOGGER = Logger.getLogger(SnakeRenderer.class.getName());
+
+    // Floats per instance: x, y, size
+    private static final int INSTANCE_SIZE = 3;
+    private static final int DEFAULT_MAX_INSTANCES = 4096;
+
+    private static final String VERTEX_SHADER =
+          "attribute vec2 a_position;\n"
+        + "attribute vec2 a_texCoord0;\n"
+        + "attribute vec3 a_instance;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    v_texCoords = a_texCoord0;\n"
+        + "    vec2 pos = a_position * a_instance.z + a_instance.xy;\n"
+        + "    gl_Position = u_projTrans * vec4(pos, 0.0, 1.0);\n"
+        + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+          "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform vec4 u_color;\n"
+        + "void main() {\n"
+        + "    gl_FragColor = u_color * texture2D(u_texture, v_texCoords);\n"
+        + "}\n";
+
+    private final int maxInstances;
+    private final float[] instanceData;
+    private final Matrix4 combinedMatrix = new Matrix4();
+
+    private Mesh mesh;
+    private ShaderProgram shader;
+    private boolean instancingSupported;
+
+    // Pending segments
+    private Texture currentTexture;
+    private int instanceCount;
+
+    /**
+     * Create a snake renderer with the default instance capacity
+     */
+    public SnakeRenderer() {
+        this(DEFAULT_MAX_INSTANCES);
+    }
+
+    /**
+     * Create a snake renderer
+     * @param maxInstances Maximum number of segments drawn per flush
+     */
+    public SnakeRenderer(int maxInstances) {
+        this.maxInstances = maxInstances;
+        this.instanceData = new float[maxInstances * INSTANCE_SIZE];
+
+        if (Gdx.gl30 != null) {
+            try {
+                createInstancedResources();
+                instancingSupported = true;
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Instanced rendering unavailable, using SpriteBatch: {0}", e.getMessage());
+                disposeInstancedResources();
+            }
+        } else {
+            LOGGER.log(Level.INFO, "GL30 not available, SnakeRenderer using SpriteBatch fallback");
+        }
+    }
+
+    /**
+     * Build the unit quad mesh, instance buffer and shader
+     */
+    private void createInstancedResources() {
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new IllegalStateException("Snake shader failed to compile: " + shader.getLog());
+        }
+
+        mesh = new Mesh(true, 4, 6,
+                new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+
+        // Unit quad centred on the origin, V flipped to match SpriteBatch
+        mesh.setVertices(new float[] {
+            -0.5f, -0.5f, 0f, 1f,
+             0.5f, -0.5f, 1f, 1f,
+             0.5f,  0.5f, 1f, 0f,
+            -0.5f,  0.5f, 0f, 0f
+        });
+        mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+
+        mesh.enableInstancedRendering(false, maxInstances,
+                new VertexAttribute(VertexAttributes.Usage.Generic, INSTANCE_SIZE, "a_instance"));
+    }
+
+    /**
+     * Check if segments are drawn with instancing rather than the SpriteBatch fallback
+     */
+    public boolean isInstancingSupported() {
+        return instancingSupported;
+    }
+
+    /**
+     * Queue a body segment centred on the given position.
+     * Segments are buffered until the texture changes, the buffer is full or {@link #flush} is called.
+     * @param batch The active SpriteBatch
+     * @param texture The segment texture
+     * @param centerX Segment centre X in screen coordinates
+     * @param centerY Segment centre Y in screen coordinates
+     * @param size Segment width and height
+     */
+    public void drawSegment(SpriteBatch batch, Texture texture, float centerX, float centerY, float size) {
+        if (!instancingSupported) {
+            batch.draw(texture, centerX - size / 2, centerY - size / 2, size, size);
+            return;
+        }
+
+        if (texture != currentTexture || instanceCount == maxInstances) {
+            flush(batch);
+            currentTexture = texture;
+        }
+
+        int offset = instanceCount * INSTANCE_SIZE;
+        instanceData[offset] = centerX;
+        instanceData[offset + 1] = centerY;
+        instanceData[offset + 2] = size;
+        instanceCount++;
+    }
+
+    /**
+     * Draw all queued segments.
+     * The SpriteBatch is flushed first so draw order is preserved, and its shader
+     * is rebound afterwards so the batch can keep drawing.
+     * @param batch The active SpriteBatch
+     */
+    public void flush(SpriteBatch batch) {
+        if (!instancingSupported || instanceCount == 0 || currentTexture == null) {
+            return;
+        }
+
+        batch.flush();
+
+        combinedMatrix.set(batch.getProjectionMatrix()).mul(batch.getTransformMatrix());
+        Color color = batch.getColor();
+
+        mesh.setInstanceData(instanceData, 0, instanceCount * INSTANCE_SIZE);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        currentTexture.bind(0);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", combinedMatrix);
+        shader.setUniformi("u_texture", 0);
+        shader.setUniformf("u_color", color);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+
+        // Hand the GL program back to the batch
+        batch.getShader().bind();
+
+        instanceCount = 0;
+    }
+
+    private void disposeInstancedResources() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeInstancedResources();
+        instancingSupported = false;
+        currentTexture = null;
+        instanceCount = 0;
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventTypes;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.InputFrame;
+
+/**
+ * Append-only binary journal of a play session: each frame's input, frame time and
+ * random seed, followed by the state-relevant events triggered during that frame.
+ * Records are built in a direct buffer and written through a FileChannel when it fills,
+ * so recording costs a few buffer puts per frame. A ReplayDriver plays the journal back.
+ *
+ * Layout (big-endian): magic "GJRN", version, start time, then tagged records:
+ * FRAME, TYPE (maps a journal-local type number to its name) and EVENT.
+ */
+public class EventJournal implements EventSystem.EventListener, Closeable {
+    private static final Logger LOGGER = Logger.getLogger(EventJournal.class.getName());
+
+    static final int MAGIC = 0x474A524E; // "GJRN"
+    static final int VERSION = 1;
+
+    static final byte RECORD_FRAME = 1;
+    static final byte RECORD_TYPE = 2;
+    static final byte RECORD_EVENT = 3;
+
+    static final byte VALUE_INT = 1;
+    static final byte VALUE_FLOAT = 2;
+    static final byte VALUE_BOOLEAN = 3;
+    static final byte VALUE_STRING = 4;
+    static final byte VALUE_LONG = 5;
+
+    /** Events that change game state, recorded by default */
+    public static final String[] DEFAULT_EVENT_TYPES = {
+        GameEvent.COLLISION,
+        GameEvent.ITEM_COLLECTED,
+        GameEvent.LEVEL_LOADED,
+        GameEvent.PLAYER_DIED,
+        GameEvent.PLAYER_WON,
+        GameEvent.SCORE_CHANGED,
+        GameEvent.GAME_STATE_CHANGED
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final String[] eventTypes;
+    // Seeds for each frame come from here, so the session seed alone reproduces them
+    private final RandomXS128 seedSource;
+    private final InputFrame inputFrame = new InputFrame();
+    // Engine type ID -> journal-local type number, written once per type
+    private final IntIntMap journalTypes = new IntIntMap();
+    private final Map<String, Object> parameters = new HashMap<>();
+    private int frame;
+    private boolean open = true;
+
+    /**
+     * Start a journal, replacing any file at the path
+     * @param path Where to write the journal
+     * @param eventTypes Event types to record, e.g. DEFAULT_EVENT_TYPES
+     */
+    public EventJournal(Path path, String... eventTypes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.eventTypes = eventTypes.clone();
+        this.seedSource = new RandomXS128();
+
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis());
+
+        // Types are written up front so a replay also notices events that never fired here
+        EventSystem eventSystem = EventSystem.getInstance();
+        for (String type : this.eventTypes) {
+            defineType(EventTypes.register(type), type);
+            eventSystem.addEventListener(type, this);
+        }
+        LOGGER.log(Level.INFO, "Recording session journal to {0}", path);
+    }
+
+    /**
+     * Record the start of a frame: reseeds MathUtils.random and writes the seed,
+     * frame time and current input. Call before anything in the frame uses input or randomness.
+     * @param deltaTime The frame time the game will use
+     */
+    public void beginFrame(float deltaTime) {
+        if (!open) {
+            return;
+        }
+        long seed = seedSource.nextLong();
+        MathUtils.random.setSeed(seed);
+        inputFrame.capture(Gdx.input, frame++, deltaTime, seed);
+
+        ensureSpace(1 + 4 + 4 + 8 + 4 + 4 + 4 + 2 * (inputFrame.getPressedKeys().size
+            + inputFrame.getJustPressedKeys().size));
+        buffer.put(RECORD_FRAME)
+            .putInt(inputFrame.getFrame())
+            .putFloat(inputFrame.getDeltaTime())
+            .putLong(inputFrame.getRandomSeed())
+            .putInt(inputFrame.getMouseX())
+            .putInt(inputFrame.getMouseY());
+        putKeys(inputFrame.getPressedKeys().items, inputFrame.getPressedKeys().size);
+        putKeys(inputFrame.getJustPressedKeys().items, inputFrame.getJustPressedKeys().size);
+    }
+
+    private int defineType(int typeId, String type) {
+        int journalType = journalTypes.size;
+        journalTypes.put(typeId, journalType);
+        byte[] name = type.getBytes(StandardCharsets.UTF_8);
+        ensureSpace(1 + 2 + 2 + name.length);
+        buffer.put(RECORD_TYPE).putShort((short) journalType);
+        putBytes(name);
+        return journalType;
+    }
+
+    private void putKeys(int[] keys, int count) {
+        buffer.putShort((short) count);
+        for (int i = 0; i < count; i++) {
+            buffer.putShort((short) keys[i]);
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (!open || frame == 0) {
+            return;
+        }
+        int journalType = journalTypes.get(event.getTypeId(), -1);
+        if (journalType < 0) {
+            journalType = defineType(event.getTypeId(), event.getType());
+        }
+
+        parameters.clear();
+        event.collectParameters(parameters);
+        // Object references (entities, textures, ...) can't be replayed; only values and IDs are kept
+        int size = 1 + 2 + 1;
+        int count = 0;
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            int valueSize = valueSize(parameter.getValue());
+            if (valueSize > 0) {
+                size += 2 + parameter.getKey().length() * 3 + 1 + valueSize;
+                count++;
+            }
+        }
+        ensureSpace(size);
+        buffer.put(RECORD_EVENT).putShort((short) journalType).put((byte) count);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            Object value = parameter.getValue();
+            if (valueSize(value) > 0) {
+                putBytes(parameter.getKey().getBytes(StandardCharsets.UTF_8));
+                putValue(value);
+            }
+        }
+    }
+
+    /**
+     * Get the largest encoded size of a parameter value, or 0 if it can't be recorded
+     */
+    static int valueSize(Object value) {
+        if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        } else if (value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof Long) {
+            return 8;
+        } else if (value instanceof String) {
+            // At most three UTF-8 bytes per char, plus the length
+            return 2 + ((String) value).length() * 3;
+        }
+        return 0;
+    }
+
+    private void putValue(Object value) {
+        if (value instanceof Integer) {
+            buffer.put(VALUE_INT).putInt((Integer) value);
+        } else if (value instanceof Float) {
+            buffer.put(VALUE_FLOAT).putFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            buffer.put(VALUE_BOOLEAN).put((byte) ((Boolean) value ? 1 : 0));
+        } else if (value instanceof Long) {
+            buffer.put(VALUE_LONG).putLong((Long) value);
+        } else {
+            buffer.put(VALUE_STRING);
+            putBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void putBytes(byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private void ensureSpace(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Write everything buffered so far to the file
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Couldn't write session journal: {0}", e.getMessage());
+            open = false;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Get the number of frames recorded
+     */
+    public int getFrameCount() {
+        return frame;
+    }
+
+    /**
+     * Stop recording, flush and close the file
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        EventSystem eventSystem = EventSystem.getInstance();
+        for (String type : eventTypes) {
+            eventSystem.removeEventListener(type, this);
+        }
+        flush();
+        open = false;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Couldn't close session journal: {0}", e.getMessage());
+        }
+        LOGGER.log(Level.INFO, "Session journal closed after {0} frames", frame);
+    }
+}
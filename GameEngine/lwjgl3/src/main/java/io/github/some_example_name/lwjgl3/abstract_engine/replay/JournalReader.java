@@ -0,0 +1,202 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.io.InputFrame;
+
+/**
+ * Reads a journal written by EventJournal one frame at a time.
+ * The file is memory-mapped, so reading a frame is a handful of buffer gets.
+ */
+public class JournalReader {
+    private final ByteBuffer data;
+    private final long startTimeMillis;
+    // Journal-local type number -> name, filled as TYPE records are read
+    private final Array<String> typeNames = new Array<>(String.class);
+    private final List<String> recordedTypes;
+
+    /**
+     * Map a journal file
+     * @param path The journal
+     */
+    public JournalReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.remaining() < 16 || data.getInt() != EventJournal.MAGIC || data.getInt() != EventJournal.VERSION) {
+            throw new GdxRuntimeException("Not a session journal: " + path);
+        }
+        startTimeMillis = data.getLong();
+        recordedTypes = scanTypes();
+    }
+
+    /**
+     * Collect the names of every event type in the journal without moving the read position
+     */
+    private List<String> scanTypes() {
+        List<String> names = new ArrayList<>();
+        ByteBuffer scan = data.duplicate();
+        InputFrame scratch = new InputFrame();
+        List<RecordedEvent> ignored = new ArrayList<>();
+        Array<String> scanTypeNames = new Array<>(String.class);
+        while (scan.hasRemaining()) {
+            byte record = scan.get();
+            if (record == EventJournal.RECORD_FRAME) {
+                readFrame(scan, scratch);
+            } else if (record == EventJournal.RECORD_TYPE) {
+                scan.getShort();
+                String name = readString(scan);
+                scanTypeNames.add(name);
+                names.add(name);
+            } else if (record == EventJournal.RECORD_EVENT) {
+                ignored.clear();
+                readEvent(scan, scanTypeNames, ignored);
+            } else {
+                throw new GdxRuntimeException("Corrupt session journal: unknown record " + record);
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Get the names of the event types the journal recorded
+     */
+    public List<String> getRecordedTypes() {
+        return recordedTypes;
+    }
+
+    /**
+     * Get the time recording started, from System.currentTimeMillis()
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * Read the next frame and the events recorded during it
+     * @param frame Filled with the frame's input, time and seed
+     * @param events Cleared, then filled with the frame's events in trigger order
+     * @return false if the journal has no more frames
+     */
+    public boolean nextFrame(InputFrame frame, List<RecordedEvent> events) {
+        events.clear();
+        if (!data.hasRemaining()) {
+            return false;
+        }
+        byte record = data.get();
+        if (record != EventJournal.RECORD_FRAME) {
+            throw new GdxRuntimeException("Corrupt session journal: expected a frame, found record " + record);
+        }
+        readFrame(data, frame);
+
+        while (data.hasRemaining() && data.get(data.position()) != EventJournal.RECORD_FRAME) {
+            record = data.get();
+            if (record == EventJournal.RECORD_TYPE) {
+                data.getShort();
+                typeNames.add(readString(data));
+            } else {
+                readEvent(data, typeNames, events);
+            }
+        }
+        return true;
+    }
+
+    private static void readFrame(ByteBuffer in, InputFrame frame) {
+        frame.set(in.getInt(), in.getFloat(), in.getLong(), in.getInt(), in.getInt());
+        for (int i = in.getShort(); i > 0; i--) {
+            frame.getPressedKeys().add(in.getShort());
+        }
+        for (int i = in.getShort(); i > 0; i--) {
+            frame.getJustPressedKeys().add(in.getShort());
+        }
+    }
+
+    private static void readEvent(ByteBuffer in, Array<String> types, List<RecordedEvent> events) {
+        String type = types.get(in.getShort());
+        int count = in.get() & 0xFF;
+        Map<String, Object> parameters = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = readString(in);
+            byte tag = in.get();
+            switch (tag) {
+                case EventJournal.VALUE_INT:
+                    parameters.put(key, in.getInt());
+                    break;
+                case EventJournal.VALUE_FLOAT:
+                    parameters.put(key, in.getFloat());
+                    break;
+                case EventJournal.VALUE_BOOLEAN:
+                    parameters.put(key, in.get() != 0);
+                    break;
+                case EventJournal.VALUE_LONG:
+                    parameters.put(key, in.getLong());
+                    break;
+                case EventJournal.VALUE_STRING:
+                    parameters.put(key, readString(in));
+                    break;
+                default:
+                    throw new GdxRuntimeException("Corrupt session journal: unknown value type " + tag);
+            }
+        }
+        events.add(new RecordedEvent(type, parameters));
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An event as stored in the journal: its type and recordable parameters
+     */
+    public static class RecordedEvent {
+        private final String type;
+        private final Map<String, Object> parameters;
+
+        public RecordedEvent(String type, Map<String, Object> parameters) {
+            this.type = type;
+            this.parameters = parameters;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof RecordedEvent)) {
+                return false;
+            }
+            RecordedEvent event = (RecordedEvent) other;
+            return type.equals(event.type) && parameters.equals(event.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode() * 31 + parameters.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return type + parameters;
+        }
+    }
+}
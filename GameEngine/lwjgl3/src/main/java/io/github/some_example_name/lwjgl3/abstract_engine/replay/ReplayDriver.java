@@ -0,0 +1,178 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.DynamicInput;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.InputFrame;
+import io.github.some_example_name.lwjgl3.abstract_engine.replay.JournalReader.RecordedEvent;
+
+/**
+ * Re-runs a recorded session frame by frame: feeds each frame's input to DynamicInput,
+ * reseeds MathUtils.random and hands the recorded frame time to the game loop. The events
+ * the game triggers are compared with the journal, so a change in behaviour shows up as
+ * the first frame that diverges, and the frame times give a repeatable performance run.
+ */
+public class ReplayDriver implements EventSystem.EventListener, Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ReplayDriver.class.getName());
+
+    private final JournalReader reader;
+    private final DynamicInput input;
+    private final InputFrame frame = new InputFrame();
+    private final List<RecordedEvent> expected = new ArrayList<>();
+    private final List<RecordedEvent> actual = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
+
+    private boolean finished;
+    private int frameCount;
+    private int divergentFrames;
+    private int firstDivergentFrame = -1;
+    private long frameStartNanos;
+    private long totalFrameNanos;
+    private long maxFrameNanos;
+
+    /**
+     * Open a journal for replay
+     * @param path The journal written by EventJournal
+     * @param input The input handler the game reads from
+     */
+    public ReplayDriver(Path path, DynamicInput input) throws IOException {
+        this.reader = new JournalReader(path);
+        this.input = input;
+
+        EventSystem eventSystem = EventSystem.getInstance();
+        for (String type : reader.getRecordedTypes()) {
+            eventSystem.addEventListener(type, this);
+        }
+        LOGGER.log(Level.INFO, "Replaying session journal {0}", path);
+    }
+
+    /**
+     * Load the next recorded frame and apply its input and random seed
+     * @return false once the journal is exhausted
+     */
+    public boolean beginFrame() {
+        if (finished) {
+            return false;
+        }
+        if (!reader.nextFrame(frame, expected)) {
+            finished = true;
+            input.setReplayFrame(null);
+            LOGGER.log(Level.INFO, getReport());
+            return false;
+        }
+        actual.clear();
+        MathUtils.random.setSeed(frame.getRandomSeed());
+        input.setReplayFrame(frame);
+        frameStartNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * Get the recorded frame time for the current frame
+     */
+    public float getDeltaTime() {
+        return frame.getDeltaTime();
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (finished) {
+            return;
+        }
+        parameters.clear();
+        event.collectParameters(parameters);
+        Map<String, Object> recordable = new HashMap<>();
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            if (EventJournal.valueSize(parameter.getValue()) > 0) {
+                recordable.put(parameter.getKey(), parameter.getValue());
+            }
+        }
+        actual.add(new RecordedEvent(event.getType(), recordable));
+    }
+
+    /**
+     * Finish the current frame: record its time and compare its events with the journal
+     */
+    public void endFrame() {
+        if (finished) {
+            return;
+        }
+        long nanos = System.nanoTime() - frameStartNanos;
+        totalFrameNanos += nanos;
+        maxFrameNanos = Math.max(maxFrameNanos, nanos);
+        frameCount++;
+
+        if (!expected.equals(actual)) {
+            divergentFrames++;
+            if (firstDivergentFrame < 0) {
+                firstDivergentFrame = frame.getFrame();
+                LOGGER.log(Level.WARNING, "Replay diverged at frame {0}: expected {1}, got {2}",
+                    new Object[]{frame.getFrame(), describe(expected), describe(actual)});
+            }
+        }
+    }
+
+    private static String describe(List<RecordedEvent> events) {
+        StringBuilder text = new StringBuilder("[");
+        for (Iterator<RecordedEvent> it = events.iterator(); it.hasNext(); ) {
+            text.append(it.next());
+            if (it.hasNext()) {
+                text.append(", ");
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Check if every recorded frame has been replayed
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Check if every replayed frame triggered the recorded events
+     */
+    public boolean isDeterministic() {
+        return divergentFrames == 0;
+    }
+
+    /**
+     * Get the frame that first triggered different events, or -1 if none has
+     */
+    public int getFirstDivergentFrame() {
+        return firstDivergentFrame;
+    }
+
+    /**
+     * Get a one-line summary of the replay so far
+     */
+    public String getReport() {
+        float averageMillis = frameCount == 0 ? 0f : totalFrameNanos / (frameCount * 1_000_000f);
+        return String.format("Replayed %d frames: avg %.3f ms, max %.3f ms per frame; %d divergent frame(s)%s",
+            frameCount, averageMillis, maxFrameNanos / 1_000_000f, divergentFrames,
+            firstDivergentFrame >= 0 ? ", first at frame " + firstDivergentFrame : "");
+    }
+
+    @Override
+    public void close() {
+        EventSystem eventSystem = EventSystem.getInstance();
+        for (String type : reader.getRecordedTypes()) {
+            eventSystem.removeEventListener(type, this);
+        }
+        input.setReplayFrame(null);
+    }
+}
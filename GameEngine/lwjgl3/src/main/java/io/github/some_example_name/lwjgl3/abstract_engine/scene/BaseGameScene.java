@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
@@ -42,7 +43,7 @@ public abstract class BaseGameScene extends Scene {
         this.ioManager = ioManager;
         
         // Initialize common font
-        font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
     }
@@ -51,7 +52,7 @@ public abstract class BaseGameScene extends Scene {
     public void initialize() {
         try {
             // Load common background texture
-            backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.BACKGROUND));
+            backgroundTexture = ResourceManager.getInstance().acquireTexture(AssetPaths.BACKGROUND);
             
             // Let subclasses initialize their specific resources
             initializeResources();
@@ -138,11 +139,11 @@ public abstract class BaseGameScene extends Scene {
     @Override
     public void dispose() {
         if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+            ResourceManager.getInstance().release(AssetPaths.BACKGROUND);
         }
         
         if (font != null) {
-            font.dispose();
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
         
         // Call scene-specific disposal logic
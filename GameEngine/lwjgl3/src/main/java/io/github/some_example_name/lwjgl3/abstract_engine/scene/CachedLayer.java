@@ -0,0 +1,191 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.scene;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Caches the static part of a scene in an off-screen FrameBuffer.
+ * The painter is only run when the layer is invalidated (or the screen size changes);
+ * every other frame the cached texture is drawn as a single full-screen quad.
+ * Falls back to painting directly every frame if a FrameBuffer cannot be created.
+ */
+public class CachedLayer implements Disposable {
+    private static final Logger LOGGER = Logger.getLogger(CachedLayer.class.getName());
+
+    private final Painter painter;
+    private final Matrix4 savedProjection = new Matrix4();
+    private final Matrix4 cacheProjection = new Matrix4();
+    private final Color savedColor = new Color();
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+    private boolean valid;
+    private boolean fallback;
+    private int width;
+    private int height;
+
+    /**
+     * Draws the static content of a layer
+     */
+    public interface Painter {
+        /**
+         * Paint the layer contents. The batch is already started and set up for
+         * screen coordinates.
+         * @param batch The SpriteBatch to draw with
+         * @param width Screen width
+         * @param height Screen height
+         */
+        void paint(SpriteBatch batch, int width, int height);
+    }
+
+    /**
+     * Create a cached layer
+     * @param painter Draws the layer contents whenever the cache is rebuilt
+     */
+    public CachedLayer(Painter painter) {
+        this.painter = painter;
+    }
+
+    /**
+     * Mark the cached contents as stale so they are repainted on the next render
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Check if the cached contents are up to date
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Draw the layer, repainting the cache first if needed.
+     * The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     */
+    public void render(SpriteBatch batch) {
+        int screenWidth = Gdx.graphics.getWidth();
+        int screenHeight = Gdx.graphics.getHeight();
+
+        if (!fallback && (!valid || screenWidth != width || screenHeight != height)) {
+            repaint(batch, screenWidth, screenHeight);
+        }
+
+        if (fallback) {
+            painter.paint(batch, screenWidth, screenHeight);
+            return;
+        }
+
+        // The cache holds premultiplied colour, so composite with ONE / ONE_MINUS_SRC_ALPHA
+        int srcRgb = batch.getBlendSrcFunc();
+        int dstRgb = batch.getBlendDstFunc();
+        int srcAlpha = batch.getBlendSrcFuncAlpha();
+        int dstAlpha = batch.getBlendDstFuncAlpha();
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.draw(region, 0, 0, width, height);
+        batch.setBlendFunctionSeparate(srcRgb, dstRgb, srcAlpha, dstAlpha);
+    }
+
+    /**
+     * Run the painter into the FrameBuffer
+     */
+    private void repaint(SpriteBatch batch, int screenWidth, int screenHeight) {
+        if (!ensureFrameBuffer()) {
+            return;
+        }
+
+        boolean wasDrawing = batch.isDrawing();
+        if (wasDrawing) {
+            batch.end();
+        }
+
+        savedProjection.set(batch.getProjectionMatrix());
+        savedColor.set(batch.getColor());
+        int srcRgb = batch.getBlendSrcFunc();
+        int dstRgb = batch.getBlendDstFunc();
+        int srcAlpha = batch.getBlendSrcFuncAlpha();
+        int dstAlpha = batch.getBlendDstFuncAlpha();
+
+        // Paint in screen coordinates; blending alpha separately leaves premultiplied colour in the cache
+        batch.setProjectionMatrix(cacheProjection.setToOrtho2D(0, 0, screenWidth, screenHeight));
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setColor(Color.WHITE);
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.begin();
+        painter.paint(batch, screenWidth, screenHeight);
+        batch.end();
+        frameBuffer.end();
+
+        batch.setBlendFunctionSeparate(srcRgb, dstRgb, srcAlpha, dstAlpha);
+        batch.setColor(savedColor);
+        batch.setProjectionMatrix(savedProjection);
+
+        if (wasDrawing) {
+            batch.begin();
+        }
+
+        width = screenWidth;
+        height = screenHeight;
+        valid = true;
+    }
+
+    /**
+     * Create or resize the FrameBuffer to match the back buffer
+     * @return false if FrameBuffers are unavailable and the layer should paint directly
+     */
+    private boolean ensureFrameBuffer() {
+        int bufferWidth = Gdx.graphics.getBackBufferWidth();
+        int bufferHeight = Gdx.graphics.getBackBufferHeight();
+
+        if (frameBuffer != null
+                && frameBuffer.getWidth() == bufferWidth
+                && frameBuffer.getHeight() == bufferHeight) {
+            return true;
+        }
+
+        disposeFrameBuffer();
+        try {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, bufferWidth, bufferHeight, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            region = new TextureRegion(frameBuffer.getColorBufferTexture());
+            region.flip(false, true);
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "FrameBuffer unavailable, painting layer directly: {0}", e.getMessage());
+            disposeFrameBuffer();
+            fallback = true;
+            return false;
+        }
+    }
+
+    private void disposeFrameBuffer() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        region = null;
+    }
+
+    @Override
+    public void dispose() {
+        disposeFrameBuffer();
+        valid = false;
+    }
+}
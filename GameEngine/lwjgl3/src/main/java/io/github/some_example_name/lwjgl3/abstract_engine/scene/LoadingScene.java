@@ -0,0 +1,88 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.scene;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Scene shown by the SceneManager while the next scene's assets stream in.
+ * Draws a progress bar from a generated white pixel so it needs no assets itself.
+ */
+public class LoadingScene extends Scene {
+    // Short loads finish before the bar appears, so quick transitions don't flash
+    private static final float SHOW_DELAY = 0.1f;
+    private static final float BAR_WIDTH = 400f;
+    private static final float BAR_HEIGHT = 16f;
+
+    private static final Color BACKDROP = new Color(0.1f, 0.1f, 0.1f, 1f);
+    private static final Color BAR_BACKGROUND = new Color(0.25f, 0.25f, 0.25f, 1f);
+    private static final Color BAR_FILL = new Color(0.2f, 0.8f, 0.2f, 1f);
+
+    private Texture whitePixel;
+    private float progress;
+    private float displayedProgress;
+    private float timeShown;
+
+    public LoadingScene() {
+        super("loading");
+    }
+
+    @Override
+    public void initialize() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        whitePixel = manage(new Texture(pixmap));
+        pixmap.dispose();
+        setInitialized();
+    }
+
+    /**
+     * Restart the loading display for a new transition
+     */
+    public void reset() {
+        progress = 0;
+        displayedProgress = 0;
+        timeShown = 0;
+    }
+
+    /**
+     * Set the current loading progress
+     * @param progress Fraction of the next scene's assets that are loaded (0-1)
+     */
+    public void setProgress(float progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        timeShown += deltaTime;
+
+        // Ease the bar towards the real progress so it doesn't jump per asset
+        displayedProgress += (progress - displayedProgress) * Math.min(1f, deltaTime * 10f);
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+        if (timeShown < SHOW_DELAY) {
+            return;
+        }
+
+        float screenWidth = Gdx.graphics.getWidth();
+        float screenHeight = Gdx.graphics.getHeight();
+        float barX = (screenWidth - BAR_WIDTH) / 2f;
+        float barY = (screenHeight - BAR_HEIGHT) / 2f;
+
+        batch.begin();
+        batch.setColor(BACKDROP);
+        batch.draw(whitePixel, 0, 0, screenWidth, screenHeight);
+        batch.setColor(BAR_BACKGROUND);
+        batch.draw(whitePixel, barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        batch.setColor(BAR_FILL);
+        batch.draw(whitePixel, barX, barY, BAR_WIDTH * displayedProgress, BAR_HEIGHT);
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+}
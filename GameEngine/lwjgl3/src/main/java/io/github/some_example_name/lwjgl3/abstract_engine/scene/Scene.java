@@ -3,8 +3,11 @@ package io.github.some_example_name.lwjgl3.abstract_engine.scene;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Disposable;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSubscription;
 import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
 import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.ListenerScope;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,10 +22,16 @@ public abstract class Scene implements Disposable {
     private static final Logger LOGGER = Logger.getLogger(Scene.class.getName());
     
     protected final List<Disposable> managedResources;
+    // Event listeners registered through listen(), removed when the scene is disposed
+    private final ListenerScope listeners = new ListenerScope();
     private boolean initialized;
     private boolean active;
     private float timeElapsed;
+    // How far rendering is between the last two fixed updates (1 = the latest)
+    private float renderAlpha = 1f;
     private String sceneId;
+    private AssetManifest assetManifest;
+    private AssetManifest prefetchManifest;
     
     /**
      * Create a new scene
@@ -49,6 +58,50 @@ public abstract class Scene implements Disposable {
      */
     public abstract void initialize();
     
+    /**
+     * Declare the assets this scene needs.
+     * The SceneManager loads them in the background before calling initialize(),
+     * so initialize() can fetch them from the ResourceManager without blocking.
+     * Default implementation declares nothing.
+     * @param manifest The manifest to add assets to
+     */
+    protected void declareAssets(AssetManifest manifest) {
+        // Default implementation declares nothing
+    }
+    
+    /**
+     * Get the assets this scene needs, as declared by {@link #declareAssets}
+     */
+    public final AssetManifest getAssetManifest() {
+        if (assetManifest == null) {
+            assetManifest = new AssetManifest();
+            declareAssets(assetManifest);
+        }
+        return assetManifest;
+    }
+    
+    /**
+     * Declare assets of the scenes likely to follow this one.
+     * The SceneManager warms them in the background while this scene is current,
+     * so the next transition finds them already loaded.
+     * Default implementation declares nothing.
+     * @param manifest The manifest to add assets to
+     */
+    protected void declareLikelyNextAssets(AssetManifest manifest) {
+        // Default implementation declares nothing
+    }
+    
+    /**
+     * Get the assets of likely next scenes, as declared by {@link #declareLikelyNextAssets}
+     */
+    public final AssetManifest getPrefetchManifest() {
+        if (prefetchManifest == null) {
+            prefetchManifest = new AssetManifest();
+            declareLikelyNextAssets(prefetchManifest);
+        }
+        return prefetchManifest;
+    }
+    
     /**
      * Notification that the scene is about to become active
      */
@@ -119,6 +172,22 @@ public abstract class Scene implements Disposable {
      */
     public abstract void render(SpriteBatch batch);
     
+    /**
+     * Set how far the frame being rendered is past the last fixed update
+     * @param alpha 0 (the previous update's state) to 1 (the latest update's state)
+     */
+    public void setRenderAlpha(float alpha) {
+        this.renderAlpha = alpha;
+    }
+    
+    /**
+     * Get the interpolation factor for the frame being rendered.
+     * Scenes drawing moving objects blend their previous and current positions with it.
+     */
+    public float getRenderAlpha() {
+        return renderAlpha;
+    }
+    
     /**
      * Pre-render hook called before the main render.
      * @param batch The SpriteBatch to render with
@@ -167,6 +236,29 @@ public abstract class Scene implements Disposable {
         return resource;
     }
     
+    /**
+     * Register an event listener for the lifetime of the scene.
+     * It is unregistered automatically when the scene is disposed.
+     * @param eventType The type of event to listen for
+     * @param listener The listener
+     * @return The subscription, to end it early
+     */
+    protected EventSubscription listen(String eventType, EventSystem.EventListener listener) {
+        return listeners.listen(eventType, listener);
+    }
+    
+    /**
+     * Register a typed event listener for the lifetime of the scene
+     * @param eventType The type of event to listen for
+     * @param eventClass The payload class, e.g. ScoreChangedEvent
+     * @param listener The listener
+     * @return The subscription, to end it early
+     */
+    protected <T extends GameEvent> EventSubscription listen(String eventType, Class<T> eventClass,
+            EventSystem.TypedEventListener<T> listener) {
+        return listeners.listen(eventType, eventClass, listener);
+    }
+    
     /**
      * Set the scene ID
      * @param sceneId Unique identifier for the scene
@@ -234,12 +326,31 @@ public abstract class Scene implements Disposable {
         this.initialized = true;
     }
     
+    /**
+     * Remove the scene's listen() registrations, then dispose it.
+     * SceneManager tears scenes down through this, so listeners are released
+     * even when an override of dispose() doesn't call super.dispose().
+     */
+    final void destroy() {
+        listeners.dispose();
+        dispose();
+    }
+
+    /**
+     * Get the listeners registered through listen(), for leak checks
+     */
+    ListenerScope getListenerScope() {
+        return listeners;
+    }
+
     /**
      * Dispose the scene and all its resources.
      * This automatically disposes all managed resources.
      */
     @Override
     public void dispose() {
+        listeners.dispose();
+        
         // Dispose all managed resources
         for (Disposable resource : managedResources) {
             if (resource != null) {
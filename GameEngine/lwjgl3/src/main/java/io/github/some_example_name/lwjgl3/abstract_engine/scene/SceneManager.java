@@ -1,24 +1,63 @@
-// SceneManager.java
 package io.github.some_example_name.lwjgl3.abstract_engine.scene;
 
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.ListenerLeakDetector;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 
 public class SceneManager {
+    private static final String TAG = "SceneManager";
+
+    // Render-thread time per frame spent finishing asset loads during a transition
+    private static final int LOAD_BUDGET_MILLIS = 8;
+    // Render-thread time per frame spent warming hinted assets while a scene runs
+    private static final int PREFETCH_BUDGET_MILLIS = 2;
+    // Upper bound on memory held by hinted assets that no scene is using yet
+    private static final long PREFETCH_MEMORY_BUDGET = 48L * 1024 * 1024;
+
     private final Stack<Scene> sceneStack = new Stack<>();
     private Scene currentScene;
     private final World world;
     private GameState gameState;
-    private final Texture transitionTexture;
+
+    private final ResourceManager resourceManager;
+    private final LoadingScene loadingScene;
+
+    // Scene waiting for its assets before it is initialized
+    private Scene pendingScene;
+    private GameState pendingState;
+
+    // Manifests of outgoing scenes, released once the incoming scene's assets are in
+    private final Array<AssetManifest> manifestsToRelease = new Array<>();
+
+    // Assets of likely next scenes, loaded while the current scene runs
+    private final Array<AssetManifest> prefetchedManifests = new Array<>();
+    private long prefetchedBytes;
+
+    // Checks after each transition that listener counts stay flat
+    private final ListenerLeakDetector leakDetector = new ListenerLeakDetector();
+
+    // Thread that created the manager and owns the GL context
+    private final Thread renderThread;
+    // Transitions requested by the simulation thread, run at the next render-thread sync
+    private final ConcurrentLinkedQueue<Runnable> renderThreadTasks = new ConcurrentLinkedQueue<>();
 
     public SceneManager(World world) {
         this.world = world;
         this.gameState = GameState.MAIN_MENU;
-        transitionTexture = new Texture(Gdx.files.internal("transitionFade.png"));
+        this.renderThread = Thread.currentThread();
+
+        resourceManager = ResourceManager.getInstance();
+        loadingScene = new LoadingScene();
+        loadingScene.initialize();
     }
 
     public World getWorld() {
@@ -36,37 +75,225 @@ public class SceneManager {
     public void pushScene(Scene scene, GameState newState) {
         if (currentScene != null) {
             sceneStack.push(currentScene);
+            currentScene = null;
         }
-        currentScene = scene;
-        currentScene.initialize();
-        gameState = newState;
+        beginTransition(scene, newState);
     }
 
     public void popScene() {
         if (!sceneStack.isEmpty()) {
-            currentScene.dispose();
+            if (currentScene != null) {
+                destroyScene(currentScene);
+                resourceManager.unload(currentScene.getAssetManifest());
+            }
             currentScene = sceneStack.pop();
             // For a paused/resumed game, do not reinitialize the game scene.
+            resourceManager.collectUnreferenced();
+            prefetch(currentScene.getPrefetchManifest());
         }
     }
 
     public void changeScene(Scene newScene, GameState newState) {
         if (currentScene != null) {
-            currentScene.dispose();
+            destroyScene(currentScene);
+            // Keep the old assets referenced until the new scene's are loaded, so shared ones stay resident
+            manifestsToRelease.add(currentScene.getAssetManifest());
+            currentScene = null;
+        }
+        beginTransition(newScene, newState);
+    }
+
+    /**
+     * Queue the incoming scene's assets and switch to it as soon as they are loaded.
+     * If everything is already resident the switch happens immediately.
+     */
+    private void beginTransition(Scene scene, GameState newState) {
+        cancelPendingTransition();
+
+        pendingScene = scene;
+        pendingState = newState;
+        resourceManager.load(scene.getAssetManifest());
+        // The incoming scene holds its own references now; drop the hints so
+        // queued assets it doesn't need stop delaying it
+        cancelPrefetch();
+        loadingScene.reset();
+
+        tryCompleteTransition();
+    }
+
+    /**
+     * Stream the pending scene's assets for one frame's budget
+     * @return true if the pending scene was initialized and is now current
+     */
+    private boolean tryCompleteTransition() {
+        AssetManifest manifest = pendingScene.getAssetManifest();
+        resourceManager.updateWithBudget(LOAD_BUDGET_MILLIS);
+
+        if (!resourceManager.isLoaded(manifest)) {
+            loadingScene.setProgress(resourceManager.getProgress(manifest));
+            return false;
+        }
+
+        Scene scene = pendingScene;
+        pendingScene = null;
+        releaseOutgoingManifests();
+
+        scene.initialize();
+        currentScene = scene;
+        gameState = pendingState;
+        // Assets the outgoing scene released stay cached until memory runs over budget
+        resourceManager.collectUnreferenced();
+        Gdx.app.debug(TAG, "Assets: " + resourceManager.getStatistics());
+        // Always check, the detector warns on its own when counts keep growing
+        Map<String, Integer> listenerCounts = leakDetector.check(scene.getClass().getSimpleName());
+        Gdx.app.debug(TAG, "Listeners: " + listenerCounts);
+        prefetch(scene.getPrefetchManifest());
+        return true;
+    }
+
+    /**
+     * Drop a transition that was replaced before its assets finished loading
+     */
+    private void cancelPendingTransition() {
+        if (pendingScene == null) {
+            return;
+        }
+        resourceManager.unload(pendingScene.getAssetManifest());
+        try {
+            destroyScene(pendingScene);
+        } catch (Exception e) {
+            System.err.println("[SceneManager] Error disposing cancelled scene: " + e.getMessage());
+        }
+        pendingScene = null;
+    }
+
+    private void releaseOutgoingManifests() {
+        for (AssetManifest manifest : manifestsToRelease) {
+            resourceManager.unload(manifest);
+        }
+        manifestsToRelease.clear();
+    }
+
+    /**
+     * Hint that a scene using these assets is likely to come next, so they are
+     * warmed in the background while the current scene runs.
+     * Hints are dropped when the next transition starts, or with {@link #cancelPrefetch()}.
+     * @param hint Assets of the likely next scene(s)
+     * @return false if the hint was rejected because it would exceed the prefetch memory budget
+     */
+    public boolean prefetch(AssetManifest hint) {
+        if (hint == null || hint.isEmpty() || prefetchedManifests.contains(hint, true)) {
+            return false;
+        }
+
+        long bytes = resourceManager.estimateUnloadedBytes(hint);
+        if (prefetchedBytes + bytes > PREFETCH_MEMORY_BUDGET) {
+            Gdx.app.debug(TAG, "Prefetch skipped, over budget by "
+                    + (prefetchedBytes + bytes - PREFETCH_MEMORY_BUDGET) + " bytes");
+            return false;
+        }
+
+        resourceManager.load(hint);
+        prefetchedManifests.add(hint);
+        prefetchedBytes += bytes;
+        return true;
+    }
+
+    /**
+     * Release all prefetch hints. Hinted assets still queued are not loaded,
+     * and loaded ones are unloaded unless a scene is using them.
+     */
+    public void cancelPrefetch() {
+        for (AssetManifest manifest : prefetchedManifests) {
+            resourceManager.unload(manifest);
+        }
+        prefetchedManifests.clear();
+        prefetchedBytes = 0;
+    }
+
+    /**
+     * Check if a scene transition is waiting for assets
+     */
+    public boolean isLoading() {
+        return pendingScene != null;
+    }
+
+    /**
+     * Run scene work that needs the render thread, such as a transition: building the next
+     * scene acquires fonts and textures, and finishing it loads assets and disposes the old scene.
+     * On the render thread the task runs immediately. From the simulation thread it is queued
+     * until {@link #syncRenderThread()}, and the current scene stops updating until then.
+     * @param task The work to run
+     */
+    public void runOnRenderThread(Runnable task) {
+        if (Thread.currentThread() == renderThread) {
+            task.run();
+        } else {
+            renderThreadTasks.add(task);
+        }
+    }
+
+    /**
+     * Check if work queued with {@link #runOnRenderThread(Runnable)} is waiting
+     */
+    public boolean hasRenderThreadTasks() {
+        return !renderThreadTasks.isEmpty();
+    }
+
+    /**
+     * Run queued render-thread work.
+     * Call on the render thread while the simulation thread is idle.
+     */
+    public void syncRenderThread() {
+        Runnable task;
+        while ((task = renderThreadTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Stream assets for one frame's budget: finish a pending transition once its assets
+     * are in, otherwise warm prefetched assets. Call once per rendered frame on the render
+     * thread, however many updates the frame runs.
+     */
+    public void updateAssets() {
+        if (pendingScene != null) {
+            tryCompleteTransition();
+        } else if (prefetchedManifests.size > 0) {
+            resourceManager.updateWithBudget(PREFETCH_BUDGET_MILLIS);
         }
-        newScene.initialize();
-        currentScene = newScene;
-        gameState = newState;
     }
 
     public void update(float deltaTime) {
-        if (currentScene != null) {
+        if (pendingScene != null) {
+            // The loading scene only ever updates on the render thread
+            if (Thread.currentThread() == renderThread) {
+                loadingScene.update(deltaTime);
+            }
+            return;
+        }
+        // A scene change queued by the simulation thread replaces this scene at the next sync
+        if (currentScene != null && renderThreadTasks.isEmpty()) {
             currentScene.update(deltaTime);
         }
     }
 
     public void render(SpriteBatch batch) {
+        render(batch, 1f);
+    }
+
+    /**
+     * Render the current scene between its last two fixed updates
+     * @param batch The SpriteBatch to render with
+     * @param alpha Progress into the next update, from 0 to 1
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        if (pendingScene != null) {
+            loadingScene.render(batch);
+            return;
+        }
         if (currentScene != null) {
+            currentScene.setRenderAlpha(alpha);
             currentScene.render(batch);
         }
     }
@@ -74,7 +301,7 @@ public class SceneManager {
     public Scene getCurrentScene() {
         return currentScene;
     }
-    
+
     public Scene getSceneBelow() {
         if (sceneStack.size() >= 2) {
             return sceneStack.get(sceneStack.size() - 2);
@@ -83,11 +310,21 @@ public class SceneManager {
     }
 
     public void dispose() {
+        cancelPendingTransition();
+        cancelPrefetch();
         if (currentScene != null) {
-            currentScene.dispose();
-        }
-        if (transitionTexture != null) {
-            transitionTexture.dispose();
+            destroyScene(currentScene);
+            resourceManager.unload(currentScene.getAssetManifest());
         }
+        releaseOutgoingManifests();
+        destroyScene(loadingScene);
+    }
+
+    /**
+     * Dispose a scene that is leaving for good and check it released its listeners
+     */
+    private void destroyScene(Scene scene) {
+        scene.destroy();
+        leakDetector.checkReleased(scene.getClass().getSimpleName(), scene.getListenerScope());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.scene;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+
+/**
+ * A scene that can be updated on the simulation thread while the render thread draws it.
+ * Rendering must then only read the snapshot, never the live scene state.
+ *
+ * Per frame the render thread waits for the simulation to go idle, calls
+ * {@link #syncRenderState()}, starts the next simulation batch and draws the snapshot
+ * recorded at the end of the previous one. Update must not touch GL: scene transitions
+ * go through {@link SceneManager#runOnRenderThread(Runnable)}. Entities created or removed
+ * during update acquire and release their textures on the simulation thread, so every
+ * texture they use must be in the scene's asset manifest; acquiring one that isn't
+ * resident throws rather than loading it there.
+ */
+public interface SnapshotScene {
+    /**
+     * Create an empty snapshot. Two are kept, one being drawn and one being recorded.
+     */
+    RenderSnapshot createSnapshot();
+
+    /**
+     * Record what the scene draws. Called on the simulation thread after its last tick of
+     * a batch, or on the render thread while the simulation is idle.
+     * @param snapshot A snapshot from {@link #createSnapshot()}, to clear and fill
+     */
+    void captureSnapshot(RenderSnapshot snapshot);
+
+    /**
+     * Bring render-thread-only state, such as cached HUD text, up to date.
+     * Called on the render thread while the simulation is idle.
+     */
+    void syncRenderState();
+
+    /**
+     * Draw a snapshot. Called on the render thread while the simulation runs.
+     * @param batch The SpriteBatch to draw with
+     * @param snapshot The latest recorded snapshot
+     * @param alpha Progress into the next tick, from 0 to 1
+     */
+    void renderSnapshot(SpriteBatch batch, RenderSnapshot snapshot, float alpha);
+}
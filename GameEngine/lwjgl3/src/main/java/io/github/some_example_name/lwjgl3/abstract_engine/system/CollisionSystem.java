@@ -13,8 +13,11 @@ import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.PhysicsComponent;
 import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
 import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AudioManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.SoundVoicePool;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -33,7 +36,9 @@ public class CollisionSystem extends AbstractSystem implements ContactListener {
     
     private World physicsWorld;
     private boolean playCollisionSounds = true;
-    private String defaultCollisionSound = "collision.mp3";
+    private String defaultCollisionSound = AssetPaths.COLLISION_SOUND;
+    // Handle for defaultCollisionSound, resolved on first play
+    private int collisionSoundHandle = SoundVoicePool.INVALID_HANDLE;
     
     /**
      * Create a new collision system
@@ -151,14 +156,18 @@ public class CollisionSystem extends AbstractSystem implements ContactListener {
             collisionHandled = true;
         }
         
-        // Trigger collision event
-        EventSystem.getInstance().triggerEvent(
+        // Queue the collision event; listeners run after world.step, not inside it
+        EventSystem.getInstance().queueEvent(
             GameEvent.createCollisionEvent(entityA.getEntityID(), entityB.getEntityID())
         );
         
         // Play collision sound if enabled and collision was handled
         if (playCollisionSounds && collisionHandled) {
-            IOManager.getInstance().getAudio().playSound(defaultCollisionSound);
+            AudioManager audio = IOManager.getInstance().getAudio();
+            if (collisionSoundHandle == SoundVoicePool.INVALID_HANDLE) {
+                collisionSoundHandle = audio.getSoundHandle(defaultCollisionSound);
+            }
+            audio.playSound(collisionSoundHandle);
         }
     }
     
@@ -189,6 +198,7 @@ public class CollisionSystem extends AbstractSystem implements ContactListener {
      */
     public void setDefaultCollisionSound(String soundFile) {
         this.defaultCollisionSound = soundFile;
+        this.collisionSoundHandle = SoundVoicePool.INVALID_HANDLE;
     }
     
     /**
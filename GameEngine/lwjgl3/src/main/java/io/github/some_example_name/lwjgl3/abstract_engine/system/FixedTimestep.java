@@ -0,0 +1,82 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.system;
+
+/**
+ * Accumulator that turns variable frame times into a whole number of fixed simulation ticks.
+ * The simulation always advances by the same step, so its cost and behaviour don't depend on
+ * the display rate; the leftover fraction of a tick is exposed as an interpolation alpha for
+ * rendering between the last two simulated states.
+ *
+ * A frame may run at most maxTicksPerFrame ticks. Time beyond that is dropped rather than
+ * carried over, so a long stall (loading, a debugger) slows the game down for a moment
+ * instead of making every following frame run extra ticks to catch up.
+ */
+public class FixedTimestep {
+    private final float stepSeconds;
+    private final int maxTicksPerFrame;
+
+    private float accumulator;
+    private long tickCount;
+    private float droppedSeconds;
+
+    /**
+     * Create a timestep
+     * @param ticksPerSecond Simulation rate
+     * @param maxTicksPerFrame Catch-up guard: most ticks run for one frame
+     */
+    public FixedTimestep(int ticksPerSecond, int maxTicksPerFrame) {
+        if (ticksPerSecond <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Tick rate and catch-up limit must be positive");
+        }
+        this.stepSeconds = 1f / ticksPerSecond;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Add a frame's time and get how many ticks to run for it
+     * @param frameSeconds Time since the last frame
+     * @return Number of fixed steps to simulate this frame (may be 0)
+     */
+    public int advance(float frameSeconds) {
+        accumulator += Math.max(0f, frameSeconds);
+        int ticks = (int) (accumulator / stepSeconds);
+        if (ticks > maxTicksPerFrame) {
+            // Spiral-of-death guard: keep only the fraction, drop the backlog
+            float backlog = (ticks - maxTicksPerFrame) * stepSeconds;
+            droppedSeconds += backlog;
+            accumulator -= backlog;
+            ticks = maxTicksPerFrame;
+        }
+        accumulator -= ticks * stepSeconds;
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * Get how far the next tick has progressed, for interpolating rendered positions
+     * @return 0 (render the previous tick's state) to 1 (render the latest tick's state)
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / stepSeconds);
+    }
+
+    /**
+     * Get the fixed simulation step in seconds
+     */
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Get the number of ticks simulated so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Get the simulation time dropped by the catch-up guard
+     */
+    public float getDroppedSeconds() {
+        return droppedSeconds;
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.system;
+
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Runs simulation ticks on a dedicated thread while the render thread draws.
+ * Work is handed over in batches: the render thread starts a batch of ticks, draws
+ * the previous batch's snapshot, and waits for the batch at the start of the next
+ * frame. Between {@link #await()} and the next {@link #start(int, float)} the
+ * simulation is idle, so the render thread may touch scene state freely.
+ */
+public class SimulationThread {
+    private static final Logger LOGGER = Logger.getLogger(SimulationThread.class.getName());
+
+    /**
+     * Work run on the simulation thread
+     */
+    public interface Simulation {
+        /**
+         * Advance by one fixed step
+         * @param step The tick length in seconds
+         * @return false to skip the rest of the batch, e.g. when a scene change is pending
+         */
+        boolean tick(float step);
+
+        /**
+         * Called once after the batch's ticks, even if none ran
+         */
+        void endBatch();
+    }
+
+    private final Simulation simulation;
+    private final Thread thread;
+    private final Semaphore batchStarted = new Semaphore(0);
+    private final Semaphore batchDone = new Semaphore(0);
+    private volatile boolean running = true;
+
+    // Written by the render thread before batchStarted is released
+    private int batchTicks;
+    private float batchStep;
+    // Written by the simulation thread before batchDone is released
+    private Throwable failure;
+    private long lastBatchNanos;
+
+    private boolean busy;
+    private long lastWaitNanos;
+
+    /**
+     * Create a simulation thread and start it idle
+     * @param name Name of the thread
+     * @param simulation The work to run each batch
+     */
+    public SimulationThread(String name, Simulation simulation) {
+        this.simulation = simulation;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Start a batch of ticks. Call from the render thread while idle.
+     * @param ticks Number of ticks to run
+     * @param step Length of each tick in seconds
+     */
+    public void start(int ticks, float step) {
+        if (busy) {
+            throw new IllegalStateException("Simulation batch already running");
+        }
+        batchTicks = ticks;
+        batchStep = step;
+        busy = true;
+        batchStarted.release();
+    }
+
+    /**
+     * Wait for the running batch, if any, to finish
+     * @throws GdxRuntimeException If the batch failed
+     */
+    public void await() {
+        if (!busy) {
+            return;
+        }
+        long waitStart = System.nanoTime();
+        batchDone.acquireUninterruptibly();
+        lastWaitNanos = System.nanoTime() - waitStart;
+        busy = false;
+
+        if (failure != null) {
+            Throwable error = failure;
+            failure = null;
+            throw new GdxRuntimeException("Simulation tick failed", error);
+        }
+    }
+
+    /**
+     * Check if a batch has been started and not yet awaited
+     */
+    public boolean isBusy() {
+        return busy;
+    }
+
+    /**
+     * Get how long the last batch took on the simulation thread
+     */
+    public long getLastBatchNanos() {
+        return lastBatchNanos;
+    }
+
+    /**
+     * Get how long the render thread last waited for a batch, i.e. the part that didn't overlap
+     */
+    public long getLastWaitNanos() {
+        return lastWaitNanos;
+    }
+
+    /**
+     * Finish the running batch and stop the thread
+     * @param timeoutMillis How long to wait for the thread to finish
+     */
+    public void shutdown(long timeoutMillis) {
+        try {
+            await();
+        } catch (GdxRuntimeException e) {
+            LOGGER.log(Level.WARNING, "Simulation batch failed during shutdown", e);
+        }
+        running = false;
+        batchStarted.release();
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            LOGGER.log(Level.WARNING, "Simulation thread did not stop within {0} ms", timeoutMillis);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            batchStarted.acquireUninterruptibly();
+            if (!running) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                for (int i = 0; i < batchTicks; i++) {
+                    if (!simulation.tick(batchStep)) {
+                        break;
+                    }
+                }
+                simulation.endBatch();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            lastBatchNanos = System.nanoTime() - start;
+            batchDone.release();
+        }
+    }
+}
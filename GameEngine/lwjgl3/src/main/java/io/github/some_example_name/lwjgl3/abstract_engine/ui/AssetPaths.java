@@ -37,6 +37,7 @@ public class AssetPaths {
     
     // Food Textures
     public static final String HEALTHY_FOOD_BG = "healthy_food.png";
+    public static final String UNHEALTHY_FOOD_BG = "unhealthy_food.png";
     public static final String[] HEALTHY_FOOD = {
         "healthy_1.png",
         "healthy_2.png",
@@ -72,7 +73,19 @@ public class AssetPaths {
     public static final String GAME_OVER_SOUND = "game_over.mp3";
     public static final String PAUSE_SOUND = "pause.mp3";
     public static final String LEVEL_UP_SOUND = "level_up.mp3";
-    public static final String HIT_SOUND = "hit_sound.mp3";
+    
+    // All sound effects, decoded ahead of their first play
+    public static final String[] SOUND_EFFECTS = {
+        MENU_MOVE,
+        MENU_SELECT,
+        HEALTHY_FOOD_SOUND,
+        UNHEALTHY_FOOD_SOUND,
+        COLLISION_SOUND,
+        GAME_OVER_SOUND,
+        PAUSE_SOUND,
+        LEVEL_UP_SOUND,
+        VICTORY_M
+    };
     
     // Private constructor to prevent instantiation
     private AssetPaths() {
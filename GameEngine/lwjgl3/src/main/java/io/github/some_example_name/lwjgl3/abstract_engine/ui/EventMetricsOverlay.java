@@ -0,0 +1,160 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.ui;
+
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Align;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventMetrics;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventTypes;
+
+/**
+ * Debug overlay listing the most expensive event listeners and the busiest event types
+ * from the EventSystem's tracing stats. Text is rebuilt twice a second rather than per event.
+ */
+public class EventMetricsOverlay extends HudLayer {
+    private static final float SCALE = 1f;
+    private static final float LINE_HEIGHT = 16f;
+    private static final float REFRESH_SECONDS = 0.5f;
+    private static final int ROWS = 5;
+
+    private static final Color BACKGROUND = new Color(0f, 0f, 0f, 0.6f);
+    private static final Color HEADER = new Color(1f, 0.85f, 0.3f, 1f);
+
+    private final HudText title;
+    private final HudText listenerHeader;
+    private final HudText[] listenerRows = new HudText[ROWS];
+    private final HudText typeHeader;
+    private final HudText[] typeRows = new HudText[ROWS];
+    private final StringBuilder line = new StringBuilder();
+
+    private float panelX, panelY, panelWidth, panelHeight;
+    private float refreshTimer;
+
+    /**
+     * Create the overlay
+     * @param font The font to draw with (shared, not disposed by the overlay)
+     */
+    public EventMetricsOverlay(BitmapFont font) {
+        title = new HudText(font, SCALE, HEADER);
+        listenerHeader = new HudText(font, SCALE, HEADER).setText("Listener  calls  avg us  max us  total ms");
+        typeHeader = new HudText(font, SCALE, HEADER).setText("Event type  count  fan-out avg/max");
+        for (int i = 0; i < ROWS; i++) {
+            listenerRows[i] = new HudText(font, SCALE, Color.WHITE);
+            typeRows[i] = new HudText(font, SCALE, Color.WHITE);
+        }
+    }
+
+    @Override
+    public void prepare() {
+        refreshTimer += Gdx.graphics.getDeltaTime();
+        if (refreshTimer >= REFRESH_SECONDS) {
+            refreshTimer = 0f;
+            markDirty();
+        }
+        super.prepare();
+    }
+
+    @Override
+    protected void layout(int screenWidth, int screenHeight) {
+        panelWidth = 420f;
+        panelHeight = LINE_HEIGHT * (3 + ROWS * 2) + 10f;
+        panelX = 10f;
+        panelY = screenHeight - panelHeight - 10f;
+
+        float x = panelX + 6f;
+        float y = screenHeight - 16f;
+        title.setPosition(x, y, Align.left);
+        y -= LINE_HEIGHT;
+        listenerHeader.setPosition(x, y, Align.left);
+        for (HudText row : listenerRows) {
+            y -= LINE_HEIGHT;
+            row.setPosition(x, y, Align.left);
+        }
+        y -= LINE_HEIGHT;
+        typeHeader.setPosition(x, y, Align.left);
+        for (HudText row : typeRows) {
+            y -= LINE_HEIGHT;
+            row.setPosition(x, y, Align.left);
+        }
+    }
+
+    @Override
+    protected void refresh() {
+        EventMetrics metrics = EventSystem.getInstance().getMetrics();
+        for (int i = 0; i < ROWS; i++) {
+            listenerRows[i].setText("");
+            typeRows[i].setText("");
+        }
+        if (metrics == null) {
+            title.setText("Event tracing off");
+            return;
+        }
+
+        long elapsedMillis = Math.max(1L, metrics.getElapsedNanos() / 1_000_000L);
+        long totalEvents = 0;
+        for (int id = 0; id < metrics.getTypeCapacity(); id++) {
+            totalEvents += metrics.getEventCount(id);
+        }
+        line.setLength(0);
+        line.append("Events: ").append(totalEvents * 1000L / elapsedMillis).append("/s over ")
+            .append(elapsedMillis / 1000L).append("s, queued ").append(EventSystem.getInstance().getQueuedEventCount());
+        title.setText(line);
+
+        List<EventMetrics.ListenerStats> listeners = metrics.getListenerStats();
+        for (int i = 0; i < ROWS && i < listeners.size(); i++) {
+            EventMetrics.ListenerStats stats = listeners.get(i);
+            line.setLength(0);
+            line.append(stats.getName()).append("  ").append(stats.getCalls())
+                .append("  ").append(stats.getAverageNanos() / 1000L)
+                .append("  ").append(stats.getMaxNanos() / 1000L)
+                .append("  ").append(stats.getTotalNanos() / 1_000_000L);
+            listenerRows[i].setText(line);
+        }
+
+        // Pick the busiest types without sorting every registered type
+        long previousCount = Long.MAX_VALUE;
+        int previousId = -1;
+        for (int row = 0; row < ROWS; row++) {
+            int bestId = -1;
+            long bestCount = 0;
+            for (int id = 0; id < metrics.getTypeCapacity(); id++) {
+                long count = metrics.getEventCount(id);
+                boolean belowPrevious = count < previousCount || (count == previousCount && id > previousId);
+                if (belowPrevious && count > bestCount) {
+                    bestId = id;
+                    bestCount = count;
+                }
+            }
+            if (bestId < 0) {
+                break;
+            }
+            line.setLength(0);
+            line.append(EventTypes.getName(bestId)).append("  ").append(bestCount)
+                .append("  ").append(Math.round(metrics.getAverageFanOut(bestId) * 10f) / 10f)
+                .append('/').append(metrics.getMaxFanOut(bestId));
+            typeRows[row].setText(line);
+            previousCount = bestCount;
+            previousId = bestId;
+        }
+    }
+
+    @Override
+    protected void draw(SpriteBatch batch) {
+        fillRect(batch, panelX, panelY, panelWidth, panelHeight, BACKGROUND);
+
+        title.draw(batch);
+        listenerHeader.draw(batch);
+        for (HudText row : listenerRows) {
+            row.draw(batch);
+        }
+        typeHeader.draw(batch);
+        for (HudText row : typeRows) {
+            row.draw(batch);
+        }
+    }
+}
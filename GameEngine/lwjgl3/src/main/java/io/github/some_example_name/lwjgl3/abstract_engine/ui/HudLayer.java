@@ -0,0 +1,153 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.ListenerScope;
+
+/**
+ * Base class for heads-up displays drawn inside the scene's SpriteBatch.
+ * Text is only rebuilt when marked dirty, either by one of the events the HUD
+ * listens to or by a change in screen size. Bars and boxes are drawn from a
+ * 1x1 white pixel so no ShapeRenderer (and no batch end/begin) is needed.
+ */
+public abstract class HudLayer implements EventSystem.EventListener, Disposable {
+    private final Texture whitePixelTexture;
+    private final TextureRegion whitePixel;
+    private final ListenerScope listeners = new ListenerScope();
+
+    // Set by listeners, which may run on the simulation thread
+    private volatile boolean dirty = true;
+    private int lastScreenWidth = -1;
+    private int lastScreenHeight = -1;
+
+    /**
+     * Create the HUD and its white pixel texture
+     */
+    protected HudLayer() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        whitePixelTexture = new Texture(pixmap);
+        pixmap.dispose();
+        whitePixel = new TextureRegion(whitePixelTexture);
+    }
+
+    /**
+     * Mark the HUD dirty whenever the given event is triggered
+     * @param eventType The event type to listen for
+     */
+    protected void listenTo(String eventType) {
+        if (!listeners.isListening(eventType, this)) {
+            listeners.listen(eventType, this);
+        }
+    }
+
+    /**
+     * Force the text to be rebuilt on the next render
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        markDirty();
+    }
+
+    /**
+     * Draw the HUD, rebuilding cached text first if anything changed.
+     * The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     */
+    public void render(SpriteBatch batch) {
+        prepare();
+        draw(batch);
+    }
+
+    /**
+     * Lay out and rebuild cached text if anything changed, without drawing.
+     * With a simulation thread this runs while it is paused, so the text is read
+     * from a consistent state; {@link #renderPrepared(SpriteBatch)} draws it later.
+     */
+    public void prepare() {
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        if (width != lastScreenWidth || height != lastScreenHeight) {
+            lastScreenWidth = width;
+            lastScreenHeight = height;
+            layout(width, height);
+            dirty = true;
+        }
+
+        if (dirty) {
+            dirty = false;
+            refresh();
+        }
+    }
+
+    /**
+     * Draw the HUD as of the last {@link #prepare()}. The batch must already be started.
+     * @param batch The SpriteBatch to draw with
+     */
+    public void renderPrepared(SpriteBatch batch) {
+        draw(batch);
+    }
+
+    /**
+     * Position elements for the given screen size
+     */
+    protected abstract void layout(int screenWidth, int screenHeight);
+
+    /**
+     * Update cached text from the current game values
+     */
+    protected abstract void refresh();
+
+    /**
+     * Draw the HUD elements
+     */
+    protected abstract void draw(SpriteBatch batch);
+
+    /**
+     * Draw a filled rectangle from the white pixel
+     * @param batch The active SpriteBatch
+     * @param color Fill colour
+     */
+    protected void fillRect(SpriteBatch batch, float x, float y, float width, float height, Color color) {
+        float previousColor = batch.getPackedColor();
+        batch.setColor(color);
+        batch.draw(whitePixel, x, y, width, height);
+        batch.setPackedColor(previousColor);
+    }
+
+    /**
+     * Draw a rectangle outline from the white pixel
+     * @param batch The active SpriteBatch
+     * @param thickness Line thickness in pixels
+     * @param color Line colour
+     */
+    protected void strokeRect(SpriteBatch batch, float x, float y, float width, float height,
+            float thickness, Color color) {
+        float previousColor = batch.getPackedColor();
+        batch.setColor(color);
+        batch.draw(whitePixel, x, y, width, thickness);
+        batch.draw(whitePixel, x, y + height - thickness, width, thickness);
+        batch.draw(whitePixel, x, y, thickness, height);
+        batch.draw(whitePixel, x + width - thickness, y, thickness, height);
+        batch.setPackedColor(previousColor);
+    }
+
+    @Override
+    public void dispose() {
+        listeners.dispose();
+        whitePixelTexture.dispose();
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.some_example_name.lwjgl3.abstract_engine.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * A single line of HUD text with a cached glyph layout.
+ * The text, scale, colour and position are only turned into glyph vertices when one
+ * of them changes, so drawing an unchanged label is a plain vertex copy into the batch.
+ */
+public class HudText {
+    private final BitmapFont font;
+    private final BitmapFontCache cache;
+    private final GlyphLayout layout = new GlyphLayout();
+
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder scratch = new StringBuilder();
+    private final Color color = new Color(Color.WHITE);
+
+    private float scale;
+    private float x;
+    private float y;
+    private int align = Align.left;
+    private boolean dirty = true;
+
+    /**
+     * Create a HUD label
+     * @param font The font to draw with (shared, not owned)
+     * @param scale Font scale used for this label
+     * @param color Text colour
+     */
+    public HudText(BitmapFont font, float scale, Color color) {
+        this.font = font;
+        this.cache = new BitmapFontCache(font, font.usesIntegerPositions());
+        this.scale = scale;
+        this.color.set(color);
+    }
+
+    /**
+     * Set the label text. Nothing is rebuilt if the text is unchanged.
+     * @param value The new text
+     * @return This label (for chaining)
+     */
+    public HudText setText(CharSequence value) {
+        if (!contentEquals(text, value)) {
+            text.setLength(0);
+            text.append(value);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Set the label text to prefix + value + suffix without allocating a String
+     * @param prefix Text before the number
+     * @param value The number
+     * @param suffix Text after the number
+     * @return This label (for chaining)
+     */
+    public HudText setText(CharSequence prefix, int value, CharSequence suffix) {
+        scratch.setLength(0);
+        scratch.append(prefix).append(value).append(suffix);
+        return setText(scratch);
+    }
+
+    /**
+     * Set the font scale for this label
+     * @param scale The new scale
+     * @return This label (for chaining)
+     */
+    public HudText setScale(float scale) {
+        if (this.scale != scale) {
+            this.scale = scale;
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Set the text colour
+     * @param color The new colour
+     * @return This label (for chaining)
+     */
+    public HudText setColor(Color color) {
+        if (!this.color.equals(color)) {
+            this.color.set(color);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Set where the label is drawn
+     * @param x Anchor X in screen coordinates
+     * @param y Baseline Y in screen coordinates (top of the text, as with BitmapFont.draw)
+     * @param align Horizontal alignment relative to x (Align.left, Align.center or Align.right)
+     * @return This label (for chaining)
+     */
+    public HudText setPosition(float x, float y, int align) {
+        if (this.x != x || this.y != y || this.align != align) {
+            this.x = x;
+            this.y = y;
+            this.align = align;
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Get the width of the laid out text
+     */
+    public float getWidth() {
+        rebuildIfDirty();
+        return layout.width;
+    }
+
+    /**
+     * Get the height of the laid out text
+     */
+    public float getHeight() {
+        rebuildIfDirty();
+        return layout.height;
+    }
+
+    /**
+     * Draw the label. The batch must already be started.
+     * @param batch The batch to draw with
+     */
+    public void draw(Batch batch) {
+        rebuildIfDirty();
+        cache.draw(batch);
+    }
+
+    /**
+     * Draw the label with its alpha multiplied, without rebuilding the layout
+     * @param batch The batch to draw with
+     * @param alphaModulation Alpha multiplier (0-1)
+     */
+    public void draw(Batch batch, float alphaModulation) {
+        rebuildIfDirty();
+        cache.draw(batch, alphaModulation);
+    }
+
+    /**
+     * Lay out the text and rebuild the cached glyph vertices
+     */
+    private void rebuildIfDirty() {
+        if (!dirty) {
+            return;
+        }
+
+        // The font is shared, so only borrow its scale while laying out
+        BitmapFont.BitmapFontData data = font.getData();
+        float oldScaleX = data.scaleX;
+        float oldScaleY = data.scaleY;
+        data.setScale(scale);
+
+        layout.setText(font, text, color, 0, Align.left, false);
+
+        float drawX = x;
+        if (Align.isCenterHorizontal(align)) {
+            drawX -= layout.width / 2f;
+        } else if (Align.isRight(align)) {
+            drawX -= layout.width;
+        }
+
+        cache.clear();
+        cache.addText(layout, drawX, y);
+
+        data.setScale(oldScaleX, oldScaleY);
+        dirty = false;
+    }
+
+    private static boolean contentEquals(StringBuilder current, CharSequence value) {
+        if (current.length() != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (current.charAt(i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,28 +1,73 @@
 package io.github.some_example_name.lwjgl3.application_classes;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.Box2D;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.ScreenUtils;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.collision.Box2DCollisionListener;
+import io.github.some_example_name.lwjgl3.abstract_engine.config.GameConfig;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.DynamicInput;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.replay.EventJournal;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+import io.github.some_example_name.lwjgl3.abstract_engine.replay.ReplayDriver;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.SnapshotScene;
+import io.github.some_example_name.lwjgl3.abstract_engine.system.FixedTimestep;
+import io.github.some_example_name.lwjgl3.abstract_engine.system.SimulationThread;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.EventMetricsOverlay;
 import io.github.some_example_name.lwjgl3.application_classes.scene.HealthSnakeMenuScene;
 
 public class GameMaster extends ApplicationAdapter {
+    // Record a session with -Djournal.record=<file>, replay one with -Djournal.replay=<file>
+    public static final String RECORD_PROPERTY = "journal.record";
+    public static final String REPLAY_PROPERTY = "journal.replay";
+
     private SceneManager sceneManager;
     private MovementManager movementManager;
     private World world;
     private SpriteBatch batch;
     private EntityManager entityManager;
     private IOManager ioManager;
+    private EventSystem eventSystem;
+    // Simulation runs in fixed ticks; rendering interpolates between the last two
+    private final FixedTimestep timestep;
+
+    // Optional thread that simulates snapshot scenes while this thread renders them
+    private SimulationThread simulationThread;
+    // Scene simulated on it and its two snapshots: drawn and being recorded
+    private SnapshotScene snapshotScene;
+    private RenderSnapshot frontSnapshot;
+    private RenderSnapshot backSnapshot;
+
+    // Event tracing overlay, toggled with F3; created on first use
+    private BitmapFont debugFont;
+    private EventMetricsOverlay eventOverlay;
+    private final Matrix4 screenProjection = new Matrix4();
+
+    private boolean created;
+
+    private EventJournal journal;
+    private ReplayDriver replay;
 
     public GameMaster() {
         Box2D.init();
@@ -30,17 +75,49 @@ public class GameMaster extends ApplicationAdapter {
         world.setContactListener(new Box2DCollisionListener());
 
         ioManager = IOManager.getInstance();
+        eventSystem = EventSystem.getInstance();
         this.entityManager = new EntityManager(world);
         this.movementManager = new MovementManager(world,ioManager);
+
+        GameConfig config = GameConfig.getInstance();
+        this.timestep = new FixedTimestep(config.getTickRate(), config.getMaxTicksPerFrame());
     }
 
     @Override
     public void create() {
+        created = true;
         batch = new SpriteBatch();
 
         // Ensure IOManager is initialized after GDX initialized
         ioManager.init();
 
+        // Cap cached textures and audio before any scene loads
+        ResourceManager.getInstance().setMemoryBudget(
+                GameConfig.getInstance().getAssetMemoryBudgetMB() * 1024L * 1024L);
+
+        // Decode sound effects ahead of time; queued before the menu so they finish first
+        ioManager.getAudio().preload(new AssetManifest().addAll(AssetPaths.SOUND_EFFECTS, Sound.class));
+
+        openSessionJournal();
+
+        // Recording and replay rely on frame-locked simulation, so they keep it on this thread
+        if (GameConfig.getInstance().isSimulationThreadEnabled() && journal == null && replay == null) {
+            simulationThread = new SimulationThread("Simulation", new SimulationThread.Simulation() {
+                @Override
+                public boolean tick(float step) {
+                    GameMaster.this.tick(ioManager.getDynamicInput(), step);
+                    // A scene change waits for the render thread; stop ticking the old scene
+                    return !sceneManager.hasRenderThreadTasks();
+                }
+
+                @Override
+                public void endBatch() {
+                    ioManager.getDynamicInput().endTicks();
+                    snapshotScene.captureSnapshot(backSnapshot);
+                }
+            });
+        }
+
         // Initialize scene manager
         sceneManager = new SceneManager(world);
 
@@ -54,29 +131,179 @@ public class GameMaster extends ApplicationAdapter {
             GameState.MAIN_MENU);
     }
 
+    /**
+     * Check if create() has run, i.e. the window and GL context came up
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
     @Override
     public void render() {
         ScreenUtils.clear(0.1f, 0.1f, 0.1f, 1);
-        float deltaTime = Gdx.graphics.getDeltaTime();
+        float deltaTime;
+        if (replay != null) {
+            if (!replay.beginFrame()) {
+                Gdx.app.exit();
+                return;
+            }
+            deltaTime = replay.getDeltaTime();
+        } else {
+            deltaTime = Gdx.graphics.getDeltaTime();
+            if (journal != null) {
+                journal.beginFrame(deltaTime);
+            }
+        }
+
+        // The simulation thread is idle from here until the next batch starts
+        if (simulationThread != null) {
+            simulationThread.await();
+            sceneManager.syncRenderThread();
+        }
+        // Asset streaming is budgeted per frame, not per tick
+        sceneManager.updateAssets();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            toggleEventOverlay();
+        }
+
+        // Run as many fixed ticks as the frame time covers; the remainder carries over
+        DynamicInput input = ioManager.getDynamicInput();
+        input.latchFrameInput();
+        float previousAlpha = timestep.getAlpha();
+        int ticks = timestep.advance(deltaTime);
+
+        Scene scene = sceneManager.getCurrentScene();
+        if (simulationThread != null && scene instanceof SnapshotScene && !sceneManager.isLoading()) {
+            renderOverlapped((SnapshotScene) scene, ticks, previousAlpha);
+        } else {
+            snapshotScene = null;
+            for (int i = 0; i < ticks; i++) {
+                tick(input, timestep.getStepSeconds());
+            }
+            input.endTicks();
+
+            ioManager.getAudio().update();
+            sceneManager.render(batch, timestep.getAlpha());
+            renderEventOverlay();
+        }
+
+        if (replay != null) {
+            replay.endFrame();
+        }
+
+        super.render();
+    }
+
+    /**
+     * Start the frame's ticks on the simulation thread and draw the snapshot recorded by
+     * the previous batch meanwhile. The picture is one batch behind the simulation, and is
+     * interpolated with the alpha that batch ended on.
+     */
+    private void renderOverlapped(SnapshotScene scene, int ticks, float alpha) {
+        if (scene != snapshotScene) {
+            // New or resumed scene: record its current state before it starts moving
+            snapshotScene = scene;
+            frontSnapshot = scene.createSnapshot();
+            backSnapshot = scene.createSnapshot();
+            scene.captureSnapshot(frontSnapshot);
+        } else {
+            RenderSnapshot drawn = frontSnapshot;
+            frontSnapshot = backSnapshot;
+            backSnapshot = drawn;
+        }
+        scene.syncRenderState();
+        if (eventOverlay != null && eventSystem.isTracingEnabled()) {
+            eventOverlay.prepare();
+        }
+        ioManager.getAudio().update();
+
+        simulationThread.start(ticks, timestep.getStepSeconds());
+
+        scene.renderSnapshot(batch, frontSnapshot, alpha);
+        if (eventOverlay != null && eventSystem.isTracingEnabled()) {
+            beginScreenBatch();
+            eventOverlay.renderPrepared(batch);
+            batch.end();
+        }
+    }
+
+    private void renderEventOverlay() {
+        if (eventOverlay != null && eventSystem.isTracingEnabled()) {
+            beginScreenBatch();
+            eventOverlay.render(batch);
+            batch.end();
+        }
+    }
+
+    private void beginScreenBatch() {
+        screenProjection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+    }
+
+    /**
+     * Advance the simulation by one fixed step
+     */
+    private void tick(DynamicInput input, float step) {
+        input.beginTick(step);
+        entityManager.storePreviousPositions();
 
         // Update world physics if the game is running
         if (sceneManager.getGameState() == GameState.RUNNING) {
-            world.step(1 / 60f, 6, 2);
+            world.step(step, 6, 2);
         }
+        // Deliver events raised inside physics callbacks now that the world is stable
+        eventSystem.dispatchQueued();
 
-        // Scene updates and rendering are handled by the SceneManager
-        sceneManager.update(deltaTime);
-        sceneManager.render(batch);
+        sceneManager.update(step);
+        entityManager.flushLifecycleEvents();
+        eventSystem.dispatchQueued();
+    }
 
+    private void openSessionJournal() {
+        String replayPath = System.getProperty(REPLAY_PROPERTY);
+        String recordPath = System.getProperty(RECORD_PROPERTY);
+        try {
+            if (replayPath != null) {
+                replay = new ReplayDriver(Paths.get(replayPath), ioManager.getDynamicInput());
+            } else if (recordPath != null) {
+                journal = new EventJournal(Paths.get(recordPath), EventJournal.DEFAULT_EVENT_TYPES);
+            }
+        } catch (IOException e) {
+            Gdx.app.error("GameMaster", "Couldn't open session journal", e);
+        }
+    }
 
-        super.render();
+    private void toggleEventOverlay() {
+        boolean enable = !eventSystem.isTracingEnabled();
+        eventSystem.setTracingEnabled(enable);
+        if (enable && eventOverlay == null) {
+            debugFont = new BitmapFont();
+            eventOverlay = new EventMetricsOverlay(debugFont);
+        }
     }
 
     @Override
     public void dispose() {
+        if (simulationThread != null) {
+            simulationThread.shutdown(1000L);
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        if (replay != null) {
+            replay.close();
+        }
+        if (eventOverlay != null) {
+            eventOverlay.dispose();
+            debugFont.dispose();
+        }
         batch.dispose();
         sceneManager.dispose();
+        eventSystem.clearQueuedEvents();
+        // Audio hands its shared sounds back before the resource manager goes
         ioManager.dispose();
+        ResourceManager.getInstance().dispose();
         world.dispose();
     }
 }
@@ -9,6 +9,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.SnakeRenderer;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 import io.github.some_example_name.lwjgl3.abstract_engine.collision.Collidable;
 
@@ -27,8 +30,8 @@ public class EnemySnake extends Entity implements Collidable {
                      String headTexturePath, String bodyTexturePath, int length) {
         super(entityName, positionX, positionY, headTexturePath);
         
-        this.headTexture = new Texture(Gdx.files.internal(headTexturePath));
-        this.bodyTexture = new Texture(Gdx.files.internal(bodyTexturePath));
+        this.headTexture = ResourceManager.getInstance().acquireTexture(headTexturePath);
+        this.bodyTexture = ResourceManager.getInstance().acquireTexture(bodyTexturePath);
         
         // Random speed between 80 and 150
         this.speed = MathUtils.random(80f, 150f);
@@ -140,6 +143,28 @@ public class EnemySnake extends Entity implements Collidable {
                 false, false); // flip x, y
     }
     
+    /**
+     * Record the body segments in world coordinates
+     * @param snapshot The snapshot to add to
+     */
+    public void captureBody(RenderSnapshot snapshot) {
+        float lagX = previousX - positionX;
+        float lagY = previousY - positionY;
+        for (int i = bodySegments.size - 1; i >= 0; i--) {
+            Vector2 segment = bodySegments.get(i);
+            snapshot.addSegment(bodyTexture, segment.x, segment.y, bodySize, lagX, lagY);
+        }
+    }
+    
+    /**
+     * Record the head in world coordinates
+     * @param snapshot The snapshot to add to
+     */
+    public void captureHead(RenderSnapshot snapshot) {
+        snapshot.addSprite(headTexture, positionX, positionY, bodySize, bodySize,
+                direction * MathUtils.radiansToDegrees, previousX - positionX, previousY - positionY);
+    }
+    
     /**
      * Renders the snake at a specific screen position (for infinite world scrolling)
      */
@@ -158,7 +183,27 @@ public class EnemySnake extends Entity implements Collidable {
                     bodySize);
         }
         
-        // Draw head at offset position
+        renderHeadAtPosition(batch, screenX, screenY);
+    }
+    
+    /**
+     * Queues the body segments at a specific screen position on a SnakeRenderer.
+     * Segments from several snakes sharing a texture are drawn together on the next flush.
+     */
+    public void renderBodyAtPosition(SpriteBatch batch, SnakeRenderer snakeRenderer, float screenX, float screenY) {
+        float offsetX = screenX - positionX;
+        float offsetY = screenY - positionY;
+        
+        for (int i = bodySegments.size - 1; i >= 0; i--) {
+            Vector2 segment = bodySegments.get(i);
+            snakeRenderer.drawSegment(batch, bodyTexture, segment.x + offsetX, segment.y + offsetY, bodySize);
+        }
+    }
+    
+    /**
+     * Renders only the head at a specific screen position
+     */
+    public void renderHeadAtPosition(SpriteBatch batch, float screenX, float screenY) {
         batch.draw(headTexture, 
                 screenX - bodySize/2, 
                 screenY - bodySize/2, 
@@ -196,10 +241,10 @@ public class EnemySnake extends Entity implements Collidable {
     public void dispose() {
         super.dispose();
         if (headTexture != null) {
-            headTexture.dispose();
+            ResourceManager.getInstance().release(headTexture);
         }
         if (bodyTexture != null) {
-            bodyTexture.dispose();
+            ResourceManager.getInstance().release(bodyTexture);
         }
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.badlogic.gdx.math.Vector2;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.collision.Collidable;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
 import io.github.some_example_name.lwjgl3.application_classes.game.NutritionManager;
 
 /**
@@ -54,6 +55,16 @@ public class FoodEntity extends Entity implements Collidable {
         }
     }
     
+    /**
+     * Record the food in world coordinates
+     * @param snapshot The snapshot to add to
+     */
+    public void capture(RenderSnapshot snapshot) {
+        if (active) {
+            snapshot.addSprite(texture, positionX, positionY, foodSize, foodSize, 0f, 0f, 0f);
+        }
+    }
+    
     /**
      * Renders the food at a specific screen position (for infinite world scrolling)
      */
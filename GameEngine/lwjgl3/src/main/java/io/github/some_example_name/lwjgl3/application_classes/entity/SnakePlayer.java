@@ -10,7 +10,14 @@ import com.badlogic.gdx.utils.Array;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.Entity;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.MovableEntity;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.EventSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AudioManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.DynamicInput;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.SnakeRenderer;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 import io.github.some_example_name.lwjgl3.application_classes.game.LevelManager;
 import io.github.some_example_name.lwjgl3.application_classes.game.SnakeColor;
@@ -38,6 +45,10 @@ public class SnakePlayer extends MovableEntity {
     private Texture headTexture;
     private Texture bodyTexture;
 
+    // Pickup sounds, resolved once since food is eaten in quick bursts
+    private final int healthyFoodSound;
+    private final int unhealthyFoodSound;
+
     private float segmentSpacing = 22f; // distance between segments
     private float baseBodySize = 28f; // base size of body segments
     private float currentBodySize; // current size after applying multipliers
@@ -50,11 +61,15 @@ public class SnakePlayer extends MovableEntity {
 
     public SnakePlayer(String entityName, float positionX, float positionY, LevelManager levelManager, SnakeColor color) {
         super(entityName, positionX, positionY, getHeadTexturePath(color));
-        this.headTexture = new Texture(Gdx.files.internal(getHeadTexturePath(color)));
-        this.bodyTexture = new Texture(Gdx.files.internal(getBodyTexturePath(color)));
+        this.headTexture = ResourceManager.getInstance().acquireTexture(getHeadTexturePath(color));
+        this.bodyTexture = ResourceManager.getInstance().acquireTexture(getBodyTexturePath(color));
         this.levelManager = levelManager;
         this.snakeColor = color;
 
+        AudioManager audio = IOManager.getInstance().getAudio();
+        this.healthyFoodSound = audio.registerSound(AssetPaths.HEALTHY_FOOD_SOUND, 4, AudioManager.PRIORITY_NORMAL);
+        this.unhealthyFoodSound = audio.registerSound(AssetPaths.UNHEALTHY_FOOD_SOUND, 4, AudioManager.PRIORITY_NORMAL);
+
         // Apply level-specific settings
         this.speed = levelManager.getSnakeSpeed();
         this.currentBodySize = baseBodySize * levelManager.getSnakeSizeMultiplier();
@@ -82,10 +97,7 @@ public class SnakePlayer extends MovableEntity {
         ControlMode controlMode = IOManager.getInstance().getControlMode();
     
         if (controlMode == ControlMode.MOUSE) {
-            Vector2 mousePos = new Vector2(
-                IOManager.getInstance().getDynamicInput().getMouseX(),
-                Gdx.graphics.getHeight() - IOManager.getInstance().getDynamicInput().getMouseY()
-            );
+            Vector2 mousePos = IOManager.getInstance().getDynamicInput().getMousePositionInWorld();
             Vector2 headPos = new Vector2(positionX, positionY);
             Vector2 dirToMouse = new Vector2(mousePos).sub(headPos).nor();
     
@@ -111,8 +123,9 @@ public class SnakePlayer extends MovableEntity {
         if (!centeredOnScreen) {
             // Keep head within screen bounds
             float halfSize = currentBodySize / 2;
-            positionX = MathUtils.clamp(positionX, halfSize, Gdx.graphics.getWidth() - halfSize);
-            positionY = MathUtils.clamp(positionY, halfSize, Gdx.graphics.getHeight() - halfSize);
+            DynamicInput input = IOManager.getInstance().getDynamicInput();
+            positionX = MathUtils.clamp(positionX, halfSize, input.getScreenWidth() - halfSize);
+            positionY = MathUtils.clamp(positionY, halfSize, input.getScreenHeight() - halfSize);
         }
 
         // Update body segments
@@ -137,6 +150,15 @@ public class SnakePlayer extends MovableEntity {
 
     @Override
     public void render(SpriteBatch batch) {
+        render(batch, null);
+    }
+
+    /**
+     * Render the snake, drawing body segments through a SnakeRenderer when one is given
+     * @param batch The active SpriteBatch
+     * @param snakeRenderer Instanced segment renderer, or null to draw with the batch
+     */
+    public void render(SpriteBatch batch, SnakeRenderer snakeRenderer) {
         float screenX, screenY;
 
         if (centeredOnScreen) {
@@ -163,11 +185,20 @@ public class SnakePlayer extends MovableEntity {
                 segScreenY = segment.y;
             }
 
-            batch.draw(bodyTexture,
-                    segScreenX - segment.size/2,
-                    segScreenY - segment.size/2,
-                    segment.size,
-                    segment.size);
+            if (snakeRenderer != null) {
+                snakeRenderer.drawSegment(batch, bodyTexture, segScreenX, segScreenY, segment.size);
+            } else {
+                batch.draw(bodyTexture,
+                        segScreenX - segment.size/2,
+                        segScreenY - segment.size/2,
+                        segment.size,
+                        segment.size);
+            }
+        }
+
+        // Body must be on screen before the head is drawn over it
+        if (snakeRenderer != null) {
+            snakeRenderer.flush(batch);
         }
 
         // Draw head
@@ -186,19 +217,35 @@ public class SnakePlayer extends MovableEntity {
                 false, false); // flip x, y
     }
 
+    /**
+     * Record the snake in world coordinates, body first so the head is drawn on top
+     * @param snapshot The snapshot to add to
+     */
+    public void capture(RenderSnapshot snapshot) {
+        float lagX = previousX - positionX;
+        float lagY = previousY - positionY;
+        for (int i = bodySegments.size - 1; i >= 0; i--) {
+            SnakeSegment segment = bodySegments.get(i);
+            snapshot.addSegment(bodyTexture, segment.x, segment.y, segment.size, lagX, lagY);
+        }
+        snapshot.addSprite(headTexture, positionX, positionY, currentBodySize, currentBodySize,
+                direction * MathUtils.radiansToDegrees, lagX, lagY);
+    }
+
     @Override
     public void move(float forceX, float forceY) {
         // Store the movement input for reference
         movementInput.x = forceX;
         movementInput.y = forceY;
 
-        // Handle turning based on input with improved responsiveness
+        // Handle turning based on input with improved responsiveness; the input's frame time keeps replays exact
+        float deltaTime = IOManager.getInstance().getDynamicInput().getFrameDeltaTime();
         if (forceX < 0) {
             // Turn left (counter-clockwise)
-            direction += turnSpeed * Gdx.graphics.getDeltaTime() * 1.5f; // Increased turning speed
+            direction += turnSpeed * deltaTime * 1.5f; // Increased turning speed
         } else if (forceX > 0) {
             // Turn right (clockwise)
-            direction -= turnSpeed * Gdx.graphics.getDeltaTime() * 1.5f; // Increased turning speed
+            direction -= turnSpeed * deltaTime * 1.5f; // Increased turning speed
         }
     }
 
@@ -209,6 +256,8 @@ public class SnakePlayer extends MovableEntity {
     }
 
     public void eatFood(FoodEntity food) {
+        int previousCalories = healthyCalories + unhealthyCalories;
+
         if (food.isHealthy()) {
             // Eat healthy food
             healthyFoodCount++;
@@ -221,7 +270,7 @@ public class SnakePlayer extends MovableEntity {
             addBodySegment(1);
 
             // Play positive sound
-            IOManager.getInstance().getAudio().playSound(AssetPaths.HEALTHY_FOOD_SOUND);
+            IOManager.getInstance().getAudio().playSound(healthyFoodSound);
         } else {
             // Eat unhealthy food
             unhealthyFoodCount++;
@@ -235,8 +284,12 @@ public class SnakePlayer extends MovableEntity {
             addBodySegment(segmentsToAdd);
 
             // Play negative sound
-            IOManager.getInstance().getAudio().playSound(AssetPaths.UNHEALTHY_FOOD_SOUND);
+            IOManager.getInstance().getAudio().playSound(unhealthyFoodSound);
         }
+
+        // Let the HUD and other listeners know the stats changed; coalesced to one event per batch
+        EventSystem.getInstance().queueEvent(
+                GameEvent.createScoreChangedEvent(healthyCalories + unhealthyCalories, previousCalories));
     }
 
     private void addBodySegment(int count) {
@@ -358,7 +411,7 @@ public class SnakePlayer extends MovableEntity {
         return currentBodySize;
     }
     
-    private static String getHeadTexturePath(SnakeColor color) {
+    public static String getHeadTexturePath(SnakeColor color) {
         switch (color) {
             case BROWN:
                 return AssetPaths.SNAKE_HEAD_BROWN;
@@ -370,7 +423,7 @@ public class SnakePlayer extends MovableEntity {
         }
     }
 
-    private static String getBodyTexturePath(SnakeColor color) {
+    public static String getBodyTexturePath(SnakeColor color) {
         switch (color) {
             case BROWN:
                 return AssetPaths.SNAKE_BODY_BROWN;
@@ -388,13 +441,14 @@ public class SnakePlayer extends MovableEntity {
 
         this.snakeColor = color;
 
-        // Dispose existing textures
-        if (headTexture != null) headTexture.dispose();
-        if (bodyTexture != null) bodyTexture.dispose();
+        // Release existing textures
+        ResourceManager resources = ResourceManager.getInstance();
+        if (headTexture != null) resources.release(headTexture);
+        if (bodyTexture != null) resources.release(bodyTexture);
 
-        // Load new textures
-        this.headTexture = new Texture(Gdx.files.internal(getHeadTexturePath(color)));
-        this.bodyTexture = new Texture(Gdx.files.internal(getBodyTexturePath(color)));
+        // Acquire new textures
+        this.headTexture = resources.acquireTexture(getHeadTexturePath(color));
+        this.bodyTexture = resources.acquireTexture(getBodyTexturePath(color));
     }
 
     /**
@@ -426,10 +480,10 @@ public class SnakePlayer extends MovableEntity {
     public void dispose() {
         super.dispose();
         if (headTexture != null) {
-            headTexture.dispose();
+            ResourceManager.getInstance().release(headTexture);
         }
         if (bodyTexture != null) {
-            bodyTexture.dispose();
+            ResourceManager.getInstance().release(bodyTexture);
         }
     }
 
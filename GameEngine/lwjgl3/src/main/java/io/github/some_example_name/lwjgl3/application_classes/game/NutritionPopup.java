@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 
 /**
@@ -26,9 +27,8 @@ public class NutritionPopup {
     private boolean isVisible = false;
     
     public NutritionPopup() {
-        backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.POPUP_BACKGROUND));
-        font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
-        font.getData().setScale(0.25f);
+        backgroundTexture = ResourceManager.getInstance().acquireTexture(AssetPaths.POPUP_BACKGROUND);
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         position = new Vector2();
     }
     
@@ -120,8 +120,9 @@ public class NutritionPopup {
         font.setColor(factColor);
         font.draw(batch, nutritionFact, x + 10, y + popupHeight - 75, popupWidth - 20, -1, true);
         
-        // Reset batch color
+        // Reset batch and shared font state
         batch.setColor(originalColor);
+        font.setColor(Color.WHITE);
     }
     
     /**
@@ -136,10 +137,10 @@ public class NutritionPopup {
      */
     public void dispose() {
         if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+            ResourceManager.getInstance().release(AssetPaths.POPUP_BACKGROUND);
         }
         if (font != null) {
-            font.dispose();
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
     }
 }
\ No newline at end of file
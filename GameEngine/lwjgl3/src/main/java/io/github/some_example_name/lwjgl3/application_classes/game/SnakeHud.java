@@ -0,0 +1,187 @@
+package io.github.some_example_name.lwjgl3.application_classes.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Align;
+
+import io.github.some_example_name.lwjgl3.abstract_engine.event.GameEvent;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.HudLayer;
+import io.github.some_example_name.lwjgl3.abstract_engine.ui.HudText;
+import io.github.some_example_name.lwjgl3.application_classes.entity.SnakePlayer;
+
+/**
+ * In-game HUD for the snake game: food progress bars, level, food counts,
+ * calorie totals and the level transition overlay.
+ * Values are re-read from the player only when a score change event arrives.
+ */
+public class SnakeHud extends HudLayer {
+    private static final float HUD_SCALE = 0.3f;
+    private static final float GOAL_SCALE = 0.25f;
+    private static final float BAR_WIDTH = 200f;
+    private static final float BAR_HEIGHT = 20f;
+
+    private static final Color HEALTHY_BAR = new Color(0.2f, 0.8f, 0.2f, 1f);
+    private static final Color UNHEALTHY_BAR = new Color(0.8f, 0.2f, 0.2f, 1f);
+    private static final Color HEALTHY_TEXT = new Color(0.2f, 0.9f, 0.2f, 1f);
+    private static final Color UNHEALTHY_TEXT = new Color(0.9f, 0.2f, 0.2f, 1f);
+    private static final Color HEALTHY_INFO = new Color(0.5f, 1f, 0.5f, 1f);
+    private static final Color UNHEALTHY_INFO = new Color(1f, 0.5f, 0.5f, 1f);
+    private static final Color OVERLAY = new Color(0f, 0f, 0f, 0.7f);
+
+    private final SnakePlayer player;
+    private final LevelManager levelManager;
+    private final Texture transitionBackground;
+
+    // Bars
+    private float healthyBarX, unhealthyBarX, barY;
+    private float healthyBarWidth, unhealthyBarWidth;
+
+    // Always-visible labels
+    private final HudText healthyLabel;
+    private final HudText unhealthyLabel;
+    private final HudText levelText;
+    private final HudText healthyCount;
+    private final HudText unhealthyCount;
+    private final HudText healthyCalories;
+    private final HudText unhealthyCalories;
+    private final HudText sizeText;
+
+    // Level transition overlay
+    private final HudText transitionTitle;
+    private final HudText transitionInfo;
+    private final HudText healthyGoal;
+    private final HudText unhealthyGoal;
+    private final HudText continuePrompt;
+    private float screenWidth, screenHeight;
+
+    /**
+     * Create the HUD
+     * @param font The game font (shared, not disposed by the HUD)
+     * @param transitionBackground Level transition background (owned by the scene's manifest)
+     * @param player The player whose stats are shown
+     * @param levelManager The current level settings
+     */
+    public SnakeHud(BitmapFont font, Texture transitionBackground, SnakePlayer player, LevelManager levelManager) {
+        this.player = player;
+        this.levelManager = levelManager;
+        this.transitionBackground = transitionBackground;
+
+        healthyLabel = new HudText(font, HUD_SCALE, Color.WHITE).setText("Healthy");
+        unhealthyLabel = new HudText(font, HUD_SCALE, Color.WHITE).setText("Unhealthy");
+        levelText = new HudText(font, HUD_SCALE, Color.WHITE);
+        healthyCount = new HudText(font, HUD_SCALE, Color.WHITE);
+        unhealthyCount = new HudText(font, HUD_SCALE, Color.WHITE);
+        healthyCalories = new HudText(font, HUD_SCALE, HEALTHY_TEXT);
+        unhealthyCalories = new HudText(font, HUD_SCALE, UNHEALTHY_TEXT);
+        sizeText = new HudText(font, HUD_SCALE, Color.WHITE);
+
+        transitionTitle = new HudText(font, HUD_SCALE, Color.WHITE);
+        transitionInfo = new HudText(font, HUD_SCALE, Color.WHITE);
+        healthyGoal = new HudText(font, GOAL_SCALE, HEALTHY_INFO);
+        unhealthyGoal = new HudText(font, GOAL_SCALE, UNHEALTHY_INFO);
+        continuePrompt = new HudText(font, HUD_SCALE, Color.WHITE).setText("Press Enter to continue");
+
+        listenTo(GameEvent.SCORE_CHANGED);
+    }
+
+    @Override
+    protected void layout(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+
+        healthyBarX = 20;
+        unhealthyBarX = screenWidth - 220;
+        barY = screenHeight - 30;
+
+        healthyLabel.setPosition(20, screenHeight - 40, Align.left);
+        unhealthyLabel.setPosition(screenWidth - 220, screenHeight - 40, Align.left);
+        levelText.setPosition(screenWidth / 2f - 60, screenHeight - 20, Align.left);
+        healthyCount.setPosition(230, screenHeight - 20, Align.left);
+        unhealthyCount.setPosition(screenWidth - 50, screenHeight - 20, Align.left);
+        healthyCalories.setPosition(20, 30, Align.left);
+        unhealthyCalories.setPosition(screenWidth - 220, 30, Align.left);
+        sizeText.setPosition(screenWidth / 2f - 40, 30, Align.left);
+
+        float centerX = screenWidth / 2f;
+        float centerY = screenHeight / 2f;
+        transitionTitle.setPosition(centerX, centerY + 70, Align.center);
+        transitionInfo.setPosition(centerX, centerY + 20, Align.center);
+        healthyGoal.setPosition(centerX, centerY - 20, Align.center);
+        unhealthyGoal.setPosition(centerX, centerY - 60, Align.center);
+        continuePrompt.setPosition(centerX, centerY - 120, Align.center);
+    }
+
+    @Override
+    protected void refresh() {
+        healthyBarWidth = BAR_WIDTH * player.getHealthyFoodPercentage();
+        unhealthyBarWidth = BAR_WIDTH * player.getUnhealthyFoodPercentage();
+
+        levelText.setText("Level ", levelManager.getCurrentLevel(), "");
+        healthyCount.setText("", player.getHealthyFoodCount(), "/" + levelManager.getHealthyFoodGoal());
+        unhealthyCount.setText("", player.getUnhealthyFoodCount(), "/" + levelManager.getUnhealthyFoodGoal());
+        healthyCalories.setText("Healthy: ", player.getHealthyCalories(), " kcal");
+        unhealthyCalories.setText("Unhealthy: ", player.getUnhealthyCalories(), " kcal");
+        sizeText.setText("Size: ", player.getBodySize(), "");
+    }
+
+    @Override
+    protected void draw(SpriteBatch batch) {
+        // All white-pixel quads first, then all text, so the batch only switches texture once
+        fillRect(batch, healthyBarX, barY, healthyBarWidth, BAR_HEIGHT, HEALTHY_BAR);
+        fillRect(batch, unhealthyBarX, barY, unhealthyBarWidth, BAR_HEIGHT, UNHEALTHY_BAR);
+        strokeRect(batch, healthyBarX, barY, BAR_WIDTH, BAR_HEIGHT, 1, Color.WHITE);
+        strokeRect(batch, unhealthyBarX, barY, BAR_WIDTH, BAR_HEIGHT, 1, Color.WHITE);
+
+        healthyLabel.draw(batch);
+        unhealthyLabel.draw(batch);
+        levelText.draw(batch);
+        healthyCount.draw(batch);
+        unhealthyCount.draw(batch);
+        healthyCalories.draw(batch);
+        unhealthyCalories.draw(batch);
+        sizeText.draw(batch);
+    }
+
+    /**
+     * Set up the level transition overlay text for the current level
+     * @param message The level description to show as the title
+     */
+    public void showLevelTransition(String message) {
+        transitionTitle.setText(message);
+        if (levelManager.isUnhealthyPath()) {
+            transitionInfo.setText("Unhealthy Path: Snake is slower and larger!").setColor(UNHEALTHY_INFO);
+        } else {
+            transitionInfo.setText("Healthy Path: Snake is faster and more agile!").setColor(HEALTHY_INFO);
+        }
+        healthyGoal.setText("Healthy Food Goal: ", levelManager.getHealthyFoodGoal(), "");
+        unhealthyGoal.setText("Unhealthy Food Goal: ", levelManager.getUnhealthyFoodGoal(), "");
+    }
+
+    /**
+     * Draw the level transition overlay. Call after {@link #render(SpriteBatch)}.
+     * @param batch The active SpriteBatch
+     * @param transitionTimer Time since the overlay was shown, drives the pulse animation
+     */
+    public void renderLevelTransition(SpriteBatch batch, float transitionTimer) {
+        float pulse = (float) Math.sin(transitionTimer * 3) * 0.2f + 0.8f;
+
+        // Background is darkened by the overlay tint, text goes on top of it
+        if (transitionBackground != null) {
+            float previousColor = batch.getPackedColor();
+            batch.setColor(OVERLAY);
+            batch.draw(transitionBackground, 0, 0, screenWidth, screenHeight);
+            batch.setPackedColor(previousColor);
+        } else {
+            fillRect(batch, 0, 0, screenWidth, screenHeight, OVERLAY);
+        }
+
+        // Only the pulsing title is re-laid out each frame; the prompt just fades
+        transitionTitle.setScale(0.35f + 0.05f * pulse).draw(batch);
+        transitionInfo.draw(batch);
+        healthyGoal.draw(batch);
+        unhealthyGoal.draw(batch);
+        continuePrompt.draw(batch, pulse);
+    }
+}
@@ -7,11 +7,17 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.MathUtils;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleEmitter;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.CachedLayer;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
@@ -23,8 +29,7 @@ public class HealthSnakeDeathScene extends Scene {
 
     private Texture backgroundTexture;
     private Texture gameOverTexture;
-    private Texture snakeSkullTexture;
-    private Texture[] unhealthyFoodTextures;
+    private TextureAtlas particleAtlas;
 
     private SpriteBatch batch;
     private SceneManager sceneManager;
@@ -43,17 +48,14 @@ public class HealthSnakeDeathScene extends Scene {
     private int selectedItem = 0;
     private float timeElapsed = 0;
 
-    // For particle effects
-    private float[] particleX;
-    private float[] particleY;
-    private float[] particleSpeedX;
-    private float[] particleSpeedY;
-    private float[] particleSize;
-    private float[] particleRotation;
-    private float[] particleRotationSpeed;
-    private int[] particleTextureIndex;
-    private boolean[] particleIsUnhealthy;
-    private final int particleCount = 30;
+    // Text and unselected menu items are cached until the selection changes
+    private CachedLayer textLayer;
+    private final GlyphLayout selectedItemLayout = new GlyphLayout();
+    private String selectedItemText;
+
+    // Food and skulls drifting in the background
+    private static final int PARTICLE_COUNT = 30;
+    private final ParticleSystem particles = new ParticleSystem(PARTICLE_COUNT);
 
     private String deathMessage;
     private final String[] deathMessages = {
@@ -98,22 +100,10 @@ public class HealthSnakeDeathScene extends Scene {
         this.level = levelManager.getCurrentLevel();
         levelManager.isUnhealthyPath();
 
-        font = new BitmapFont(Gdx.files.internal("game_font.fnt"));
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
 
-        // Initialize particle system
-        particleX = new float[particleCount];
-        particleY = new float[particleCount];
-        particleSpeedX = new float[particleCount];
-        particleSpeedY = new float[particleCount];
-        particleSize = new float[particleCount];
-        particleRotation = new float[particleCount];
-        particleRotationSpeed = new float[particleCount];
-        particleIsUnhealthy = new boolean[particleCount];
-
-        initializeParticles();
-
         // Select a random death message
         deathMessage = deathMessages[MathUtils.random(deathMessages.length - 1)];
         
@@ -121,36 +111,63 @@ public class HealthSnakeDeathScene extends Scene {
         educationalTip = NutritionManager.getInstance().getRandomHealthyEatingFact();
     }
 
+    /**
+     * Fill the screen with slowly drifting junk food and skulls
+     */
     private void initializeParticles() {
-        for (int i = 0; i < particleCount; i++) {
-            particleX[i] = MathUtils.random(0, Gdx.graphics.getWidth());
-            particleY[i] = MathUtils.random(0, Gdx.graphics.getHeight());
-            particleSpeedX[i] = MathUtils.random(-20f, 20f);
-            particleSpeedY[i] = MathUtils.random(-20f, 20f);
-            particleSize[i] = MathUtils.random(20f, 40f);
-            particleRotation[i] = MathUtils.random(0, 360);
-            particleRotationSpeed[i] = MathUtils.random(-50f, 50f);
-            particleIsUnhealthy[i] = MathUtils.randomBoolean(0.7f); // 70% chance for unhealthy food particles
+        int[] unhealthyRegions = new int[AssetPaths.UNHEALTHY_FOOD.length];
+        for (int i = 0; i < unhealthyRegions.length; i++) {
+            unhealthyRegions[i] = particles.addRegion(particleAtlas.findRegion(AssetPaths.UNHEALTHY_FOOD[i]));
+        }
+        int[] skullRegions = {particles.addRegion(particleAtlas.findRegion(AssetPaths.SNAKE_SKULL))};
+
+        ParticleEmitter drift = new ParticleEmitter()
+                .setSpawnArea(Gdx.graphics.getWidth(), Gdx.graphics.getHeight())
+                .setSpeed(0f, 28f)
+                .setSize(20f, 40f)
+                .setRotation(0, 360)
+                .setRotationSpeed(-50f, 50f)
+                .setWrap(true);
+
+        // 70% chance for unhealthy food particles
+        for (int i = 0; i < PARTICLE_COUNT; i++) {
+            drift.setRegions(MathUtils.randomBoolean(0.7f) ? unhealthyRegions : skullRegions);
+            particles.burst(drift, Gdx.graphics.getWidth() / 2f, Gdx.graphics.getHeight() / 2f, 1);
         }
     }
 
+    @Override
+    protected void declareAssets(AssetManifest manifest) {
+        addRequiredAssets(manifest);
+    }
+
+    @Override
+    protected void declareLikelyNextAssets(AssetManifest manifest) {
+        HealthSnakeGameScene.addRequiredAssets(manifest);
+        HealthSnakeMenuScene.addRequiredAssets(manifest);
+    }
+
+    /**
+     * Add the assets this scene needs (also used by other scenes to prefetch it)
+     */
+    static void addRequiredAssets(AssetManifest manifest) {
+        manifest.add(AssetPaths.BACKGROUND, Texture.class)
+                .add(AssetPaths.GAME_OVER, Texture.class);
+    }
+
     @Override
     public void initialize() {
         try {
-            backgroundTexture = new Texture(Gdx.files.internal("snake_background.png"));
-            gameOverTexture = new Texture(Gdx.files.internal("game_over.png"));
-            snakeSkullTexture = new Texture(Gdx.files.internal("snake_skull.png"));
-            unhealthyFoodTextures = new Texture[5];
-            for (int i = 0; i < 5; i++) {
-                unhealthyFoodTextures[i] = new Texture(Gdx.files.internal("unhealthy_" + (i + 1) + ".png"));
-            }
+            ResourceManager resources = ResourceManager.getInstance();
+            backgroundTexture = resources.getTexture(AssetPaths.BACKGROUND);
+            gameOverTexture = resources.getTexture(AssetPaths.GAME_OVER);
 
-            particleTextureIndex = new int[particleCount];
-            for (int i = 0; i < particleCount; i++) {
-                if (particleIsUnhealthy[i]) {
-                    particleTextureIndex[i] = MathUtils.random(unhealthyFoodTextures.length - 1);
-                }
-            }
+            // Pack the particle images together so they draw without texture switches
+            String[] particleImages = new String[AssetPaths.UNHEALTHY_FOOD.length + 1];
+            System.arraycopy(AssetPaths.UNHEALTHY_FOOD, 0, particleImages, 0, AssetPaths.UNHEALTHY_FOOD.length);
+            particleImages[particleImages.length - 1] = AssetPaths.SNAKE_SKULL;
+            particleAtlas = ParticleSystem.packAtlas(256, particleImages);
+            initializeParticles();
 
             System.out.println("[HealthSnakeDeathScene] Textures loaded successfully.");
         } catch (Exception e) {
@@ -158,22 +175,15 @@ public class HealthSnakeDeathScene extends Scene {
             // Use placeholder handling if textures fail to load
         }
 
+        textLayer = new CachedLayer(this::drawTextLayer);
+        selectItem(selectedItem);
+
         // Play death sound
         ioManager.getAudio().stopMusic();
         ioManager.getAudio().playSound(AssetPaths.GAME_OVER_SOUND);
 
         // Start sad music after a delay
-        Gdx.app.postRunnable(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    Thread.sleep(1000); // Wait 1 second
-                    ioManager.getAudio().playMusic(AssetPaths.SAD_MUSIC);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        });
+        ioManager.getAudio().playMusic(AssetPaths.SAD_MUSIC, 1f);
     }
 
     @Override
@@ -181,32 +191,14 @@ public class HealthSnakeDeathScene extends Scene {
         timeElapsed += deltaTime;
 
         // Update particles
-        for (int i = 0; i < particleCount; i++) {
-            particleX[i] += particleSpeedX[i] * deltaTime;
-            particleY[i] += particleSpeedY[i] * deltaTime;
-            particleRotation[i] += particleRotationSpeed[i] * deltaTime;
-
-            // Wrap particles around screen
-            if (particleX[i] < -particleSize[i]) {
-                particleX[i] = Gdx.graphics.getWidth() + particleSize[i];
-            }
-            if (particleX[i] > Gdx.graphics.getWidth() + particleSize[i]) {
-                particleX[i] = -particleSize[i];
-            }
-            if (particleY[i] < -particleSize[i]) {
-                particleY[i] = Gdx.graphics.getHeight() + particleSize[i];
-            }
-            if (particleY[i] > Gdx.graphics.getHeight() + particleSize[i]) {
-                particleY[i] = -particleSize[i];
-            }
-        }
+        particles.update(deltaTime);
 
         // Menu navigation
         if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.UP)) {
-            selectedItem = (selectedItem - 1 + menuItems.length) % menuItems.length;
+            selectItem((selectedItem - 1 + menuItems.length) % menuItems.length);
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
         } else if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.DOWN)) {
-            selectedItem = (selectedItem + 1) % menuItems.length;
+            selectItem((selectedItem + 1) % menuItems.length);
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
         }
 
@@ -216,6 +208,18 @@ public class HealthSnakeDeathScene extends Scene {
         }
     }
 
+    /**
+     * Select a menu item, measuring its label once so render() can centre it without a new layout
+     */
+    private void selectItem(int index) {
+        selectedItem = index;
+        selectedItemText = "> " + menuItems[index] + " <";
+        font.getData().setScale(0.3f);
+        selectedItemLayout.setText(font, selectedItemText);
+        // The cached layer holds the unselected items, so it changes with the selection
+        textLayer.invalidate();
+    }
+
     private void handleMenuSelection() {
         ioManager.getAudio().playSound(AssetPaths.MENU_SELECT);
 
@@ -290,32 +294,7 @@ public class HealthSnakeDeathScene extends Scene {
         }
 
         // Draw particles (food items floating in background)
-        for (int i = 0; i < particleCount; i++) {
-            Texture particleTexture;
-            if (particleIsUnhealthy[i]) {
-                particleTexture = unhealthyFoodTextures[particleTextureIndex[i]];
-            } else {
-                particleTexture = snakeSkullTexture;
-            }
-
-            if (particleTexture != null) {
-                batch.draw(
-                        particleTexture,
-                        particleX[i] - particleSize[i] / 2,
-                        particleY[i] - particleSize[i] / 2,
-                        particleSize[i] / 2, // origin x
-                        particleSize[i] / 2, // origin y
-                        particleSize[i],
-                        particleSize[i],
-                        1, 1, // scale
-                        particleRotation[i],
-                        0, 0, // src xy
-                        particleTexture.getWidth(),
-                        particleTexture.getHeight(),
-                        false, false // flip xy
-                );
-            }
-        }
+        particles.render(batch);
 
         // Draw game over text centered
         if (gameOverTexture != null) {
@@ -331,108 +310,102 @@ public class HealthSnakeDeathScene extends Scene {
             );
         }
         
+        textLayer.render(batch);
+
+        // Only the pulsing selected item is drawn every frame
+        float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
+        font.getData().setScale(0.3f);
+        font.setColor(1f, pulse, pulse, 1f);
+        font.draw(batch, selectedItemText,
+                (Gdx.graphics.getWidth() - selectedItemLayout.width) / 2,
+                getMenuItemY(selectedItem));
+        font.setColor(Color.WHITE);
+
+        batch.end();
+    }
+
+    /**
+     * Draw the static text and unselected menu items into the cached layer
+     */
+    private void drawTextLayer(SpriteBatch batch, int width, int height) {
         // Draw level info centered
-        drawCenteredText(batch, "Level " + level, Gdx.graphics.getHeight() - 130, 0.4f, 
+        drawCenteredText(batch, "Level " + level, height - 130, 0.4f,
                         new Color(1f, 0.5f, 0.5f, 1f));
 
         // Draw death message centered
-        drawCenteredText(batch, deathMessage, Gdx.graphics.getHeight() - 180, 0.3f, 
+        drawCenteredText(batch, deathMessage, height - 180, 0.3f,
                         new Color(1f, 0.3f, 0.3f, 1f));
 
         // Draw calorie counts with centered alignment
         // Healthy calories (green)
-        drawCenteredText(batch, 
-                        "Healthy Food: " + healthyCount + " items (" + healthyCalories + " kcal)", 
-                        Gdx.graphics.getHeight() - 220, 0.3f, 
+        drawCenteredText(batch,
+                        "Healthy Food: " + healthyCount + " items (" + healthyCalories + " kcal)",
+                        height - 220, 0.3f,
                         new Color(0.3f, 0.9f, 0.3f, 1f));
-        
+
         // Unhealthy calories (red)
-        drawCenteredText(batch, 
-                        "Unhealthy Food: " + unhealthyCount + " items (" + unhealthyCalories + " kcal)", 
-                        Gdx.graphics.getHeight() - 250, 0.3f, 
+        drawCenteredText(batch,
+                        "Unhealthy Food: " + unhealthyCount + " items (" + unhealthyCalories + " kcal)",
+                        height - 250, 0.3f,
                         new Color(0.9f, 0.3f, 0.3f, 1f));
-        
+
         // Total calories
-        drawCenteredText(batch, 
-                        "Total: " + (healthyCalories + unhealthyCalories) + " kcal consumed", 
-                        Gdx.graphics.getHeight() - 280, 0.3f, 
+        drawCenteredText(batch,
+                        "Total: " + (healthyCalories + unhealthyCalories) + " kcal consumed",
+                        height - 280, 0.3f,
                         new Color(1f, 1f, 1f, 1f));
 
         // Draw death cause if provided
         if (deathCause != null && !deathCause.isEmpty()) {
-            drawCenteredText(batch, "Cause: " + deathCause, Gdx.graphics.getHeight() - 320, 0.3f, Color.WHITE);
+            drawCenteredText(batch, "Cause: " + deathCause, height - 320, 0.3f, Color.WHITE);
         }
-        
+
         // Draw educational tip - centered header with wrapped text below
-        float tipX = Gdx.graphics.getWidth() / 2 - 250;
-        float tipY = Gdx.graphics.getHeight() / 2 - 20;
-        
+        float tipY = height / 2 - 20;
+
         drawCenteredText(batch, "Nutrition Tip:", tipY, 0.25f, new Color(0.9f, 0.9f, 1.0f, 1.0f));
-        
+
         // For wrapped text, we'll center the block itself
         font.setColor(0.9f, 0.9f, 1.0f, 1.0f);
         font.getData().setScale(0.25f);
         float contentWidth = 500;
-        font.draw(batch, educationalTip, 
-                (Gdx.graphics.getWidth() - contentWidth) / 2, // Center the text block
+        font.draw(batch, educationalTip,
+                (width - contentWidth) / 2, // Center the text block
                 tipY - 30, contentWidth, -1, true);
 
-        // Draw menu items
-        float menuY = Gdx.graphics.getHeight() / 2 - 130;
-        float menuSpacing = 50;
-        font.setColor(Color.WHITE);
+        // Draw unselected menu items
         font.getData().setScale(0.3f);
+        font.setColor(Color.WHITE);
 
         for (int i = 0; i < menuItems.length; i++) {
-            String itemText;
             if (i == selectedItem) {
-                // Pulsing effect for selected item
-                float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
-                font.setColor(1f, pulse, pulse, 1f);
-                itemText = "> " + menuItems[i] + " <";
-            } else {
-                font.setColor(Color.WHITE);
-                itemText = menuItems[i];
+                // Drawn every frame by render() so it can pulse
+                continue;
             }
-            
-            // Center each menu item
-            GlyphLayout layout = new GlyphLayout(font, itemText);
-            float itemWidth = layout.width;
-            font.draw(batch, itemText,
-                    (Gdx.graphics.getWidth() - itemWidth) / 2,
-                    menuY - i * menuSpacing);
+            drawCenteredText(batch, menuItems[i], getMenuItemY(i), 0.3f, Color.WHITE);
         }
 
-        // Reset font color
-        font.setColor(Color.WHITE);
-
         // Draw controls hint centered
         drawCenteredText(batch, "Arrow Keys: Navigate | Enter: Select",
                 50, 0.3f, Color.WHITE);
+    }
 
-        batch.end();
+    private float getMenuItemY(int index) {
+        float menuY = Gdx.graphics.getHeight() / 2 - 130;
+        float menuSpacing = 50;
+        return menuY - index * menuSpacing;
     }
 
     @Override
     public void dispose() {
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+        if (textLayer != null) {
+            textLayer.dispose();
         }
-        if (gameOverTexture != null) {
-            gameOverTexture.dispose();
-        }
-        if (snakeSkullTexture != null) {
-            snakeSkullTexture.dispose();
-        }
-        if (unhealthyFoodTextures != null) {
-            for (Texture texture : unhealthyFoodTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
+        if (particleAtlas != null) {
+            particleAtlas.dispose();
         }
         if (font != null) {
-            font.dispose();
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
     }
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
@@ -16,28 +16,42 @@ import com.badlogic.gdx.math.MathUtils;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.config.GameConfig;
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AudioManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleEmitter;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.BackgroundLayer;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.RenderSnapshot;
+import io.github.some_example_name.lwjgl3.abstract_engine.render.SnakeRenderer;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.SnapshotScene;
 import io.github.some_example_name.lwjgl3.abstract_engine.ui.AssetPaths;
 import io.github.some_example_name.lwjgl3.application_classes.entity.SnakePlayer;
 import io.github.some_example_name.lwjgl3.application_classes.entity.EnemySnake;
 import io.github.some_example_name.lwjgl3.application_classes.entity.FoodEntity;
 import io.github.some_example_name.lwjgl3.application_classes.entity.FoodEntityFactory;
 import io.github.some_example_name.lwjgl3.application_classes.game.LevelManager;
+import io.github.some_example_name.lwjgl3.application_classes.game.SnakeColor;
+import io.github.some_example_name.lwjgl3.application_classes.game.SnakeHud;
 
-public class HealthSnakeGameScene extends Scene {
+public class HealthSnakeGameScene extends Scene implements SnapshotScene {
     // Configuration constants
     private static final float WORLD_WIDTH = 2000f;
     private static final float WORLD_HEIGHT = 2000f;
     private static final int MAX_FOOD = 30;
     private static final float FOOD_SPAWN_INTERVAL = 2f;
     private static final float ENEMY_SPAWN_INTERVAL = 3f;
+    private static final String PICKUP_ATLAS = "generated/pickup_effects.atlas";
 
     // Scene components
     private Texture backgroundTexture;
+    private Texture levelTransitionTexture;
+    private BackgroundLayer backgroundLayer;
     private SpriteBatch batch;
     private EntityManager entityManager;
     private MovementManager movementManager;
@@ -46,13 +60,24 @@ public class HealthSnakeGameScene extends Scene {
     private IOManager ioManager;
     private LevelManager levelManager;
 
+    // Sound handles, resolved once per scene
+    private int levelUpSound;
+    private int collisionSound;
+
     // Game entities
     private SnakePlayer player;
     private Array<EnemySnake> enemies;
     private Array<FoodEntity> foods;
 
     // Rendering and UI
-    private ShapeRenderer shapeRenderer;
+    private SnakeRenderer snakeRenderer;
+    private SnakeHud hud;
+
+    // Food pickup bursts, in world coordinates
+    private ParticleSystem pickupEffects;
+    private TextureAtlas effectsAtlas;
+    private ParticleEmitter healthyPickup;
+    private ParticleEmitter unhealthyPickup;
     private BitmapFont font;
     private Texture healthyPlateTexture;
     private boolean showHealthyPlateIntro;
@@ -62,13 +87,14 @@ public class HealthSnakeGameScene extends Scene {
     private float foodSpawnTimer = 0;
     private boolean showingLevelTransition = false;
     private float transitionTimer = 0;
-    private String transitionMessage = "";
-    private Texture levelTransitionTexture;
     
 
 
     // Camera and world management
     private Vector2 cameraOffset = new Vector2(0, 0);
+    // Camera at the previous fixed update, and the blend of the two used while drawing
+    private final Vector2 previousCameraOffset = new Vector2();
+    private final Vector2 renderOffset = new Vector2();
 
     public HealthSnakeGameScene(SpriteBatch batch, EntityManager entityManager,
             MovementManager movementManager, World world,
@@ -89,6 +115,10 @@ public class HealthSnakeGameScene extends Scene {
         this.levelManager = levelManager;
         this.showHealthyPlateIntro = showHealthyPlateOnStart;
 
+        AudioManager audio = ioManager.getAudio();
+        this.levelUpSound = audio.registerSound(AssetPaths.LEVEL_UP_SOUND, 1, AudioManager.PRIORITY_HIGH);
+        this.collisionSound = audio.registerSound(AssetPaths.COLLISION_SOUND, 2, AudioManager.PRIORITY_HIGH);
+
         initializeGameComponents();
     }
 
@@ -96,8 +126,8 @@ public class HealthSnakeGameScene extends Scene {
      * Initialize game components during constructor
      */
     private void initializeGameComponents() {
-        shapeRenderer = new ShapeRenderer();
-        font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+        snakeRenderer = new SnakeRenderer();
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
 
@@ -105,6 +135,34 @@ public class HealthSnakeGameScene extends Scene {
         foods = new Array<>();
     }
 
+    @Override
+    protected void declareAssets(AssetManifest manifest) {
+        addRequiredAssets(manifest);
+    }
+
+    @Override
+    protected void declareLikelyNextAssets(AssetManifest manifest) {
+        SnakePauseScene.addRequiredAssets(manifest);
+        HealthSnakeDeathScene.addRequiredAssets(manifest);
+    }
+
+    /**
+     * Add the assets this scene needs (also used by other scenes to prefetch it)
+     */
+    static void addRequiredAssets(AssetManifest manifest) {
+        SnakeColor color = GameConfig.getInstance().getSnakeColor();
+        manifest.add(AssetPaths.BACKGROUND, Texture.class)
+                .add(AssetPaths.HEALTHY_PLATE, Texture.class)
+                .add(AssetPaths.LEVEL_TRANSITION, Texture.class)
+                // Entity textures, so level-ups and retries find them resident
+                .add(SnakePlayer.getHeadTexturePath(color), Texture.class)
+                .add(SnakePlayer.getBodyTexturePath(color), Texture.class)
+                .add(AssetPaths.ENEMY_HEAD, Texture.class)
+                .add(AssetPaths.ENEMY_BODY, Texture.class)
+                .addAll(AssetPaths.HEALTHY_FOOD, Texture.class)
+                .addAll(AssetPaths.UNHEALTHY_FOOD, Texture.class);
+    }
+
     @Override
     public void initialize() {
         System.out.println("[HealthSnakeGameScene] Initializing level " + levelManager.getCurrentLevel());
@@ -121,12 +179,16 @@ public class HealthSnakeGameScene extends Scene {
         // Create player
         createPlayer();
 
+        // HUD reads its values from the player and refreshes on score changes
+        hud = new SnakeHud(font, levelTransitionTexture, player, levelManager);
+
         // Create initial game elements
         createInitialEnemies();
         createInitialFood();
 
         // Update camera position
         updateCameraPosition();
+        previousCameraOffset.set(cameraOffset);
 
         // Show level transition if not first level
         if (levelManager.getCurrentLevel() > 1) {
@@ -143,19 +205,52 @@ public class HealthSnakeGameScene extends Scene {
     }
 
     /**
-     * Load necessary textures for the scene
+     * Fetch the scene's textures (already loaded from its manifest)
      */
     private void loadTextures() {
         try {
-            backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.BACKGROUND));
-            levelTransitionTexture = new Texture(Gdx.files.internal(AssetPaths.LEVEL_TRANSITION));
-            healthyPlateTexture = new Texture(Gdx.files.internal(AssetPaths.HEALTHY_PLATE));
+            ResourceManager resources = ResourceManager.getInstance();
+            backgroundTexture = resources.getTexture(AssetPaths.BACKGROUND);
+            backgroundLayer = new BackgroundLayer(backgroundTexture);
+            healthyPlateTexture = resources.getTexture(AssetPaths.HEALTHY_PLATE);
+            levelTransitionTexture = resources.getTexture(AssetPaths.LEVEL_TRANSITION);
+            createPickupEffects();
             System.out.println("[HealthSnakeGameScene] Textures loaded.");
         } catch (Exception e) {
             System.err.println("[HealthSnakeGameScene] Error loading textures: " + e.getMessage());
         }
     }
 
+    /**
+     * Set up the particle bursts shown when food is eaten
+     */
+    private void createPickupEffects() {
+        // Shared by key, so a level-up reuses the atlas instead of packing it again
+        effectsAtlas = ResourceManager.getInstance().acquire(PICKUP_ATLAS, TextureAtlas.class,
+                () -> ParticleSystem.packAtlas(128, AssetPaths.HEALTHY_FOOD_BG, AssetPaths.UNHEALTHY_FOOD_BG));
+        pickupEffects = new ParticleSystem(256);
+        int healthyRegion = pickupEffects.addRegion(effectsAtlas.findRegion(AssetPaths.HEALTHY_FOOD_BG));
+        int unhealthyRegion = pickupEffects.addRegion(effectsAtlas.findRegion(AssetPaths.UNHEALTHY_FOOD_BG));
+
+        healthyPickup = new ParticleEmitter()
+                .setRegions(healthyRegion)
+                .setSpeed(60f, 160f)
+                .setSize(6f, 12f)
+                .setRotationSpeed(-180f, 180f)
+                .setLife(0.3f, 0.7f)
+                .setFadeOut(true)
+                .setColor(new Color(0.5f, 1f, 0.5f, 1f));
+
+        unhealthyPickup = new ParticleEmitter()
+                .setRegions(unhealthyRegion)
+                .setSpeed(60f, 160f)
+                .setSize(6f, 12f)
+                .setRotationSpeed(-180f, 180f)
+                .setLife(0.3f, 0.7f)
+                .setFadeOut(true)
+                .setColor(new Color(1f, 0.5f, 0.5f, 1f));
+    }
+
     /**
      * Create the player at the center of the world
      */
@@ -191,8 +286,8 @@ public class HealthSnakeGameScene extends Scene {
     private void showLevelTransition() {
         showingLevelTransition = true;
         transitionTimer = 0; // Reset the timer for animations
-        transitionMessage = levelManager.getLevelDescription();
-        ioManager.getAudio().playSound(AssetPaths.LEVEL_UP_SOUND);
+        hud.showLevelTransition(levelManager.getLevelDescription());
+        ioManager.getAudio().playSound(levelUpSound);
     }
 
     private void createRandomEnemyInWorld(int idNumber) {
@@ -269,9 +364,10 @@ public class HealthSnakeGameScene extends Scene {
 
     @Override
     public void update(float deltaTime) {
+        previousCameraOffset.set(cameraOffset);
     	//Pause logic until player presses a key
     	if (showHealthyPlateIntro) {
-    	    if (Gdx.input.isKeyJustPressed(Input.Keys.ANY_KEY)) {
+    	    if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.ANY_KEY)) {
     	        showHealthyPlateIntro = false;
     	    }
     	    return; // Don't update game logic yet
@@ -294,8 +390,9 @@ public class HealthSnakeGameScene extends Scene {
         // Handle pause
         if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.ESCAPE)) {
             System.out.println("[HealthSnakeGameScene] Pausing game...");
-            sceneManager.pushScene(new SnakePauseScene(batch, sceneManager, entityManager, movementManager, ioManager),
-                    GameState.PAUSED);
+            sceneManager.runOnRenderThread(() ->
+                    sceneManager.pushScene(new SnakePauseScene(batch, sceneManager, entityManager, movementManager, ioManager),
+                            GameState.PAUSED));
             return;
         }
 
@@ -343,6 +440,7 @@ public class HealthSnakeGameScene extends Scene {
 
             if (playerBounds.overlaps(food.getBounds())) {
                 player.eatFood(food);
+                spawnPickupBurst(food);
                 food.deactivate();
                 foodsToRemove.add(food);
             }
@@ -358,7 +456,7 @@ public class HealthSnakeGameScene extends Scene {
         for (EnemySnake enemy : enemies) {
             // Check head-to-head collision
             if (playerBounds.overlaps(enemy.getHeadBounds())) {
-                ioManager.getAudio().playSound(AssetPaths.COLLISION_SOUND);
+                ioManager.getAudio().playSound(collisionSound);
 
                 // Calculate final score and transition to death scene
                 handleGameOver("Collision with enemy snake head");
@@ -369,7 +467,7 @@ public class HealthSnakeGameScene extends Scene {
             Array<Rectangle> enemyBodyBounds = enemy.getBodyBounds();
             for (Rectangle bodyPart : enemyBodyBounds) {
                 if (playerBounds.overlaps(bodyPart)) {
-                    ioManager.getAudio().playSound(AssetPaths.COLLISION_SOUND);
+                    ioManager.getAudio().playSound(collisionSound);
 
                     // Calculate final score and transition to death scene
                     handleGameOver("Collision with enemy snake body");
@@ -394,10 +492,22 @@ public class HealthSnakeGameScene extends Scene {
             enemy.update(deltaTime);
         }
 
+        if (pickupEffects != null) {
+            pickupEffects.update(deltaTime);
+        }
+
         // Update camera position to follow player
         updateCameraPosition();
     }
 
+    private void spawnPickupBurst(FoodEntity food) {
+        if (pickupEffects == null) {
+            return;
+        }
+        ParticleEmitter emitter = food.isHealthy() ? healthyPickup : unhealthyPickup;
+        pickupEffects.burst(emitter, food.getPosition().x, food.getPosition().y, 12);
+    }
+
     private void repositionOffscreenFood() {
         Vector2 playerPos = player.getPosition();
         float visibleRange = 1000; // How far from player food is considered "in range"
@@ -510,119 +620,12 @@ public class HealthSnakeGameScene extends Scene {
         enemy.setPosition(x, y);
     }
 
-    private void drawUI(SpriteBatch batch) {
-        // End batch to draw shape renderer elements
-        batch.end();
-
-        // Draw UI elements with ShapeRenderer
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        // Draw healthy food progress bar (green)
-        shapeRenderer.setColor(0.2f, 0.8f, 0.2f, 1);
-        shapeRenderer.rect(20, Gdx.graphics.getHeight() - 30, 200 * player.getHealthyFoodPercentage(), 20);
-
-        // Draw unhealthy food progress bar (red)
-        shapeRenderer.setColor(0.8f, 0.2f, 0.2f, 1);
-        shapeRenderer.rect(Gdx.graphics.getWidth() - 220, Gdx.graphics.getHeight() - 30,
-                200 * player.getUnhealthyFoodPercentage(), 20);
-
-        shapeRenderer.end();
-
-        // Draw bar outlines
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.rect(20, Gdx.graphics.getHeight() - 30, 200, 20);
-        shapeRenderer.rect(Gdx.graphics.getWidth() - 220, Gdx.graphics.getHeight() - 30, 200, 20);
-        shapeRenderer.end();
-
-        // Restart batch for text drawing
-        batch.begin();
-
-        // Draw bar labels
-        font.draw(batch, "Healthy", 20, Gdx.graphics.getHeight() - 40);
-        font.draw(batch, "Unhealthy", Gdx.graphics.getWidth() - 220, Gdx.graphics.getHeight() - 40);
-
-        // Draw level information
-        String levelText = "Level " + levelManager.getCurrentLevel();
-        font.draw(batch, levelText, Gdx.graphics.getWidth() / 2 - 60, Gdx.graphics.getHeight() - 20);
-
-        // Draw food counts
-        String healthyCount = player.getHealthyFoodCount() + "/" + levelManager.getHealthyFoodGoal();
-        String unhealthyCount = player.getUnhealthyFoodCount() + "/" + levelManager.getUnhealthyFoodGoal();
-
-        font.draw(batch, healthyCount, 230, Gdx.graphics.getHeight() - 20);
-        font.draw(batch, unhealthyCount, Gdx.graphics.getWidth() - 50, Gdx.graphics.getHeight() - 20);
-
-        // Draw calorie counters
-        font.setColor(0.2f, 0.9f, 0.2f, 1f);
-        font.draw(batch, "Healthy: " + player.getHealthyCalories() + " kcal", 20, 30);
-
-        font.setColor(0.9f, 0.2f, 0.2f, 1f);
-        font.draw(batch, "Unhealthy: " + player.getUnhealthyCalories() + " kcal", Gdx.graphics.getWidth() - 220, 30);
-
-        // Reset font color
-        font.setColor(Color.WHITE);
-        font.draw(batch, "Size: " + player.getBodySize(), Gdx.graphics.getWidth() / 2 - 40, 30);
-    }
-
-    private void drawLevelTransition(SpriteBatch batch) {
-        // Draw semi-transparent background
-        batch.setColor(0, 0, 0, 0.7f);
-        batch.draw(levelTransitionTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.setColor(Color.WHITE);
-
-        // Create pulsing effect using transitionTimer
-        float pulse = (float) Math.sin(transitionTimer * 3) * 0.2f + 0.8f;
-        float scale = 0.35f + 0.05f * pulse;
-
-        // Draw level message - centered
-        drawCenteredText(batch, transitionMessage, Gdx.graphics.getHeight() / 2 + 70, scale, Color.WHITE);
-
-        // Display specific information based on the level path - centered
-        String infoText;
-        if (levelManager.isUnhealthyPath()) {
-            infoText = "Unhealthy Path: Snake is slower and larger!";
-            drawCenteredText(batch, infoText, Gdx.graphics.getHeight() / 2 + 20, 0.3f, new Color(1, 0.5f, 0.5f, 1));
-        } else {
-            infoText = "Healthy Path: Snake is faster and more agile!";
-            drawCenteredText(batch, infoText, Gdx.graphics.getHeight() / 2 + 20, 0.3f, new Color(0.5f, 1, 0.5f, 1));
-        }
-
-        // Show goals - centered
-        String healthyGoal = "Healthy Food Goal: " + levelManager.getHealthyFoodGoal();
-        String unhealthyGoal = "Unhealthy Food Goal: " + levelManager.getUnhealthyFoodGoal();
-
-        drawCenteredText(batch, healthyGoal, Gdx.graphics.getHeight() / 2 - 20, 0.25f, new Color(0.5f, 1, 0.5f, 1));
-        drawCenteredText(batch, unhealthyGoal, Gdx.graphics.getHeight() / 2 - 60, 0.25f, new Color(1, 0.5f, 0.5f, 1));
-
-        // Add "Press Enter to continue" text with pulsing effect - centered
-        drawCenteredText(batch, "Press Enter to continue",
-                Gdx.graphics.getHeight() / 2 - 120, 0.3f,
-                new Color(1, 1, 1, pulse)); // Pulsing opacity
-
-        // Reset font settings
-        font.setColor(Color.WHITE);
-        font.getData().setScale(0.3f);
-    }
-
-    private void drawCenteredText(SpriteBatch batch, String text, float y, float scale, Color color) {
-        font.getData().setScale(scale);
-        font.setColor(color);
-
-        // Use GlyphLayout to calculate exact text width
-        GlyphLayout layout = new GlyphLayout(font, text);
-        float textWidth = layout.width;
-
-        // Draw centered text
-        font.draw(batch, text, (Gdx.graphics.getWidth() - textWidth) / 2f, y);
-    }
-
     private void progressToNextLevel(boolean unhealthyPath) {
         // Update level manager with progression info
         levelManager.progressToNextLevel(player.getHealthyFoodPercentage(), player.getUnhealthyFoodPercentage());
 
         // Start a new game scene with the updated level manager
-        sceneManager.changeScene(
+        sceneManager.runOnRenderThread(() -> sceneManager.changeScene(
                 new HealthSnakeGameScene(
                         batch,
                         entityManager,
@@ -632,12 +635,12 @@ public class HealthSnakeGameScene extends Scene {
                         ioManager,
                         levelManager,
                         false),
-                GameState.RUNNING);
+                GameState.RUNNING));
     }
 
     private void handleGameOver(String deathCause) {
         // Pass separate calorie counts to death scene
-        sceneManager.changeScene(
+        sceneManager.runOnRenderThread(() -> sceneManager.changeScene(
                 new HealthSnakeDeathScene(
                         batch,
                         sceneManager,
@@ -650,65 +653,26 @@ public class HealthSnakeGameScene extends Scene {
                         player.getUnhealthyFoodCount(),
                         deathCause,
                         levelManager),
-                GameState.GAME_OVER);
+                GameState.GAME_OVER));
     }
 
     @Override
     public void render(SpriteBatch batch) {
     	if (showHealthyPlateIntro) {
-    	    batch.begin();
-
-    	    // Center image
-    	    float imgX = (Gdx.graphics.getWidth() - healthyPlateTexture.getWidth()) / 2f;
-    	    float imgY = (Gdx.graphics.getHeight() - healthyPlateTexture.getHeight()) / 2f + 50;
-    	    batch.draw(healthyPlateTexture, imgX, imgY);
-
-    	    title1 = "Collect these healthy foods to grow stronger";
-    	    title2 = "and level up faster! Avoid junk food to stay on the healthy path.";
-
-    	    font.getData().setScale(0.3f);
-    	    font.setColor(Color.WHITE);
-
-    	    GlyphLayout line1Layout = new GlyphLayout(font, title1);
-    	    GlyphLayout line2Layout = new GlyphLayout(font, title2);
-
-    	    float titleY = imgY + healthyPlateTexture.getHeight() + 40;
-
-    	    font.draw(batch, title1, (Gdx.graphics.getWidth() - line1Layout.width) / 2, titleY);
-    	    font.draw(batch, title2, (Gdx.graphics.getWidth() - line2Layout.width) / 2, titleY - 25);
-
-    	    // Instruction text
-    	    String message = "Press any key to start your healthy journey!";
-    	    GlyphLayout layout = new GlyphLayout(font, message);
-    	    font.draw(batch, message, (Gdx.graphics.getWidth() - layout.width) / 2, 60);
-
-    	    batch.end();
+    	    renderIntro(batch);
     	    return;
     	}
 
     	
-        // Draw tiled background
+        // Draw between the last two fixed updates so movement stays smooth at any frame rate
+        float alpha = getRenderAlpha();
+        renderOffset.set(previousCameraOffset).lerp(cameraOffset, alpha);
+
+        // Draw tiled background as a single scrolling quad
         batch.begin();
-        if (backgroundTexture != null) {
-            // Calculate how many tiles we need to cover the screen
-            int bgWidth = backgroundTexture.getWidth();
-            int bgHeight = backgroundTexture.getHeight();
-
-            // Calculate starting position based on camera offset
-            float startX = -(cameraOffset.x % bgWidth);
-            if (startX > 0)
-                startX -= bgWidth;
-
-            float startY = -(cameraOffset.y % bgHeight);
-            if (startY > 0)
-                startY -= bgHeight;
-
-            // Draw background tiles
-            for (float x = startX; x < Gdx.graphics.getWidth(); x += bgWidth) {
-                for (float y = startY; y < Gdx.graphics.getHeight(); y += bgHeight) {
-                    batch.draw(backgroundTexture, x, y);
-                }
-            }
+        if (backgroundLayer != null) {
+            backgroundLayer.render(batch, renderOffset.x, renderOffset.y,
+                    Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         }
 
         // Draw food entities
@@ -732,33 +696,141 @@ public class HealthSnakeGameScene extends Scene {
             }
         }
 
-        // Draw enemy snakes
+        // Draw enemy snake bodies first so all segments go out in one instanced draw
         for (EnemySnake enemy : enemies) {
-            Vector2 screenPos = worldToScreen(enemy.getPosition().x, enemy.getPosition().y);
+            Vector2 screenPos = worldToScreen(enemy.getInterpolatedX(alpha), enemy.getInterpolatedY(alpha));
 
             // Only draw if on screen (use a larger margin for larger entities)
-            if (screenPos.x >= -100 && screenPos.x <= Gdx.graphics.getWidth() + 100 &&
-                    screenPos.y >= -100 && screenPos.y <= Gdx.graphics.getHeight() + 100) {
+            if (isEnemyOnScreen(screenPos)) {
+                enemy.renderBodyAtPosition(batch, snakeRenderer, screenPos.x, screenPos.y);
+            }
+        }
+        snakeRenderer.flush(batch);
 
-                // Draw enemy at screen position
-                enemy.renderAtPosition(batch, screenPos.x, screenPos.y);
+        // Then draw enemy heads on top
+        for (EnemySnake enemy : enemies) {
+            Vector2 screenPos = worldToScreen(enemy.getInterpolatedX(alpha), enemy.getInterpolatedY(alpha));
+            if (isEnemyOnScreen(screenPos)) {
+                enemy.renderHeadAtPosition(batch, screenPos.x, screenPos.y);
             }
         }
 
         // Draw player (always centered)
-        player.render(batch);
+        player.render(batch, snakeRenderer);
+
+        // Draw pickup bursts on top of the snakes
+        if (pickupEffects != null) {
+            pickupEffects.render(batch, renderOffset.x, renderOffset.y);
+        }
 
         // Draw UI elements - progress bars, level info, etc.
-        drawUI(batch);
+        hud.render(batch);
 
         // Draw level transition overlay if active
         if (showingLevelTransition) {
-            drawLevelTransition(batch);
+            hud.renderLevelTransition(batch, transitionTimer);
         }
 
         batch.end();
     }
 
+    /**
+     * Draw the healthy plate introduction shown before play starts
+     */
+    private void renderIntro(SpriteBatch batch) {
+        batch.begin();
+
+        // Center image
+        float imgX = (Gdx.graphics.getWidth() - healthyPlateTexture.getWidth()) / 2f;
+        float imgY = (Gdx.graphics.getHeight() - healthyPlateTexture.getHeight()) / 2f + 50;
+        batch.draw(healthyPlateTexture, imgX, imgY);
+
+        title1 = "Collect these healthy foods to grow stronger";
+        title2 = "and level up faster! Avoid junk food to stay on the healthy path.";
+
+        font.getData().setScale(0.3f);
+        font.setColor(Color.WHITE);
+
+        GlyphLayout line1Layout = new GlyphLayout(font, title1);
+        GlyphLayout line2Layout = new GlyphLayout(font, title2);
+
+        float titleY = imgY + healthyPlateTexture.getHeight() + 40;
+
+        font.draw(batch, title1, (Gdx.graphics.getWidth() - line1Layout.width) / 2, titleY);
+        font.draw(batch, title2, (Gdx.graphics.getWidth() - line2Layout.width) / 2, titleY - 25);
+
+        // Instruction text
+        String message = "Press any key to start your healthy journey!";
+        GlyphLayout layout = new GlyphLayout(font, message);
+        font.draw(batch, message, (Gdx.graphics.getWidth() - layout.width) / 2, 60);
+        batch.end();
+    }
+
+    @Override
+    public RenderSnapshot createSnapshot() {
+        return new GameSnapshot();
+    }
+
+    @Override
+    public void captureSnapshot(RenderSnapshot snapshot) {
+        GameSnapshot frame = (GameSnapshot) snapshot;
+        frame.clear();
+        frame.showIntro = showHealthyPlateIntro;
+        frame.showingLevelTransition = showingLevelTransition;
+        frame.transitionTimer = transitionTimer;
+        frame.setCamera(previousCameraOffset.x, previousCameraOffset.y, cameraOffset.x, cameraOffset.y);
+        if (showHealthyPlateIntro) {
+            return;
+        }
+
+        // Same order as render(): food, enemy bodies, enemy heads, player, pickup bursts
+        for (FoodEntity food : foods) {
+            food.capture(frame);
+        }
+        for (EnemySnake enemy : enemies) {
+            enemy.captureBody(frame);
+        }
+        for (EnemySnake enemy : enemies) {
+            enemy.captureHead(frame);
+        }
+        player.capture(frame);
+        if (pickupEffects != null) {
+            pickupEffects.capture(frame);
+        }
+    }
+
+    @Override
+    public void syncRenderState() {
+        // HUD text reads the player, so it is rebuilt while the simulation is idle
+        hud.prepare();
+    }
+
+    @Override
+    public void renderSnapshot(SpriteBatch batch, RenderSnapshot snapshot, float alpha) {
+        GameSnapshot frame = (GameSnapshot) snapshot;
+        if (frame.showIntro) {
+            renderIntro(batch);
+            return;
+        }
+
+        batch.begin();
+        if (backgroundLayer != null) {
+            backgroundLayer.render(batch, frame.getCameraX(alpha), frame.getCameraY(alpha),
+                    Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
+        frame.render(batch, snakeRenderer, alpha);
+        hud.renderPrepared(batch);
+        if (frame.showingLevelTransition) {
+            hud.renderLevelTransition(batch, frame.transitionTimer);
+        }
+        batch.end();
+    }
+
+    private boolean isEnemyOnScreen(Vector2 screenPos) {
+        return screenPos.x >= -100 && screenPos.x <= Gdx.graphics.getWidth() + 100 &&
+                screenPos.y >= -100 && screenPos.y <= Gdx.graphics.getHeight() + 100;
+    }
+
     private void spawnFoodInWorld() {
         if (foods.size >= MAX_FOOD)
             return;
@@ -784,8 +856,9 @@ public class HealthSnakeGameScene extends Scene {
         Vector2 playerPos = player.getPosition();
 
         // Calculate screen center
-        float screenCenterX = Gdx.graphics.getWidth() / 2f;
-        float screenCenterY = Gdx.graphics.getHeight() / 2f;
+        // Runs in update, possibly on the simulation thread, so use the frame's latched size
+        float screenCenterX = ioManager.getDynamicInput().getScreenWidth() / 2f;
+        float screenCenterY = ioManager.getDynamicInput().getScreenHeight() / 2f;
 
         // Set camera offset so player is at screen center
         cameraOffset.x = playerPos.x - screenCenterX;
@@ -794,8 +867,8 @@ public class HealthSnakeGameScene extends Scene {
 
     private Vector2 worldToScreen(float worldX, float worldY) {
         return new Vector2(
-                worldX - cameraOffset.x,
-                worldY - cameraOffset.y);
+                worldX - renderOffset.x,
+                worldY - renderOffset.y);
     }
     
     public SnakePlayer getPlayer() {
@@ -804,44 +877,24 @@ public class HealthSnakeGameScene extends Scene {
 
     @Override
     public void dispose() {
-        // Dispose textures
-        safeDisposeTexture(backgroundTexture);
-        safeDisposeTexture(levelTransitionTexture);
-        safeDisposeTexture(healthyPlateTexture);
+        // Background and plate textures are released with the scene's manifest
+        if (effectsAtlas != null) {
+            ResourceManager.getInstance().release(PICKUP_ATLAS);
+        }
 
         // Dispose rendering components
-        safeDisposeShapeRenderer(shapeRenderer);
-        safeDisposeFont(font);
-
-        // Dispose game entities
-        disposeGameEntities();
-    }
-
-    /**
-     * Safely dispose of a texture
-     */
-    private void safeDisposeTexture(Texture texture) {
-        if (texture != null) {
-            texture.dispose();
+        if (hud != null) {
+            hud.dispose();
         }
-    }
-
-    /**
-     * Safely dispose of ShapeRenderer
-     */
-    private void safeDisposeShapeRenderer(ShapeRenderer renderer) {
-        if (renderer != null) {
-            renderer.dispose();
+        if (snakeRenderer != null) {
+            snakeRenderer.dispose();
         }
-    }
-
-    /**
-     * Safely dispose of BitmapFont
-     */
-    private void safeDisposeFont(BitmapFont bitmapFont) {
-        if (bitmapFont != null) {
-            bitmapFont.dispose();
+        if (font != null) {
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
+
+        // Dispose game entities
+        disposeGameEntities();
     }
 
     /**
@@ -860,4 +913,13 @@ public class HealthSnakeGameScene extends Scene {
         }
         foods.clear();
     }
-}
\ No newline at end of file
+
+    /**
+     * Snapshot with the scene's overlay state alongside the world draws
+     */
+    private static class GameSnapshot extends RenderSnapshot {
+        boolean showIntro;
+        boolean showingLevelTransition;
+        float transitionTimer;
+    }
+}
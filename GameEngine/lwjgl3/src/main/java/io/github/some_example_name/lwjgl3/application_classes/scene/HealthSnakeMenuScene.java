@@ -27,8 +27,11 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.CachedLayer;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
@@ -57,8 +60,13 @@ public class HealthSnakeMenuScene extends Scene {
 
 	private String[] menuItems = { "Start Game", "How to Play", "Settings", "Exit" };
 
+	private String[] selectedMenuItems;
+
 	private int selectedItem = 0;
 	private float timeElapsed;
+
+	// Title, hint and unselected items only change with the selection
+	private CachedLayer menuLayer;
 	private boolean showingInstructions = false;
 	private boolean showingSettings = false;
 	private Texture instructionsTexture;
@@ -79,26 +87,54 @@ public class HealthSnakeMenuScene extends Scene {
 		this.ioManager = ioManager;
 		this.timeElapsed = 0;
 
-		font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+		font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
 		font.setColor(Color.WHITE);
 		font.getData().setScale(0.3f);
 
 		// Initialize background animation arrays
 		backgroundSnakes = new Array<MenuSnake>();
 		backgroundFood = new Array<MenuFood>();
+
+		selectedMenuItems = new String[menuItems.length];
+		for (int i = 0; i < menuItems.length; i++) {
+			selectedMenuItems[i] = "> " + menuItems[i] + " <";
+		}
+		menuLayer = new CachedLayer(this::drawMenuLayer);
+	}
+
+	@Override
+	protected void declareAssets(AssetManifest manifest) {
+		addRequiredAssets(manifest);
+	}
+
+	@Override
+	protected void declareLikelyNextAssets(AssetManifest manifest) {
+		HealthSnakeGameScene.addRequiredAssets(manifest);
+	}
+
+	/**
+	 * Add the assets this scene needs (also used by other scenes to prefetch it)
+	 */
+	static void addRequiredAssets(AssetManifest manifest) {
+		manifest.add(AssetPaths.BACKGROUND, Texture.class)
+				.add(AssetPaths.TITLE, Texture.class)
+				.add(AssetPaths.INSTRUCTIONS, Texture.class)
+				.add(AssetPaths.SOUND_SLIDER, Texture.class)
+				.add(AssetPaths.SOUND_BAR, Texture.class)
+				.add(AssetPaths.UI_SKIN, Skin.class);
 	}
 
 	@Override
 	public void initialize() {
 		try {
-			// Load all required textures
-			backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.BACKGROUND));
-			titleTexture = new Texture(Gdx.files.internal(AssetPaths.TITLE));
-			instructionsTexture = new Texture(Gdx.files.internal(AssetPaths.INSTRUCTIONS));
-			soundSlider = new Texture(Gdx.files.internal(AssetPaths.SOUND_SLIDER));
-			soundBar = new Texture(Gdx.files.internal(AssetPaths.SOUND_BAR));
-			skin = new Skin(Gdx.files.internal(AssetPaths.UI_SKIN));
-			font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+			// Textures were loaded ahead of time by the SceneManager
+			ResourceManager resources = ResourceManager.getInstance();
+			backgroundTexture = resources.getTexture(AssetPaths.BACKGROUND);
+			titleTexture = resources.getTexture(AssetPaths.TITLE);
+			instructionsTexture = resources.getTexture(AssetPaths.INSTRUCTIONS);
+			soundSlider = resources.getTexture(AssetPaths.SOUND_SLIDER);
+			soundBar = resources.getTexture(AssetPaths.SOUND_BAR);
+			skin = resources.get(AssetPaths.UI_SKIN, Skin.class);
 
 			// Stop any currently playing music first
 			ioManager.getAudio().stopMusic();
@@ -172,10 +208,9 @@ public class HealthSnakeMenuScene extends Scene {
 		// Randomly choose snake type (player or enemy)
 		boolean isPlayerType = MathUtils.randomBoolean(0.3f); // 30% chance for player-like snake
 
-		Texture headTexture = new Texture(
-				Gdx.files.internal(isPlayerType ? AssetPaths.SNAKE_HEAD : AssetPaths.ENEMY_HEAD));
-		Texture bodyTexture = new Texture(
-				Gdx.files.internal(isPlayerType ? AssetPaths.SNAKE_BODY : AssetPaths.ENEMY_BODY));
+		ResourceManager resources = ResourceManager.getInstance();
+		Texture headTexture = resources.acquireTexture(isPlayerType ? AssetPaths.SNAKE_HEAD : AssetPaths.ENEMY_HEAD);
+		Texture bodyTexture = resources.acquireTexture(isPlayerType ? AssetPaths.SNAKE_BODY : AssetPaths.ENEMY_BODY);
 
 		// Random length between 5-15 segments
 		int length = MathUtils.random(5, 15);
@@ -194,7 +229,7 @@ public class HealthSnakeMenuScene extends Scene {
 		boolean isHealthy = MathUtils.randomBoolean(0.7f); // 70% chance for healthy food
 
 		String texturePath = FoodEntityFactory.getRandomTexturePath(isHealthy);
-		Texture foodTexture = new Texture(texturePath);
+		Texture foodTexture = ResourceManager.getInstance().acquireTexture(texturePath);
 		float size = isHealthy ? 20f : 30f;
 
 		MenuFood food = new MenuFood(x, y, foodTexture, size);
@@ -233,9 +268,11 @@ public class HealthSnakeMenuScene extends Scene {
 		if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.UP)) {
 			selectedItem = (selectedItem - 1 + menuItems.length) % menuItems.length;
 			ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+			menuLayer.invalidate();
 		} else if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.DOWN)) {
 			selectedItem = (selectedItem + 1) % menuItems.length;
 			ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+			menuLayer.invalidate();
 		}
 
 		// Menu selection
@@ -563,38 +600,49 @@ public class HealthSnakeMenuScene extends Scene {
 			// Draw "Press any key to return" text
 			font.draw(batch, "Press any key to return", Gdx.graphics.getWidth() / 2 - 150, 80);
 		}else {
-			// Draw title
-			if (titleTexture != null) {
-				batch.draw(titleTexture, (Gdx.graphics.getWidth() - titleTexture.getWidth()) / 2,
-						Gdx.graphics.getHeight() - titleTexture.getHeight() - 20);
-			}
+			menuLayer.render(batch);
 
-			// Draw menu items
-			float menuY = Gdx.graphics.getHeight() / 2 + 50;
-			float menuSpacing = 60;
-
-			for (int i = 0; i < menuItems.length; i++) {
-				// Highlight selected item
-				if (i == selectedItem) {
-					// Pulsing effect for selected item
-					float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
-					font.setColor(1f, pulse, pulse, 1f);
-					font.draw(batch, "> " + menuItems[i] + " <", Gdx.graphics.getWidth() / 2 - 150,
-							menuY - i * menuSpacing);
-					font.setColor(Color.WHITE); // Reset color
-				} else {
-					font.draw(batch, menuItems[i], Gdx.graphics.getWidth() / 2 - 100, menuY - i * menuSpacing);
-				}
-			}
-
-			// Draw controls hint
+			// Only the pulsing selected item is drawn every frame
+			float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
 			font.getData().setScale(0.3f);
-			font.draw(batch, "Arrow Keys: Navigate | Enter: Select", Gdx.graphics.getWidth() / 2 - 225, 50);
+			font.setColor(1f, pulse, pulse, 1f);
+			font.draw(batch, selectedMenuItems[selectedItem], Gdx.graphics.getWidth() / 2 - 150,
+					getMenuItemY(selectedItem));
+			font.setColor(Color.WHITE); // Reset color
 		}
 
 		batch.end();
 	}
 
+	/**
+	 * Draw the title, unselected menu items and hint into the cached layer
+	 */
+	private void drawMenuLayer(SpriteBatch batch, int width, int height) {
+		// Draw title
+		if (titleTexture != null) {
+			batch.draw(titleTexture, (width - titleTexture.getWidth()) / 2,
+					height - titleTexture.getHeight() - 20);
+		}
+
+		// Draw unselected menu items
+		font.getData().setScale(0.3f);
+		font.setColor(Color.WHITE);
+		for (int i = 0; i < menuItems.length; i++) {
+			if (i != selectedItem) {
+				font.draw(batch, menuItems[i], width / 2 - 100, getMenuItemY(i));
+			}
+		}
+
+		// Draw controls hint
+		font.draw(batch, "Arrow Keys: Navigate | Enter: Select", width / 2 - 225, 50);
+	}
+
+	private float getMenuItemY(int index) {
+		float menuY = Gdx.graphics.getHeight() / 2 + 50;
+		float menuSpacing = 60;
+		return menuY - index * menuSpacing;
+	}
+
 	private void applySnakeColorStyle(TextButton greenButton, TextButton brownButton, TextButton blueButton,
 			TextButton.TextButtonStyle selectedStyle, TextButton.TextButtonStyle defaultStyle) {
 		switch (GameConfig.getInstance().getSnakeColor()) {
@@ -638,13 +686,13 @@ public class HealthSnakeMenuScene extends Scene {
 	}
 
 	private void disposeBackgroundElements() {
-		// Dispose all snake textures
+		// Release all snake textures
 		for (MenuSnake snake : backgroundSnakes) {
 			snake.dispose();
 		}
 		backgroundSnakes.clear();
 
-		// Dispose all food textures
+		// Release all food textures
 		for (MenuFood food : backgroundFood) {
 			food.dispose();
 		}
@@ -653,24 +701,12 @@ public class HealthSnakeMenuScene extends Scene {
 
 	@Override
 	public void dispose() {
-		if (backgroundTexture != null) {
-			backgroundTexture.dispose();
-		}
-		if (titleTexture != null) {
-			titleTexture.dispose();
-		}
-		if (instructionsTexture != null) {
-			instructionsTexture.dispose();
+		if (menuLayer != null) {
+			menuLayer.dispose();
 		}
+		// Textures and skin belong to the ResourceManager and are released with the manifest
 		if (font != null) {
-			font.dispose();
-		}
-		// Dispose UI-related textures
-		if (soundSlider != null) {
-			soundSlider.dispose();
-		}
-		if (soundBar != null) {
-			soundBar.dispose();
+			ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
 		}
 
 		// Dispose the UI stage
@@ -774,10 +810,10 @@ public class HealthSnakeMenuScene extends Scene {
 
 		public void dispose() {
 			if (headTexture != null) {
-				headTexture.dispose();
+				ResourceManager.getInstance().release(headTexture);
 			}
 			if (bodyTexture != null) {
-				bodyTexture.dispose();
+				ResourceManager.getInstance().release(bodyTexture);
 			}
 
 		}
@@ -799,7 +835,7 @@ public class HealthSnakeMenuScene extends Scene {
 
 		public void dispose() {
 			if (texture != null) {
-				texture.dispose();
+				ResourceManager.getInstance().release(texture);
 			}
 		}
 	}
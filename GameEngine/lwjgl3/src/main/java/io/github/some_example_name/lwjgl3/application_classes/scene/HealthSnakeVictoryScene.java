@@ -5,12 +5,19 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleEmitter;
+import io.github.some_example_name.lwjgl3.abstract_engine.particle.ParticleSystem;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.CachedLayer;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
@@ -39,29 +46,22 @@ public class HealthSnakeVictoryScene extends Scene {
         "Exit Game"
     };
 
+    private String[] selectedMenuItems;
+
     private int selectedItem = 0;
     private float timeElapsed = 0;
 
-    // For firework particle effects
-    private float[] particleX;
-    private float[] particleY;
-    private float[] particleSpeedX;
-    private float[] particleSpeedY;
-    private float[] particleSize;
-    private float[] particleAlpha;
-    private float[] particleLifetime;
-    private Color[] particleColor;
-    private final int particleCount = 100;
-
-    // For floating healthy food icons
-    private float[] foodX;
-    private float[] foodY;
-    private float[] foodSpeedX;
-    private float[] foodSpeedY;
-    private float[] foodSize;
-    private float[] foodRotation;
-    private float[] foodRotationSpeed;
-    private final int foodCount = 20;
+    // Text and unselected menu items are cached until the selection changes
+    private CachedLayer textLayer;
+    private final GlyphLayout textLayout = new GlyphLayout();
+
+    // Floating healthy food icons and firework sparks share one pool
+    private static final int FOOD_COUNT = 20;
+    private static final int SPARK_COUNT = 100;
+    private final ParticleSystem particles = new ParticleSystem(FOOD_COUNT + SPARK_COUNT);
+    private ParticleEmitter floatingFood;
+    private ParticleEmitter fireworks;
+    private final Color burstColor = new Color();
 
     private String[] victoryMessages = {
         "Level Complete!",
@@ -101,31 +101,14 @@ public class HealthSnakeVictoryScene extends Scene {
         // Calculate calories burned based on snake length and activity level
         this.caloriesBurned = calculateCaloriesBurned(snakeLength, levelManager);
 
-        font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
 
-        // Initialize firework particles
-        particleX = new float[particleCount];
-        particleY = new float[particleCount];
-        particleSpeedX = new float[particleCount];
-        particleSpeedY = new float[particleCount];
-        particleSize = new float[particleCount];
-        particleAlpha = new float[particleCount];
-        particleLifetime = new float[particleCount];
-        particleColor = new Color[particleCount];
-
-        // Initialize floating food
-        foodX = new float[foodCount];
-        foodY = new float[foodCount];
-        foodSpeedX = new float[foodCount];
-        foodSpeedY = new float[foodCount];
-        foodSize = new float[foodCount];
-        foodRotation = new float[foodCount];
-        foodRotationSpeed = new float[foodCount];
-
-        initializeParticles();
-        initializeFood();
+        selectedMenuItems = new String[menuItems.length];
+        for (int i = 0; i < menuItems.length; i++) {
+            selectedMenuItems[i] = "> " + menuItems[i] + " <";
+        }
 
         // Select a random victory message
         victoryMessage = victoryMessages[MathUtils.random(victoryMessages.length - 1)];
@@ -140,55 +123,78 @@ public class HealthSnakeVictoryScene extends Scene {
         return Math.round(baseCalories * snakeLength * levelManager.getCurrentLevel());
     }
 
+    /**
+     * Set up the emitters and spawn the initial food and fireworks
+     */
     private void initializeParticles() {
-        for (int i = 0; i < particleCount; i++) {
-            resetParticle(i);
+        int foodRegion = particles.addRegion(new TextureRegion(healthyFoodTexture));
+
+        floatingFood = new ParticleEmitter()
+                .setRegions(foodRegion)
+                .setSpawnArea(Gdx.graphics.getWidth(), Gdx.graphics.getHeight())
+                .setSpeed(0f, 42f)
+                .setSize(20f, 40f)
+                .setRotation(0, 360)
+                .setRotationSpeed(-60f, 60f)
+                .setWrap(true);
+
+        // Using food texture as particle
+        fireworks = new ParticleEmitter()
+                .setRegions(foodRegion)
+                .setSpeed(50f, 150f)
+                .setSize(2f, 6f)
+                .setLife(0.5f, 2.0f)
+                .setGravity(50f)
+                .setFadeOut(true)
+                .setColorRange(new Color(0.5f, 0.5f, 0.5f, 1f), Color.WHITE);
+
+        // Food first so it stays at the front of the pool and is drawn under the sparks
+        particles.burst(floatingFood, Gdx.graphics.getWidth() / 2f, Gdx.graphics.getHeight() / 2f, FOOD_COUNT);
+
+        // Random vibrant colors, each spark from its own random centre
+        for (int i = 0; i < SPARK_COUNT; i++) {
+            particles.burst(fireworks, randomFireworkX(), randomFireworkY(), 1);
         }
     }
 
-    private void resetParticle(int i) {
-        float centerX = MathUtils.random(Gdx.graphics.getWidth() * 0.2f, Gdx.graphics.getWidth() * 0.8f);
-        float centerY = MathUtils.random(Gdx.graphics.getHeight() * 0.2f, Gdx.graphics.getHeight() * 0.8f);
-
-        float angle = MathUtils.random(MathUtils.PI2);
-        float speed = MathUtils.random(50f, 150f);
-
-        particleX[i] = centerX;
-        particleY[i] = centerY;
-        particleSpeedX[i] = MathUtils.cos(angle) * speed;
-        particleSpeedY[i] = MathUtils.sin(angle) * speed;
-        particleSize[i] = MathUtils.random(2f, 6f);
-        particleAlpha[i] = 1.0f;
-        particleLifetime[i] = MathUtils.random(0.5f, 2.0f);
-
-        // Random vibrant colors
-        particleColor[i] = new Color(
-            MathUtils.random(0.5f, 1.0f),
-            MathUtils.random(0.5f, 1.0f),
-            MathUtils.random(0.5f, 1.0f),
-            1.0f
-        );
+    private float randomFireworkX() {
+        return MathUtils.random(Gdx.graphics.getWidth() * 0.2f, Gdx.graphics.getWidth() * 0.8f);
     }
 
-    private void initializeFood() {
-        for (int i = 0; i < foodCount; i++) {
-            foodX[i] = MathUtils.random(0, Gdx.graphics.getWidth());
-            foodY[i] = MathUtils.random(0, Gdx.graphics.getHeight());
-            foodSpeedX[i] = MathUtils.random(-30f, 30f);
-            foodSpeedY[i] = MathUtils.random(-30f, 30f);
-            foodSize[i] = MathUtils.random(20f, 40f);
-            foodRotation[i] = MathUtils.random(0, 360);
-            foodRotationSpeed[i] = MathUtils.random(-60f, 60f);
-        }
+    private float randomFireworkY() {
+        return MathUtils.random(Gdx.graphics.getHeight() * 0.2f, Gdx.graphics.getHeight() * 0.8f);
+    }
+
+    @Override
+    protected void declareAssets(AssetManifest manifest) {
+        addRequiredAssets(manifest);
+    }
+
+    @Override
+    protected void declareLikelyNextAssets(AssetManifest manifest) {
+        HealthSnakeGameScene.addRequiredAssets(manifest);
+        HealthSnakeMenuScene.addRequiredAssets(manifest);
+    }
+
+    /**
+     * Add the assets this scene needs (also used by other scenes to prefetch it)
+     */
+    static void addRequiredAssets(AssetManifest manifest) {
+        manifest.add(AssetPaths.BACKGROUND, Texture.class)
+                .add(AssetPaths.VICTORY, Texture.class)
+                .add(AssetPaths.TROPHY, Texture.class)
+                .add(AssetPaths.HEALTHY_FOOD_BG, Texture.class);
     }
 
     @Override
     public void initialize() {
         try {
-            backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.BACKGROUND));
-            victoryTexture = new Texture(Gdx.files.internal(AssetPaths.VICTORY));
-            trophyTexture = new Texture(Gdx.files.internal(AssetPaths.VICTORY));
-            healthyFoodTexture = new Texture(Gdx.files.internal(AssetPaths.HEALTHY_FOOD_BG));
+            ResourceManager resources = ResourceManager.getInstance();
+            backgroundTexture = resources.getTexture(AssetPaths.BACKGROUND);
+            victoryTexture = resources.getTexture(AssetPaths.VICTORY);
+            trophyTexture = resources.getTexture(AssetPaths.TROPHY);
+            healthyFoodTexture = resources.getTexture(AssetPaths.HEALTHY_FOOD_BG);
+            initializeParticles();
 
             System.out.println("[HealthSnakeVictoryScene] Textures loaded successfully.");
         } catch (Exception e) {
@@ -196,22 +202,14 @@ public class HealthSnakeVictoryScene extends Scene {
             // Use placeholder handling if textures fail to load
         }
 
+        textLayer = new CachedLayer(this::drawTextLayer);
+
         // Play victory sound
         ioManager.getAudio().stopMusic();
         ioManager.getAudio().playSound(AssetPaths.VICTORY_M);
 
         // Start victory music after a delay
-        Gdx.app.postRunnable(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    Thread.sleep(1500); // Wait 1.5 seconds
-                    ioManager.getAudio().playMusic(AssetPaths.VICTORY_MUSIC);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        });
+        ioManager.getAudio().playMusic(AssetPaths.VICTORY_MUSIC, 1.5f);
     }
 
     @Override
@@ -219,68 +217,30 @@ public class HealthSnakeVictoryScene extends Scene {
         timeElapsed += deltaTime;
 
         // Trigger new fireworks occasionally
-        if (MathUtils.random() < 0.05f) {
-            float centerX = MathUtils.random(Gdx.graphics.getWidth() * 0.2f, Gdx.graphics.getWidth() * 0.8f);
-            float centerY = MathUtils.random(Gdx.graphics.getHeight() * 0.2f, Gdx.graphics.getHeight() * 0.8f);
-
-            // Create a burst of particles at this location
-            Color burstColor = new Color(
+        if (fireworks != null && MathUtils.random() < 0.05f) {
+            // Create a burst of particles at this location, reusing every free slot
+            burstColor.set(
                 MathUtils.random(0.5f, 1.0f),
                 MathUtils.random(0.5f, 1.0f),
                 MathUtils.random(0.5f, 1.0f),
                 1.0f
             );
-
-            for (int i = 0; i < particleCount; i++) {
-                if (particleAlpha[i] <= 0.1f) { // Reuse "dead" particles
-                    float angle = MathUtils.random(MathUtils.PI2);
-                    float speed = MathUtils.random(50f, 250f);
-
-                    particleX[i] = centerX;
-                    particleY[i] = centerY;
-                    particleSpeedX[i] = MathUtils.cos(angle) * speed;
-                    particleSpeedY[i] = MathUtils.sin(angle) * speed;
-                    particleSize[i] = MathUtils.random(2f, 6f);
-                    particleAlpha[i] = 1.0f;
-                    particleLifetime[i] = MathUtils.random(0.5f, 2.0f);
-                    particleColor[i] = burstColor;
-                }
-            }
+            fireworks.setColor(burstColor).setSpeed(50f, 250f);
+            particles.burst(fireworks, randomFireworkX(), randomFireworkY(), particles.getFreeCount());
         }
 
-        // Update particles
-        for (int i = 0; i < particleCount; i++) {
-            if (particleAlpha[i] > 0.1f) {
-                particleX[i] += particleSpeedX[i] * deltaTime;
-                particleY[i] += particleSpeedY[i] * deltaTime;
-                particleSpeedY[i] -= 50 * deltaTime; // Gravity effect
-
-                // Fade out based on lifetime
-                particleAlpha[i] -= deltaTime / particleLifetime[i];
-                if (particleAlpha[i] < 0) particleAlpha[i] = 0;
-            }
-        }
-
-        // Update floating food
-        for (int i = 0; i < foodCount; i++) {
-            foodX[i] += foodSpeedX[i] * deltaTime;
-            foodY[i] += foodSpeedY[i] * deltaTime;
-            foodRotation[i] += foodRotationSpeed[i] * deltaTime;
-
-            // Wrap around screen
-            if (foodX[i] < -foodSize[i]) foodX[i] = Gdx.graphics.getWidth() + foodSize[i];
-            if (foodX[i] > Gdx.graphics.getWidth() + foodSize[i]) foodX[i] = -foodSize[i];
-            if (foodY[i] < -foodSize[i]) foodY[i] = Gdx.graphics.getHeight() + foodSize[i];
-            if (foodY[i] > Gdx.graphics.getHeight() + foodSize[i]) foodY[i] = -foodSize[i];
-        }
+        // Update floating food and firework particles
+        particles.update(deltaTime);
 
         // Menu navigation
         if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.UP)) {
             selectedItem = (selectedItem - 1 + menuItems.length) % menuItems.length;
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+            textLayer.invalidate();
         } else if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.DOWN)) {
             selectedItem = (selectedItem + 1) % menuItems.length;
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+            textLayer.invalidate();
         }
 
         // Menu selection
@@ -363,15 +323,15 @@ public class HealthSnakeVictoryScene extends Scene {
         }
     }
 
-    private void drawCenteredText(SpriteBatch batch, String text, float y, float width, float scale, Color color) {
+    private void drawCenteredText(SpriteBatch batch, String text, float y, float scale, Color color) {
         font.getData().setScale(scale);
         font.setColor(color);
-        
-        // Calculate the width of the text for centering
-        float textWidth = font.draw(batch, text, 0, 0).width;
-        
+
+        // Measure with a reused layout instead of drawing the text off-screen
+        textLayout.setText(font, text);
+
         // Draw centered text
-        font.draw(batch, text, (Gdx.graphics.getWidth() - textWidth) / 2f, y);
+        font.draw(batch, textLayout, (Gdx.graphics.getWidth() - textLayout.width) / 2f, y);
     }
 
     @Override
@@ -385,44 +345,8 @@ public class HealthSnakeVictoryScene extends Scene {
             batch.setColor(Color.WHITE);
         }
 
-        // Draw floating food
-        if (healthyFoodTexture != null) {
-            for (int i = 0; i < foodCount; i++) {
-                batch.draw(
-                    healthyFoodTexture,
-                    foodX[i] - foodSize[i]/2,
-                    foodY[i] - foodSize[i]/2,
-                    foodSize[i]/2, // origin x
-                    foodSize[i]/2, // origin y
-                    foodSize[i],
-                    foodSize[i],
-                    1, 1, // scale
-                    foodRotation[i],
-                    0, 0, // src xy
-                    healthyFoodTexture.getWidth(),
-                    healthyFoodTexture.getHeight(),
-                    false, false // flip xy
-                );
-            }
-        }
-
-        // Draw firework particles
-        for (int i = 0; i < particleCount; i++) {
-            if (particleAlpha[i] > 0.1f) {
-                Color color = particleColor[i].cpy();
-                color.a = particleAlpha[i];
-                batch.setColor(color);
-
-                batch.draw(
-                    healthyFoodTexture,  // Using food texture as particle
-                    particleX[i] - particleSize[i]/2,
-                    particleY[i] - particleSize[i]/2,
-                    particleSize[i],
-                    particleSize[i]
-                );
-            }
-        }
-        batch.setColor(Color.WHITE);
+        // Draw floating food and firework particles
+        particles.render(batch);
 
         // Draw victory text with animation
         if (victoryTexture != null) {
@@ -458,149 +382,93 @@ public class HealthSnakeVictoryScene extends Scene {
             );
         }
 
+        textLayer.render(batch);
+
+        // Only the pulsing selected item is drawn every frame
+        float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
+        font.getData().setScale(0.3f);
+        font.setColor(1f, pulse, 0.2f, 1f);
+        font.draw(batch, selectedMenuItems[selectedItem],
+                Gdx.graphics.getWidth() / 2 - 150,
+                getMenuItemY(selectedItem));
+        font.setColor(Color.WHITE); // Reset color
+
+        batch.end();
+    }
+
+    /**
+     * Draw the static text and unselected menu items into the cached layer
+     */
+    private void drawTextLayer(SpriteBatch batch, int width, int height) {
+        Color gold = new Color(1f, 0.8f, 0.2f, 1f);
+
         // Draw level completion message
-        font.getData().setScale(0.4f);
-        font.setColor(1f, 0.8f, 0.2f, 1f);
-        String completionText = "Level " + level + " Complete!";
-        float messageWidth = font.draw(batch, completionText, 0, 0).width * 0.4f;
-        font.draw(
-            batch,
-            completionText,
-            (Gdx.graphics.getWidth() - messageWidth) / 2,
-            Gdx.graphics.getHeight() - 150
-        );
-        
+        drawCenteredText(batch, "Level " + level + " Complete!", height - 150, 0.4f, gold);
+
         // Draw victory message
-        font.getData().setScale(0.3f);
-        font.setColor(1f, 0.8f, 0.2f, 1f);
-        messageWidth = font.draw(batch, victoryMessage, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            victoryMessage,
-            (Gdx.graphics.getWidth() - messageWidth) / 2,
-            Gdx.graphics.getHeight() - 190
-        );
+        drawCenteredText(batch, victoryMessage, height - 190, 0.3f, gold);
 
         // Draw statistics
-        float statsY = Gdx.graphics.getHeight() / 2;
-        
+        float statsY = height / 2;
+
         // Healthy food stats (green)
-        font.setColor(0.3f, 0.9f, 0.3f, 1f);
-        String healthyText = "Healthy Food: " + healthyCount + " items (" + healthyCalories + " kcal)";
-        float healthyWidth = font.draw(batch, healthyText, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            healthyText,
-            (Gdx.graphics.getWidth() - healthyWidth) / 2,
-            statsY
-        );
-        
+        drawCenteredText(batch, "Healthy Food: " + healthyCount + " items (" + healthyCalories + " kcal)",
+                statsY, 0.3f, new Color(0.3f, 0.9f, 0.3f, 1f));
+
         // Unhealthy food stats (red)
-        font.setColor(0.9f, 0.3f, 0.3f, 1f);
-        String unhealthyText = "Unhealthy Food: " + unhealthyCount + " items (" + unhealthyCalories + " kcal)";
-        float unhealthyWidth = font.draw(batch, unhealthyText, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            unhealthyText,
-            (Gdx.graphics.getWidth() - unhealthyWidth) / 2,
-            statsY - 40
-        );
-        
+        drawCenteredText(batch, "Unhealthy Food: " + unhealthyCount + " items (" + unhealthyCalories + " kcal)",
+                statsY - 40, 0.3f, new Color(0.9f, 0.3f, 0.3f, 1f));
+
         // Total calories
-        font.setColor(1f, 1f, 1f, 1f);
-        String totalText = "Total: " + (healthyCalories + unhealthyCalories) + " kcal consumed";
-        float totalWidth = font.draw(batch, totalText, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            totalText,
-            (Gdx.graphics.getWidth() - totalWidth) / 2,
-            statsY - 80
-        );
-        
+        drawCenteredText(batch, "Total: " + (healthyCalories + unhealthyCalories) + " kcal consumed",
+                statsY - 80, 0.3f, Color.WHITE);
+
         // Calories burned
-        String burnedText = "Calories Burned: " + caloriesBurned + " kcal";
-        float burnedWidth = font.draw(batch, burnedText, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            burnedText,
-            (Gdx.graphics.getWidth() - burnedWidth) / 2,
-            statsY - 120
-        );
-
-        String lengthText = "Snake Length: " + snakeLength;
-        float lengthWidth = font.draw(batch, lengthText, 0, 0).width * 0.3f;
-        font.draw(
-            batch,
-            lengthText,
-            (Gdx.graphics.getWidth() - lengthWidth) / 2,
-            statsY - 160
-        );
-        
+        drawCenteredText(batch, "Calories Burned: " + caloriesBurned + " kcal",
+                statsY - 120, 0.3f, Color.WHITE);
+
+        drawCenteredText(batch, "Snake Length: " + snakeLength,
+                statsY - 160, 0.3f, Color.WHITE);
+
         // Draw educational fact
-        font.setColor(0.9f, 0.9f, 1.0f, 1.0f);
-        font.getData().setScale(0.25f);
-        String factHeader = "Health Fact:";
+        Color factColor = new Color(0.9f, 0.9f, 1.0f, 1.0f);
         float factY = statsY - 200;
         float contentWidth = 500;
 
         // Draw centered header
-        drawCenteredText(batch, factHeader, factY, contentWidth, 0.25f, new Color(0.9f, 0.9f, 1.0f, 1.0f));
+        drawCenteredText(batch, "Health Fact:", factY, 0.25f, factColor);
 
         // For wrapped text, we'll use a special method to center the block
         float factTextY = factY - 20;
-        float factX = (Gdx.graphics.getWidth() - contentWidth) / 2f;
+        float factX = (width - contentWidth) / 2f;
         font.draw(batch, educationalFact, factX, factTextY, contentWidth, -1, true);
-        
-        // Reset font color
-        font.setColor(Color.WHITE);
 
-        // Draw menu items
+        // Draw unselected menu items
+        font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
-        float menuY = statsY - 290;
-        float menuSpacing = 50;
-
         for (int i = 0; i < menuItems.length; i++) {
-            // Highlight selected item
-            if (i == selectedItem) {
-                // Pulsing effect for selected item
-                float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
-                font.setColor(1f, pulse, 0.2f, 1f);
-                font.draw(batch, "> " + menuItems[i] + " <",
-                        Gdx.graphics.getWidth() / 2 - 150,
-                        menuY - i * menuSpacing);
-                font.setColor(Color.WHITE); // Reset color
-            } else {
-                font.draw(batch, menuItems[i],
-                        Gdx.graphics.getWidth() / 2 - 100,
-                        menuY - i * menuSpacing);
+            if (i != selectedItem) {
+                font.draw(batch, menuItems[i], width / 2 - 100, getMenuItemY(i));
             }
         }
 
         // Draw controls hint
-        font.getData().setScale(0.3f);
-        font.draw(batch, "Arrow Keys: Navigate | Enter: Select",
-                Gdx.graphics.getWidth() / 2 - 225,
-                50);
+        font.draw(batch, "Arrow Keys: Navigate | Enter: Select", width / 2 - 225, 50);
+    }
 
-        batch.end();
+    private float getMenuItemY(int index) {
+        float menuY = Gdx.graphics.getHeight() / 2 - 290;
+        float menuSpacing = 50;
+        return menuY - index * menuSpacing;
     }
 
     @Override
     public void dispose() {
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
-        if (victoryTexture != null) {
-            victoryTexture.dispose();
-        }
-        if (trophyTexture != null) {
-            trophyTexture.dispose();
-        }
-        if (healthyFoodTexture != null) {
-            healthyFoodTexture.dispose();
+        if (textLayer != null) {
+            textLayer.dispose();
         }
         if (font != null) {
-            font.dispose();
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
     }
 }
\ No newline at end of file
@@ -8,8 +8,11 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.scene.CachedLayer;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.SceneManager;
@@ -32,9 +35,14 @@ public class SnakePauseScene extends Scene {
         "Exit Game"
     };
 
+    private String[] selectedMenuItems;
+
     private int selectedItem = 0;
     private float timeElapsed = 0;
 
+    // Background, title, hint and unselected items only change with the selection
+    private CachedLayer staticLayer;
+
     public SnakePauseScene(SpriteBatch batch, SceneManager sceneManager,
                          EntityManager entityManager, MovementManager movementManager, IOManager ioManager) {
         this.batch = batch;
@@ -43,9 +51,32 @@ public class SnakePauseScene extends Scene {
         this.movementManager = movementManager;
         this.ioManager = ioManager;
 
-        font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+        font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
         font.setColor(Color.WHITE);
         font.getData().setScale(0.3f);
+
+        selectedMenuItems = new String[menuItems.length];
+        for (int i = 0; i < menuItems.length; i++) {
+            selectedMenuItems[i] = "> " + menuItems[i] + " <";
+        }
+    }
+
+    @Override
+    protected void declareAssets(AssetManifest manifest) {
+        addRequiredAssets(manifest);
+    }
+
+    @Override
+    protected void declareLikelyNextAssets(AssetManifest manifest) {
+        SnakeSettingScene.addRequiredAssets(manifest);
+        HealthSnakeMenuScene.addRequiredAssets(manifest);
+    }
+
+    /**
+     * Add the assets this scene needs (also used by other scenes to prefetch it)
+     */
+    static void addRequiredAssets(AssetManifest manifest) {
+        manifest.add(AssetPaths.PAUSE_MENU, Texture.class);
     }
 
     @Override
@@ -53,13 +84,15 @@ public class SnakePauseScene extends Scene {
         System.out.println("[SnakePauseScene] Initializing...");
 
         try {
-            pauseBackground = new Texture(Gdx.files.internal(AssetPaths.PAUSE_MENU));
+            pauseBackground = ResourceManager.getInstance().getTexture(AssetPaths.PAUSE_MENU);
             System.out.println("[SnakePauseScene] Pause menu loaded.");
         } catch (Exception e) {
             System.err.println("[SnakePauseScene] Error loading background: " + e.getMessage());
             // Create a default semi-transparent black texture
         }
 
+        staticLayer = new CachedLayer(this::drawStaticLayer);
+
         // Play pause sound
         ioManager.getAudio().playSound(AssetPaths.PAUSE_SOUND);
     }
@@ -72,9 +105,11 @@ public class SnakePauseScene extends Scene {
         if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.UP)) {
             selectedItem = (selectedItem - 1 + menuItems.length) % menuItems.length;
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+            staticLayer.invalidate();
         } else if (ioManager.getDynamicInput().isKeyJustPressed(Input.Keys.DOWN)) {
             selectedItem = (selectedItem + 1) % menuItems.length;
             ioManager.getAudio().playSound(AssetPaths.MENU_MOVE);
+            staticLayer.invalidate();
         }
 
         // Escape key resumes game (same as selecting "Resume Game")
@@ -164,56 +199,58 @@ public class SnakePauseScene extends Scene {
     public void render(SpriteBatch batch) {
         batch.begin();
 
+        staticLayer.render(batch);
+
+        // Only the pulsing selected item is drawn every frame
+        float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
+        font.getData().setScale(0.3f);
+        font.setColor(1f, pulse, pulse, 1f);
+        font.draw(batch, selectedMenuItems[selectedItem],
+                Gdx.graphics.getWidth() / 2 - 150,
+                getMenuItemY(selectedItem));
+        font.setColor(Color.WHITE); // Reset color
+
+        batch.end();
+    }
+
+    /**
+     * Draw everything except the selected menu item into the cached layer
+     */
+    private void drawStaticLayer(SpriteBatch batch, int width, int height) {
         // Draw semi-transparent overlay if no background texture
         if (pauseBackground != null) {
-            batch.draw(pauseBackground, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            batch.draw(pauseBackground, 0, 0, width, height);
         }
 
         // Draw pause title
         font.getData().setScale(0.3f);
         font.setColor(1, 1, 1, 1);
-        font.draw(batch, "GAME PAUSED",
-                Gdx.graphics.getWidth() / 2 - 120,
-                Gdx.graphics.getHeight() - 100);
-
-        // Draw menu items
-        font.getData().setScale(0.3f);
-        float menuY = Gdx.graphics.getHeight() / 2 + 50;
-        float menuSpacing = 50;
+        font.draw(batch, "GAME PAUSED", width / 2 - 120, height - 100);
 
+        // Draw unselected menu items
         for (int i = 0; i < menuItems.length; i++) {
-            // Highlight selected item
-            if (i == selectedItem) {
-                // Pulsing effect for selected item
-                float pulse = (float) Math.sin(timeElapsed * 5) * 0.2f + 0.8f;
-                font.setColor(1f, pulse, pulse, 1f);
-                font.draw(batch, "> " + menuItems[i] + " <",
-                        Gdx.graphics.getWidth() / 2 - 150,
-                        menuY - i * menuSpacing);
-                font.setColor(Color.WHITE); // Reset color
-            } else {
-                font.draw(batch, menuItems[i],
-                        Gdx.graphics.getWidth() / 2 - 100,
-                        menuY - i * menuSpacing);
+            if (i != selectedItem) {
+                font.draw(batch, menuItems[i], width / 2 - 100, getMenuItemY(i));
             }
         }
 
         // Draw controls hint
-        font.getData().setScale(0.3f);
-        font.draw(batch, "Arrow Keys: Navigate | Enter: Select | Esc: Resume",
-                Gdx.graphics.getWidth() / 2 - 310,
-                50);
+        font.draw(batch, "Arrow Keys: Navigate | Enter: Select | Esc: Resume", width / 2 - 310, 50);
+    }
 
-        batch.end();
+    private float getMenuItemY(int index) {
+        float menuY = Gdx.graphics.getHeight() / 2 + 50;
+        float menuSpacing = 50;
+        return menuY - index * menuSpacing;
     }
 
     @Override
     public void dispose() {
-        if (pauseBackground != null) {
-            pauseBackground.dispose();
+        if (staticLayer != null) {
+            staticLayer.dispose();
         }
         if (font != null) {
-            font.dispose();
+            ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
         }
         System.out.println("[SnakePauseScene] Resources disposed.");
     }
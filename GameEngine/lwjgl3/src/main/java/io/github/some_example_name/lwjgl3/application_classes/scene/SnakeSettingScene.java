@@ -24,7 +24,9 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import io.github.some_example_name.lwjgl3.abstract_engine.entity.EntityManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.AssetManifest;
 import io.github.some_example_name.lwjgl3.abstract_engine.io.IOManager;
+import io.github.some_example_name.lwjgl3.abstract_engine.io.ResourceManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.movement.MovementManager;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.GameState;
 import io.github.some_example_name.lwjgl3.abstract_engine.scene.Scene;
@@ -57,19 +59,34 @@ public class SnakeSettingScene extends Scene {
 		this.movementManager = movementManager;
 		this.ioManager = ioManager;
 
-		font = new BitmapFont(Gdx.files.internal(AssetPaths.GAME_FONT));
+		font = ResourceManager.getInstance().acquireFont(AssetPaths.GAME_FONT);
 		font.setColor(Color.WHITE);
 		font.getData().setScale(0.3f);
 	}
 
+	@Override
+	protected void declareAssets(AssetManifest manifest) {
+		addRequiredAssets(manifest);
+	}
+
+	/**
+	 * Add the assets this scene needs (also used by other scenes to prefetch it)
+	 */
+	static void addRequiredAssets(AssetManifest manifest) {
+		manifest.add(AssetPaths.SOUND_SLIDER, Texture.class)
+				.add(AssetPaths.SOUND_BAR, Texture.class)
+				.add(AssetPaths.UI_SKIN, Skin.class);
+	}
+
 	@Override
 	public void initialize() {
 		System.out.println("[SnakeSettingScene] Initializing...");
 
 		try {
-			soundSliderTexture = new Texture(Gdx.files.internal(AssetPaths.SOUND_SLIDER));
-			soundBarTexture = new Texture(Gdx.files.internal(AssetPaths.SOUND_BAR));
-			skin = new Skin(Gdx.files.internal(AssetPaths.UI_SKIN));
+			ResourceManager resources = ResourceManager.getInstance();
+			soundSliderTexture = resources.getTexture(AssetPaths.SOUND_SLIDER);
+			soundBarTexture = resources.getTexture(AssetPaths.SOUND_BAR);
+			skin = resources.get(AssetPaths.UI_SKIN, Skin.class);
 			
 			//Retrieve the snake color from GameConfig
 			snakeColor = GameConfig.getInstance().getSnakeColor();
@@ -333,20 +350,14 @@ public class SnakeSettingScene extends Scene {
 
 	@Override
 	public void dispose() {
-		// Dispose UI-related textures
-		if (soundSliderTexture != null) {
-			soundSliderTexture.dispose();
-		}
-		if (soundBarTexture != null) {
-			soundBarTexture.dispose();
-		}
+		// Textures and skin belong to the ResourceManager and are released with the manifest
 
 		// Dispose the UI stage
 		if (stage != null)
 			stage.dispose();
 
 		if (font != null) {
-			font.dispose();
+			ResourceManager.getInstance().release(AssetPaths.GAME_FONT);
 		}
 		System.out.println("[SnakeSettingScene] Resources disposed.");
 	}